@@ -0,0 +1,15 @@
+package com.nipun.legalscale.core.counter;
+
+/**
+ * A family of dashboard tallies. Each scope holds one counter per key, e.g.
+ * CASE_STATUS holds one counter per case status name.
+ */
+public enum CounterScope {
+    CASE_STATUS,
+    CASE_TYPE,
+    /** Keyed by the assigned officer's full name */
+    CASE_OFFICER,
+    AGREEMENT_STATUS,
+    USER_ROLE,
+    USER_APPROVER_LEVEL
+}
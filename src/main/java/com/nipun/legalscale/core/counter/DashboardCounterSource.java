@@ -0,0 +1,17 @@
+package com.nipun.legalscale.core.counter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Recomputes counters from the tables they summarise. Implemented by the
+ * feature that owns the data; used to reconcile the maintained counters and
+ * to answer reads directly when counters are unavailable.
+ */
+public interface DashboardCounterSource {
+
+    Set<CounterScope> scopes();
+
+    /** Current totals per key for one of {@link #scopes()}; zero totals may be omitted */
+    Map<String, Long> recount(CounterScope scope);
+}
@@ -0,0 +1,252 @@
+package com.nipun.legalscale.core.counter;
+
+import com.nipun.legalscale.core.schema.PostgresSchemaContributor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Materialized dashboard tallies in {@code dashboard_counters}, one row per
+ * (scope, key). Services report each change that moves a tally; the deltas
+ * are applied in the same transaction, so a committed write and its counters
+ * never disagree, and dashboard reads are a primary-key lookup that never
+ * touches the tables being counted.
+ *
+ * A scheduled reconciliation recomputes every scope from its
+ * {@link DashboardCounterSource} and corrects any drift, e.g. from writes
+ * that bypass the services. It also seeds the table on first start.
+ *
+ * The upserts need PostgreSQL; on other databases counters are disabled and
+ * reads fall through to the sources.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCounters implements PostgresSchemaContributor {
+
+    private static final String INCREMENT = """
+            INSERT INTO dashboard_counters (scope, counter_key, counter_value, updated_at)
+            VALUES (?, ?, ?, now())
+            ON CONFLICT (scope, counter_key) DO UPDATE
+            SET counter_value = dashboard_counters.counter_value + EXCLUDED.counter_value,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String OVERWRITE = """
+            INSERT INTO dashboard_counters (scope, counter_key, counter_value, updated_at)
+            VALUES (?, ?, ?, now())
+            ON CONFLICT (scope, counter_key) DO UPDATE
+            SET counter_value = EXCLUDED.counter_value, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final List<DashboardCounterSource> sources;
+
+    private volatile boolean enabled;
+
+    @Override
+    public String description() {
+        return "Dashboard counters";
+    }
+
+    @Override
+    public List<String> statements() {
+        return List.of("CREATE TABLE IF NOT EXISTS dashboard_counters ("
+                + "scope VARCHAR(50) NOT NULL, "
+                + "counter_key VARCHAR(255) NOT NULL, "
+                + "counter_value BIGINT NOT NULL, "
+                + "updated_at TIMESTAMP NOT NULL, "
+                + "PRIMARY KEY (scope, counter_key))");
+    }
+
+    @Override
+    public void schemaReady() {
+        // Writes from here on are counted; the reconcile below covers everything before
+        enabled = true;
+        reconcile();
+    }
+
+    /**
+     * Current totals for a scope. Keys whose total is zero are left out.
+     */
+    public Map<String, Long> read(CounterScope scope) {
+        if (!enabled) {
+            return sourceFor(scope).recount(scope);
+        }
+        Map<String, Long> totals = new HashMap<>();
+        jdbcTemplate.query("SELECT counter_key, counter_value FROM dashboard_counters "
+                + "WHERE scope = ? AND counter_value <> 0",
+                rs -> {
+                    totals.put(rs.getString("counter_key"), rs.getLong("counter_value"));
+                },
+                scope.name());
+        return totals;
+    }
+
+    // ─── Incremental updates
+    // ──────────────────────────────────────────────────────
+
+    public void increment(CounterScope scope, String key) {
+        add(scope, key, 1);
+    }
+
+    public void decrement(CounterScope scope, String key) {
+        add(scope, key, -1);
+    }
+
+    /**
+     * One item leaving {@code from} for {@code to}; either may be null for an
+     * item that had or gets no key (e.g. an unassigned case).
+     */
+    public void move(CounterScope scope, String from, String to) {
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        add(scope, from, -1);
+        add(scope, to, 1);
+    }
+
+    private void add(CounterScope scope, String key, long delta) {
+        if (key == null) {
+            return;
+        }
+        pending().computeIfAbsent(scope, s -> new TreeMap<>()).merge(key, delta, Long::sum);
+    }
+
+    /**
+     * Deltas are collected per transaction and applied just before commit, so
+     * the counter rows are locked only for the commit itself. Outside a
+     * transaction (or with counters disabled) there is nothing to keep
+     * consistent with, so deltas are dropped and left to reconciliation.
+     */
+    private Map<CounterScope, Map<String, Long>> pending() {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new EnumMap<>(CounterScope.class);
+        }
+        @SuppressWarnings("unchecked")
+        Map<CounterScope, Map<String, Long>> deltas =
+                (Map<CounterScope, Map<String, Long>>) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Map<CounterScope, Map<String, Long>> created = new EnumMap<>(CounterScope.class);
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    apply(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DashboardCounters.this);
+                }
+            });
+            deltas = created;
+        }
+        return deltas;
+    }
+
+    /*
+     * Rows are visited in (scope, key) order, so two transactions touching the
+     * same counters always lock them in the same order and cannot deadlock.
+     */
+    private void apply(Map<CounterScope, Map<String, Long>> deltas) {
+        List<Object[]> rows = new ArrayList<>();
+        deltas.forEach((scope, byKey) -> byKey.forEach((key, delta) -> {
+            if (delta != 0) {
+                rows.add(new Object[] { scope.name(), key, delta });
+            }
+        }));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT, rows);
+        }
+        deltas.clear();
+    }
+
+    // ─── Reconciliation
+    // ───────────────────────────────────────────────────────────
+
+    /**
+     * Recomputes every scope and overwrites counters that drifted. Runs in a
+     * REPEATABLE READ transaction, so the recount and the stored counters are
+     * read from the same snapshot; if a write commits to a counter in the
+     * meantime the correction fails on a serialization error instead of
+     * clobbering it, and the next run tries again.
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.counters.reconcile-interval:PT15M}",
+            initialDelayString = "${app.dashboard.counters.reconcile-interval:PT15M}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        try {
+            Integer corrected = template.execute(status -> correctDrift());
+            if (corrected != null && corrected > 0) {
+                log.info("Dashboard counters reconciled: {} counters corrected", corrected);
+            }
+        } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+            log.info("Dashboard counter reconciliation raced a concurrent write, retrying next run: {}",
+                    e.getMessage());
+        }
+    }
+
+    private int correctDrift() {
+        Map<CounterScope, Map<String, Long>> stored = new EnumMap<>(CounterScope.class);
+        jdbcTemplate.query("SELECT scope, counter_key, counter_value FROM dashboard_counters", rs -> {
+            stored.computeIfAbsent(CounterScope.valueOf(rs.getString("scope")), s -> new HashMap<>())
+                    .put(rs.getString("counter_key"), rs.getLong("counter_value"));
+        });
+
+        // Keyed like the pending deltas, so corrections lock rows in the same (scope, key) order as apply()
+        Map<CounterScope, Map<String, Long>> corrections = new EnumMap<>(CounterScope.class);
+        for (DashboardCounterSource source : sources) {
+            for (CounterScope scope : source.scopes()) {
+                Map<String, Long> expected = source.recount(scope);
+                Map<String, Long> actual = stored.getOrDefault(scope, Map.of());
+                Set<String> keys = new HashSet<>(expected.keySet());
+                keys.addAll(actual.keySet());
+                for (String key : keys) {
+                    long value = expected.getOrDefault(key, 0L);
+                    if (value != actual.getOrDefault(key, 0L) || !actual.containsKey(key)) {
+                        corrections.computeIfAbsent(scope, s -> new TreeMap<>()).put(key, value);
+                    }
+                }
+            }
+        }
+        List<Object[]> rows = new ArrayList<>();
+        corrections.forEach((scope, byKey) -> byKey.forEach((key, value) ->
+                rows.add(new Object[] { scope.name(), key, value })));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(OVERWRITE, rows);
+        }
+        return rows.size();
+    }
+
+    private DashboardCounterSource sourceFor(CounterScope scope) {
+        return sources.stream()
+                .filter(source -> source.scopes().contains(scope))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No counter source for " + scope));
+    }
+}
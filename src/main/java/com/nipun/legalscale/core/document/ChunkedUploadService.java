@@ -0,0 +1,27 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.dto.DocumentResponse;
+import com.nipun.legalscale.core.document.dto.InitiateUploadRequest;
+import com.nipun.legalscale.core.document.dto.UploadPartResponse;
+import com.nipun.legalscale.core.document.dto.UploadSessionResponse;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Resumable uploads for large documents. The client opens a session, sends
+ * the file as numbered parts (in any order, retrying any that fail) and then
+ * completes the session to get a regular {@link DocumentResponse} back.
+ */
+public interface ChunkedUploadService {
+
+    UploadSessionResponse initiate(InitiateUploadRequest request);
+
+    UploadPartResponse uploadPart(UUID sessionId, int partNumber, InputStream content, long contentLength);
+
+    UploadSessionResponse getSession(UUID sessionId);
+
+    DocumentResponse complete(UUID sessionId);
+
+    void abort(UUID sessionId);
+}
@@ -0,0 +1,215 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.dto.DocumentResponse;
+import com.nipun.legalscale.core.document.dto.InitiateUploadRequest;
+import com.nipun.legalscale.core.document.dto.UploadPartResponse;
+import com.nipun.legalscale.core.document.dto.UploadSessionResponse;
+import com.nipun.legalscale.core.document.entity.Document;
+import com.nipun.legalscale.core.document.entity.UploadSession;
+import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.document.repository.UploadSessionRepository;
+import com.nipun.legalscale.core.document.storage.DocumentStorage;
+import com.nipun.legalscale.core.document.storage.StoredPart;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadServiceImpl implements ChunkedUploadService {
+
+    /* Limits of S3 multipart uploads, applied to every backend so clients see one contract */
+    private static final int MAX_PART_NUMBER = 10_000;
+    private static final long MAX_PART_BYTES = DataSize.ofGigabytes(5).toBytes();
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final DocumentRepository documentRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final DocumentStorage storage;
+
+    @Value("${app.document.multipart.part-size:8MB}")
+    private DataSize partSize;
+
+    /* How long a session may go without a new part before the sweep aborts it */
+    @Value("${app.document.upload-session.ttl:PT24H}")
+    private Duration sessionTtl;
+
+    // ─── Helpers
+    // ──────────────────────────────────────────────────────────────────
+
+    /** Sessions are private to the user who opened them. */
+    private UploadSession findOwnSession(UUID sessionId) {
+        UploadSession session = uploadSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload session not found with id: " + sessionId));
+        UserEntity current = currentUserProvider.getCurrentUser();
+        if (!session.getUploadedByUserId().equals(current.getId())) {
+            throw new AccessDeniedException("This upload session belongs to another user");
+        }
+        if (isExpired(session, LocalDateTime.now())) {
+            throw new IllegalStateException("Upload session has expired; start a new one");
+        }
+        return session;
+    }
+
+    private boolean isExpired(UploadSession session, LocalDateTime now) {
+        LocalDateTime expiresAt = session.getExpiresAt() != null ? session.getExpiresAt()
+                : session.getCreatedAt().plus(sessionTtl);
+        return expiresAt.isBefore(now);
+    }
+
+    private List<StoredPart> listParts(UploadSession session) {
+        return storage.listParts(session.getObjectKey(), session.getStorageUploadId());
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session, List<StoredPart> parts) {
+        List<UploadPartResponse> uploaded = parts.stream()
+                .map(p -> new UploadPartResponse(p.partNumber(), p.eTag(), p.size()))
+                .toList();
+        return new UploadSessionResponse(
+                session.getId(),
+                session.getFileName(),
+                session.getFileType(),
+                partSize.toBytes(),
+                session.getCreatedAt(),
+                session.getExpiresAt(),
+                uploaded);
+    }
+
+    // ─── Session lifecycle
+    // ────────────────────────────────────────────────────────
+
+    @Override
+    public UploadSessionResponse initiate(InitiateUploadRequest request) {
+        UserEntity uploader = currentUserProvider.getCurrentUser();
+        String originalFileName = StoredObjects.originalName(request.fileName());
+        String fileType = StoredObjects.contentType(request.contentType());
+        String objectKey = StoredObjects.keyFor(originalFileName);
+
+        String uploadId = storage.createMultipart(objectKey, fileType);
+
+        UploadSession session = UploadSession.builder()
+                .storageUploadId(uploadId)
+                .objectKey(objectKey)
+                .fileName(originalFileName)
+                .fileType(fileType)
+                .uploadedByUserId(uploader.getId())
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plus(sessionTtl))
+                .build();
+        return toResponse(uploadSessionRepository.save(session), List.of());
+    }
+
+    /**
+     * The request body is handed to storage as a stream of known length, so a
+     * part is forwarded as it arrives instead of being buffered here.
+     */
+    @Override
+    public UploadPartResponse uploadPart(UUID sessionId, int partNumber, InputStream content, long contentLength) {
+        if (partNumber < 1 || partNumber > MAX_PART_NUMBER) {
+            throw new IllegalArgumentException("Part number must be between 1 and " + MAX_PART_NUMBER);
+        }
+        if (contentLength <= 0 || contentLength > MAX_PART_BYTES) {
+            throw new IllegalArgumentException("Each part needs a Content-Length between 1 byte and 5 GB");
+        }
+        UploadSession session = findOwnSession(sessionId);
+
+        String eTag = storage.uploadPart(session.getObjectKey(), session.getStorageUploadId(), partNumber, content,
+                contentLength);
+        uploadSessionRepository.extendExpiry(sessionId, LocalDateTime.now().plus(sessionTtl));
+        return new UploadPartResponse(partNumber, eTag, contentLength);
+    }
+
+    @Override
+    public UploadSessionResponse getSession(UUID sessionId) {
+        UploadSession session = findOwnSession(sessionId);
+        return toResponse(session, listParts(session));
+    }
+
+    @Override
+    public DocumentResponse complete(UUID sessionId) {
+        UploadSession session = findOwnSession(sessionId);
+        List<StoredPart> parts = listParts(session);
+        if (parts.isEmpty()) {
+            throw new IllegalStateException("No parts have been uploaded for this session");
+        }
+
+        storage.completeMultipart(session.getObjectKey(), session.getStorageUploadId(), parts);
+
+        try {
+            Document saved = transactionTemplate.execute(status -> {
+                uploadSessionRepository.delete(session);
+                return documentRepository.save(Document.builder()
+                        .fileName(session.getFileName())
+                        .fileType(session.getFileType())
+                        .fileUrl(session.getObjectKey())
+                        .uploadDate(LocalDateTime.now())
+                        .uploadedByUserId(session.getUploadedByUserId())
+                        .build());
+            });
+            return new DocumentResponse(
+                    saved.getId(),
+                    saved.getFileName(),
+                    saved.getFileType(),
+                    saved.getFileUrl(),
+                    saved.getUploadDate(),
+                    saved.getUploadedByUserId());
+        } catch (RuntimeException e) {
+            try {
+                storage.delete(session.getObjectKey());
+            } catch (Exception cleanup) {
+                log.warn("Failed to delete orphaned object {}: {}", session.getObjectKey(), cleanup.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void abort(UUID sessionId) {
+        UploadSession session = findOwnSession(sessionId);
+        storage.abortMultipart(session.getObjectKey(), session.getStorageUploadId());
+        uploadSessionRepository.delete(session);
+    }
+
+    /**
+     * Aborts sessions that have gone quiet, so their parts stop taking up
+     * storage. A session whose abort fails is kept and tried again next run.
+     */
+    @Scheduled(fixedDelayString = "${app.document.upload-session.sweep-interval:PT15M}",
+            initialDelayString = "${app.document.upload-session.sweep-interval:PT15M}")
+    public void abortExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UploadSession> expired = uploadSessionRepository.findExpired(now, now.minus(sessionTtl),
+                PageRequest.of(0, SWEEP_BATCH_SIZE));
+        int aborted = 0;
+        for (UploadSession session : expired) {
+            try {
+                storage.abortMultipart(session.getObjectKey(), session.getStorageUploadId());
+                uploadSessionRepository.delete(session);
+                aborted++;
+            } catch (RuntimeException e) {
+                log.warn("Could not abort expired upload session {}: {}", session.getId(), e.getMessage());
+            }
+        }
+        if (aborted > 0) {
+            log.info("Aborted {} expired upload sessions", aborted);
+        }
+    }
+}
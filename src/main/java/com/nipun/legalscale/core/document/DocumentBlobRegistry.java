@@ -0,0 +1,77 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.entity.DocumentBlob;
+import com.nipun.legalscale.core.document.repository.DocumentBlobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Reference counting for content-addressed blobs. References are taken in
+ * their own transaction so they are visible to concurrent uploaders straight
+ * away; callers undo one with {@link #release} if the document row that was
+ * meant to hold it is never committed. A crash in between leaves a blob with
+ * one reference too many, which only ever keeps an object alive.
+ */
+@Component
+@RequiredArgsConstructor
+class DocumentBlobRegistry {
+
+    private final DocumentBlobRepository blobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Takes a reference on the blob with this digest, if one is stored.
+     */
+    Optional<DocumentBlob> acquire(String sha256) {
+        return newTransaction().execute(status -> blobRepository.incrementRefCount(sha256) > 0
+                ? blobRepository.findBySha256(sha256)
+                : Optional.empty());
+    }
+
+    /**
+     * Records a freshly stored object as the blob for this digest, holding one
+     * reference. If another upload registered the same digest first, a
+     * reference on that blob is returned instead and the caller's object is
+     * redundant unless it has the same key.
+     */
+    DocumentBlob register(String sha256, String objectKey, long sizeBytes) {
+        try {
+            return newTransaction().execute(status -> blobRepository.saveAndFlush(DocumentBlob.builder()
+                    .sha256(sha256)
+                    .objectKey(objectKey)
+                    .sizeBytes(sizeBytes)
+                    .refCount(1)
+                    .createdAt(LocalDateTime.now())
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            return acquire(sha256)
+                    .orElseThrow(() -> new IllegalStateException("Blob " + sha256 + " vanished while registering"));
+        }
+    }
+
+    /**
+     * Drops one reference, joining the caller's transaction if there is one so
+     * it rolls back together with the document row delete. Returns true when
+     * that was the last reference and the blob row is gone, meaning the stored
+     * object should be deleted once the transaction commits.
+     */
+    boolean release(DocumentBlob blob) {
+        return Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(status -> {
+            blobRepository.decrementRefCount(blob.getId());
+            return blobRepository.deleteIfUnreferenced(blob.getId()) > 0;
+        }));
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
@@ -1,13 +1,42 @@
 package com.nipun.legalscale.core.document;
 
+import com.nipun.legalscale.core.document.cache.FileRegionResource;
+import com.nipun.legalscale.core.document.dto.DocumentObjectInfo;
+import com.nipun.legalscale.core.document.dto.DocumentRenditionResponse;
 import com.nipun.legalscale.core.document.dto.DocumentResponse;
+import com.nipun.legalscale.core.document.dto.InitiateUploadRequest;
+import com.nipun.legalscale.core.document.dto.PresignedUploadResponse;
+import com.nipun.legalscale.core.document.dto.PresignedUrlResponse;
+import com.nipun.legalscale.core.document.dto.UploadPartResponse;
+import com.nipun.legalscale.core.document.dto.UploadSessionResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/documents")
@@ -15,6 +44,12 @@ import org.springframework.web.multipart.MultipartFile;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final ChunkedUploadService chunkedUploadService;
+    /* Only present when documents are stored in S3 */
+    private final Optional<PresignedTransferService> presignedTransferService;
+
+    @Value("${app.document.transfer-mode:PROXY}")
+    private DocumentTransferMode transferMode;
 
     @PostMapping(value = "/upload", consumes = "multipart/form-data")
     public ResponseEntity<DocumentResponse> upload(
@@ -23,23 +58,222 @@ public class DocumentController {
         return ResponseEntity.ok(documentService.upload(file, uploadedByUserId));
     }
 
+    /**
+     * Streaming alternative to /upload for large files: the raw request body is
+     * the file, so nothing is staged by the servlet multipart resolver.
+     */
+    @PostMapping("/stream")
+    public ResponseEntity<DocumentResponse> uploadStream(
+            @RequestParam("fileName") String fileName,
+            @RequestParam("uploadedByUserId") Long uploadedByUserId,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(documentService.uploadStream(
+                request.getInputStream(), fileName, request.getContentType(), uploadedByUserId));
+    }
+
+    // ─── Resumable chunked uploads
+    // ────────────────────────────────────────────────
+
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionResponse> initiateUpload(@Valid @RequestBody InitiateUploadRequest request) {
+        return ResponseEntity.ok(chunkedUploadService.initiate(request));
+    }
+
+    @GetMapping("/uploads/{sessionId}")
+    public ResponseEntity<UploadSessionResponse> getUpload(@PathVariable UUID sessionId) {
+        return ResponseEntity.ok(chunkedUploadService.getSession(sessionId));
+    }
+
+    @PutMapping("/uploads/{sessionId}/parts/{partNumber}")
+    public ResponseEntity<UploadPartResponse> uploadPart(
+            @PathVariable UUID sessionId,
+            @PathVariable int partNumber,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(chunkedUploadService.uploadPart(
+                sessionId, partNumber, request.getInputStream(), request.getContentLengthLong()));
+    }
+
+    @PostMapping("/uploads/{sessionId}/complete")
+    public ResponseEntity<DocumentResponse> completeUpload(@PathVariable UUID sessionId) {
+        return ResponseEntity.ok(chunkedUploadService.complete(sessionId));
+    }
+
+    @DeleteMapping("/uploads/{sessionId}")
+    public ResponseEntity<Void> abortUpload(@PathVariable UUID sessionId) {
+        chunkedUploadService.abort(sessionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // ─── Presigned direct transfers
+    // ───────────────────────────────────────────────
+
+    @PostMapping("/presigned-uploads")
+    public ResponseEntity<PresignedUploadResponse> createPresignedUpload(
+            @Valid @RequestBody InitiateUploadRequest request) {
+        return ResponseEntity.ok(presigned().createUpload(request));
+    }
+
+    @PostMapping("/presigned-uploads/{uploadId}/finalize")
+    public ResponseEntity<DocumentResponse> finalizePresignedUpload(@PathVariable UUID uploadId) {
+        return ResponseEntity.ok(presigned().finalizeUpload(uploadId));
+    }
+
+    @GetMapping("/{id}/download-url")
+    public ResponseEntity<PresignedUrlResponse> getDownloadUrl(@PathVariable Long id) {
+        return ResponseEntity.ok(presigned().createDownloadUrl(id));
+    }
+
+    // ─── Read
+    // ─────────────────────────────────────────────────────────────────────
+
     @GetMapping("/{id}")
     public ResponseEntity<DocumentResponse> getDocumentInfo(@PathVariable Long id) {
         return ResponseEntity.ok(documentService.findById(id));
     }
 
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        documentService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Serves the stored object with ETag/Last-Modified validators. A matching
+     * If-None-Match or If-Modified-Since gets a 304 without touching S3's body,
+     * and a single byte range gets a 206 backed by a ranged GetObject so PDF
+     * viewers only pull the pages they seek to. Bodies are written through
+     * {@link #stream}; disk-cached files are copied from their open channel.
+     */
     @GetMapping("/{id}/download")
-    public ResponseEntity<Resource> download(@PathVariable Long id) {
-        DocumentResponse doc = documentService.findById(id);
-        Resource resource = documentService.download(id);
+    public ResponseEntity<StreamingResponseBody> download(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            ServletWebRequest webRequest) {
+        if (transferMode == DocumentTransferMode.PRESIGNED) {
+            // Let the client fetch (and range over) the object from S3 directly
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(presigned().createDownloadUrl(id).url()))
+                    .build();
+        }
 
-        if (resource == null) {
-            return ResponseEntity.notFound().build();
+        DocumentObjectInfo info = documentService.describe(id);
+        DocumentResponse doc = info.document();
+        long lastModified = info.lastModified().toEpochMilli();
+
+        if (webRequest.checkNotModified(info.eTag(), lastModified)) {
+            // 304 and validators already written by checkNotModified
+            return null;
         }
 
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(doc.fileType()));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + doc.fileName() + "\"");
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag(info.eTag());
+        headers.setLastModified(lastModified);
+
+        long length = info.contentLength();
+        boolean head = webRequest.getHttpMethod() == HttpMethod.HEAD;
+        HttpRange requested = range != null && rangeStillValid(ifRange, info) ? singleRange(range) : null;
+
+        if (requested != null) {
+            long start = requested.getRangeStart(length);
+            long end = requested.getRangeEnd(length);
+            if (start >= length || end < start) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                        .build();
+            }
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            headers.setContentLength(end - start + 1);
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .headers(headers)
+                    .body(head ? null : stream(documentService.download(id, start, end)));
+        }
+
+        headers.setContentLength(length);
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(doc.fileType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + doc.fileName() + "\"")
-                .body(resource);
+                .headers(headers)
+                .body(head ? null : stream(documentService.download(id)));
+    }
+
+    // ─── Renditions
+    // ───────────────────────────────────────────────────────────────
+
+    @GetMapping("/{id}/rendition")
+    public ResponseEntity<DocumentRenditionResponse> getRendition(@PathVariable Long id) {
+        return ResponseEntity.ok(documentService.getRendition(id));
+    }
+
+    /**
+     * Small PNG for document lists, so they never need the original. 404
+     * until the pipeline has produced one; documents never change, so the
+     * preview may be cached by the client.
+     */
+    @GetMapping("/{id}/preview")
+    public ResponseEntity<StreamingResponseBody> getPreview(@PathVariable Long id) {
+        return documentService.openPreview(id)
+                .map(preview -> ResponseEntity.ok()
+                        .contentType(MediaType.IMAGE_PNG)
+                        .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate())
+                        .body(stream(preview)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/text", produces = "text/plain;charset=UTF-8")
+    public ResponseEntity<String> getExtractedText(@PathVariable Long id) {
+        return documentService.getExtractedText(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // ─── Download helpers
+    // ─────────────────────────────────────────────────────────
+
+    private PresignedTransferService presigned() {
+        return presignedTransferService.orElseThrow(
+                () -> new IllegalStateException("Presigned transfers require the S3 storage backend"));
+    }
+
+    private StreamingResponseBody stream(Resource resource) {
+        return out -> {
+            if (resource instanceof FileRegionResource region) {
+                region.transferTo(out);
+            } else {
+                try (InputStream in = resource.getInputStream()) {
+                    in.transferTo(out);
+                }
+            }
+        };
+    }
+
+    /**
+     * Only a single range is served partially; malformed or multi-range
+     * headers fall back to the full body, which RFC 9110 allows.
+     */
+    private HttpRange singleRange(String range) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /** If-Range may carry an ETag or a date; a stale one means "send it all". */
+    private boolean rangeStillValid(String ifRange, DocumentObjectInfo info) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(info.eTag());
+        }
+        try {
+            Instant date = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return date.getEpochSecond() == info.lastModified().getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
     }
 }
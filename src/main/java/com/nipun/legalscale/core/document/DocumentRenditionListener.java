@@ -0,0 +1,28 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.entity.Document;
+import jakarta.persistence.PostPersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Hands every newly inserted {@link Document} to the rendition pipeline,
+ * whichever path created it (form, streamed, chunked or presigned uploads,
+ * or attachments cascaded from cases and agreements).
+ *
+ * Instantiated by Hibernate through Spring's bean container; the pipeline is
+ * looked up lazily because it depends on repositories that need the
+ * EntityManagerFactory this listener is registered with.
+ */
+public class DocumentRenditionListener {
+
+    private final ObjectProvider<DocumentRenditionPipeline> pipeline;
+
+    public DocumentRenditionListener(ObjectProvider<DocumentRenditionPipeline> pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    @PostPersist
+    public void afterInsert(Document document) {
+        pipeline.ifAvailable(p -> p.submitAfterCommit(document.getId()));
+    }
+}
@@ -0,0 +1,329 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.cache.FileRegionResource;
+import com.nipun.legalscale.core.document.entity.Document;
+import com.nipun.legalscale.core.document.entity.DocumentRendition;
+import com.nipun.legalscale.core.document.rendition.DocumentRenderer;
+import com.nipun.legalscale.core.document.rendition.RenderedDocument;
+import com.nipun.legalscale.core.document.repository.DocumentRenditionRepository;
+import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.document.storage.DocumentStorage;
+import com.nipun.legalscale.core.document.storage.StoredObjectMetadata;
+import com.nipun.legalscale.core.transaction.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Produces a {@link DocumentRendition} (preview image and plain text) for
+ * every new document, off the request thread.
+ *
+ * New documents are queued once their row commits. The queue is bounded: when
+ * it is full the document is simply left without a rendition, and a periodic
+ * sweep picks up anything missing, which also covers work lost on restart.
+ *
+ * Only files the renderer cannot read get a FAILED row. A storage error is
+ * assumed to be transient, so nothing is written and the sweep tries again.
+ *
+ * Rendition rows have no foreign key to their document. A document deleted
+ * while it was being rendered gets no row and its preview is removed; rows
+ * left behind by deletes that bypass {@code DocumentService.delete}, or that
+ * slipped past that check, are cleaned up by a second, slower sweep.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentRenditionPipeline {
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final DocumentRepository documentRepository;
+    private final DocumentRenditionRepository renditionRepository;
+    private final DocumentStorage storage;
+    private final DocumentRenderer renderer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.document.rendition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.document.rendition.workers:2}")
+    private int workers;
+
+    @Value("${app.document.rendition.queue-capacity:200}")
+    private int queueCapacity;
+
+    /* Larger files get UNSUPPORTED rather than tying up a worker */
+    @Value("${app.document.rendition.max-source-size:50MB}")
+    private DataSize maxSourceSize;
+
+    private ThreadPoolExecutor executor;
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        int size = Math.max(1, workers);
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "document-rendition-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queues the document once the current transaction commits, so workers
+     * never look for a row that is not visible yet (or was rolled back).
+     */
+    public void submitAfterCommit(Long documentId) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> submit(documentId));
+    }
+
+    /**
+     * Picks up documents that never got a rendition. The grace period keeps
+     * it from racing documents whose after-commit submission is in flight.
+     */
+    @Scheduled(fixedDelayString = "${app.document.rendition.sweep-interval:PT1M}",
+            initialDelayString = "${app.document.rendition.sweep-interval:PT1M}")
+    public void sweep() {
+        int room = executor.getQueue().remainingCapacity();
+        if (!enabled || room == 0) {
+            return;
+        }
+        List<Long> missing = documentRepository.findIdsWithoutRendition(
+                LocalDateTime.now().minusMinutes(1), PageRequest.of(0, room));
+        missing.forEach(this::submit);
+    }
+
+    /**
+     * Removes renditions, preview objects first, whose document is gone. The
+     * object is deleted before the row, so a failure is retried next time.
+     */
+    @Scheduled(fixedDelayString = "${app.document.rendition.orphan-sweep-interval:PT1H}",
+            initialDelayString = "${app.document.rendition.orphan-sweep-interval:PT1H}")
+    public void sweepOrphans() {
+        List<DocumentRendition> orphans = renditionRepository.findOrphans(PageRequest.of(0, SWEEP_BATCH_SIZE));
+        int removed = 0;
+        for (DocumentRendition orphan : orphans) {
+            try {
+                if (orphan.getPreviewKey() != null) {
+                    storage.delete(orphan.getPreviewKey());
+                }
+                renditionRepository.delete(orphan);
+                removed++;
+            } catch (RuntimeException e) {
+                log.warn("Could not remove rendition of deleted document {}: {}", orphan.getDocumentId(),
+                        e.getMessage());
+            }
+        }
+        if (removed > 0) {
+            log.info("Removed {} renditions of deleted documents", removed);
+        }
+    }
+
+    private void submit(Long documentId) {
+        if (!queued.add(documentId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(documentId);
+                } finally {
+                    queued.remove(documentId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.remove(documentId);
+            log.debug("Rendition queue full, document {} left for the sweep", documentId);
+        }
+    }
+
+    // ─── Worker
+    // ───────────────────────────────────────────────────────────────────
+
+    private void process(Long documentId) {
+        Document document = documentRepository.findById(documentId).orElse(null);
+        if (document == null || renditionRepository.existsById(documentId)) {
+            return;
+        }
+
+        DocumentRendition rendition;
+        try {
+            rendition = render(document);
+        } catch (UnreadableContentException e) {
+            log.warn("Failed to render document {}: {}", documentId, e.getMessage());
+            rendition = failed(document, String.valueOf(e.getMessage()));
+        } catch (Exception e) {
+            log.warn("Could not render document {}, leaving it for the sweep: {}", documentId, e.toString());
+            return;
+        }
+
+        DocumentRendition toStore = rendition;
+        Boolean stored;
+        try {
+            stored = transactionTemplate.execute(status -> {
+                // Rendering takes a while; the document may have been deleted meanwhile
+                if (!documentRepository.existsById(documentId)) {
+                    return false;
+                }
+                renditionRepository.save(toStore);
+                return true;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another node got there first; the preview key is the same, so nothing to undo
+            log.debug("Rendition for document {} already stored", documentId);
+            return;
+        }
+        if (!Boolean.TRUE.equals(stored) && rendition.getPreviewKey() != null) {
+            log.debug("Document {} was deleted while rendering, dropping its preview", documentId);
+            deletePreview(rendition.getPreviewKey());
+        }
+    }
+
+    private DocumentRendition render(Document document) throws IOException, UnreadableContentException {
+        MediaType type = mediaType(document);
+        String key = document.getFileUrl();
+        if (type == null || !renderer.supports(type)) {
+            return unsupported(document, "No renderer for " + document.getFileType());
+        }
+        StoredObjectMetadata metadata = storage.head(key).orElse(null);
+        if (metadata == null) {
+            return failed(document, "Stored file is missing");
+        }
+        if (metadata.contentLength() > maxSourceSize.toBytes()) {
+            return unsupported(document, "File is larger than " + maxSourceSize);
+        }
+
+        RenderedDocument rendered;
+        Resource content = storage.get(key).content();
+        if (content instanceof FileRegionResource file) {
+            // Local backend: render the stored file in place
+            try (file) {
+                rendered = renderFile(file.getFile().toPath(), type);
+            }
+        } else {
+            Path temp = Files.createTempFile("rendition-", ".tmp");
+            try {
+                try (InputStream in = content.getInputStream()) {
+                    Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
+                rendered = renderFile(temp, type);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        if (rendered == null) {
+            return unsupported(document, "Content is not readable as " + type);
+        }
+
+        String previewKey = null;
+        if (rendered.previewPng() != null) {
+            previewKey = StoredObjects.keyForPreview(document.getId());
+            storage.put(previewKey, MediaType.IMAGE_PNG_VALUE, new ByteArrayInputStream(rendered.previewPng()),
+                    rendered.previewPng().length, null);
+        }
+        return DocumentRendition.builder()
+                .documentId(document.getId())
+                .status(RenditionStatus.READY)
+                .previewKey(previewKey)
+                .extractedText(rendered.text())
+                .textTruncated(rendered.textTruncated())
+                .build();
+    }
+
+    /** Anything the renderer throws is down to the content, so retrying would not help. */
+    private RenderedDocument renderFile(Path file, MediaType type) throws UnreadableContentException {
+        try {
+            return renderer.render(file, type);
+        } catch (Exception e) {
+            throw new UnreadableContentException(e);
+        }
+    }
+
+    // ─── Helpers
+    // ──────────────────────────────────────────────────────────────────
+
+    /** Falls back to the file extension when the upload did not say what it is. */
+    private MediaType mediaType(Document document) {
+        try {
+            MediaType declared = MediaType.parseMediaType(document.getFileType());
+            if (!MediaType.APPLICATION_OCTET_STREAM.equalsTypeAndSubtype(declared)) {
+                return declared;
+            }
+        } catch (IllegalArgumentException e) {
+            // fall through to the extension
+        }
+        return MediaTypeFactory.getMediaType(document.getFileName()).orElse(null);
+    }
+
+    private DocumentRendition unsupported(Document document, String reason) {
+        return DocumentRendition.builder()
+                .documentId(document.getId())
+                .status(RenditionStatus.UNSUPPORTED)
+                .failureReason(reason)
+                .build();
+    }
+
+    private DocumentRendition failed(Document document, String reason) {
+        return DocumentRendition.builder()
+                .documentId(document.getId())
+                .status(RenditionStatus.FAILED)
+                .failureReason(abbreviate(reason))
+                .build();
+    }
+
+    private void deletePreview(String key) {
+        try {
+            storage.delete(key);
+        } catch (Exception e) {
+            log.warn("Failed to delete orphaned preview {}: {}", key, e.getMessage());
+        }
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    private static class UnreadableContentException extends Exception {
+        UnreadableContentException(Exception cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
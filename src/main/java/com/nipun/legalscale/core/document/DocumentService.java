@@ -1,12 +1,67 @@
 package com.nipun.legalscale.core.document;
 
+import com.nipun.legalscale.core.document.dto.DocumentObjectInfo;
+import com.nipun.legalscale.core.document.dto.DocumentRenditionResponse;
 import com.nipun.legalscale.core.document.dto.DocumentResponse;
+import com.nipun.legalscale.core.document.entity.Document;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
 public interface DocumentService {
     DocumentResponse upload(MultipartFile file, Long uploadedByUserId);
 
+    /**
+     * Streams a raw request body into storage without buffering the whole file.
+     * Bodies larger than one part go up as a parallel multipart upload.
+     */
+    DocumentResponse uploadStream(InputStream content, String fileName, String contentType, Long uploadedByUserId);
+
+    /**
+     * Stores the files in object storage concurrently and returns unsaved
+     * {@link Document} rows describing them. Nothing is written to the database,
+     * so this can run before the caller opens a transaction; if persisting the
+     * rows fails the caller must hand them back to {@link #discard(List)}.
+     */
+    List<Document> storeAll(List<MultipartFile> files, Long uploadedByUserId);
+
+    /**
+     * Gives back the stored content of rows that were never committed. Shared
+     * blobs lose a reference; objects nobody else uses are deleted (best effort).
+     */
+    void discard(List<Document> documents);
+
+    /**
+     * Deletes a document that is no longer attached anywhere. Only its
+     * uploader or a system administrator may do so. Its stored content is
+     * removed only when no other document shares it.
+     */
+    void delete(Long id);
+
     DocumentResponse findById(Long id);
 
+    /**
+     * Size, ETag and last-modified time of the stored object, without its body.
+     */
+    DocumentObjectInfo describe(Long id);
+
     org.springframework.core.io.Resource download(Long id);
+
+    /**
+     * Opens only the bytes {@code start..end} (inclusive) of the stored object.
+     */
+    org.springframework.core.io.Resource download(Long id, long start, long end);
+
+    /**
+     * Where the background preview/text pipeline stands for this document.
+     */
+    DocumentRenditionResponse getRendition(Long id);
+
+    /** The small PNG preview, once the pipeline has produced one. */
+    Optional<org.springframework.core.io.Resource> openPreview(Long id);
+
+    /** Plain text extracted from the document, once available. */
+    Optional<String> getExtractedText(Long id);
 }
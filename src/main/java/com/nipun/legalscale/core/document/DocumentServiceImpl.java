@@ -1,26 +1,57 @@
 package com.nipun.legalscale.core.document;
 
+import com.nipun.legalscale.core.document.cache.CachedObject;
+import com.nipun.legalscale.core.document.cache.DocumentDiskCache;
+import com.nipun.legalscale.core.document.cache.FileRegionResource;
+import com.nipun.legalscale.core.document.dto.DocumentObjectInfo;
+import com.nipun.legalscale.core.document.dto.DocumentRenditionResponse;
 import com.nipun.legalscale.core.document.dto.DocumentResponse;
 import com.nipun.legalscale.core.document.entity.Document;
+import com.nipun.legalscale.core.document.entity.DocumentBlob;
+import com.nipun.legalscale.core.document.entity.DocumentRendition;
+import com.nipun.legalscale.core.document.repository.DocumentRenditionRepository;
 import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.document.storage.DocumentStorage;
+import com.nipun.legalscale.core.document.storage.StoredObjectContent;
+import com.nipun.legalscale.core.document.storage.StoredObjectMetadata;
+import com.nipun.legalscale.core.document.storage.StoredPart;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
+import com.nipun.legalscale.core.transaction.AfterCommit;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
@@ -28,82 +59,461 @@ import java.util.UUID;
 public class DocumentServiceImpl implements DocumentService {
 
     private final DocumentRepository documentRepository;
-    private final S3Client s3Client;
+    private final DocumentRenditionRepository renditionRepository;
+    private final DocumentBlobRegistry blobRegistry;
+    private final DocumentDiskCache diskCache;
+    private final DocumentStorage storage;
+    private final CurrentUserProvider currentUserProvider;
 
-    @Value("${app.aws.s3.bucket-name}")
-    private String bucketName;
+    /* Each upload blocks on I/O, so a virtual thread per file is cheap */
+    private final ExecutorService uploadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /* Cache fills run off the request thread; one per key at a time */
+    private final ExecutorService cacheFillExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<String> fillsInFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.document.max-parallel-uploads:8}")
+    private int maxParallelUploads;
+
+    /* Streamed uploads are cut into parts of this size (S3 requires at least 5 MB) */
+    @Value("${app.document.multipart.part-size:8MB}")
+    private DataSize multipartPartSize;
+
+    @Value("${app.document.multipart.max-parts-in-flight:4}")
+    private int maxPartsInFlight;
+
+    /* Shared by every storeAll call on this node, so concurrent requests cannot multiply it */
+    private Semaphore uploadPermits;
+
+    private int partSize;
 
     @PostConstruct
     public void init() {
-        log.info("S3 Document Service initialized for bucket: {}", bucketName);
+        uploadPermits = new Semaphore(Math.max(1, maxParallelUploads));
+        partSize = (int) Math.max(multipartPartSize.toBytes(), DataSize.ofMegabytes(5).toBytes());
+        maxPartsInFlight = Math.max(1, maxPartsInFlight);
+        log.info("Document Service initialized with {}", storage.describe());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.close();
+        cacheFillExecutor.close();
     }
 
     @Override
     public DocumentResponse upload(MultipartFile file, Long uploadedByUserId) {
+        Document document = store(file, uploadedByUserId);
         try {
-            String origName = file.getOriginalFilename();
-            String originalFileName = (origName != null && !origName.isBlank()) ? origName : "unnamed_file";
-
-            String contentType = file.getContentType();
-            String fileType = (contentType != null && !contentType.isBlank()) ? contentType
-                    : "application/octet-stream";
-
-            String storedFileName = UUID.randomUUID() + "_" + originalFileName.replaceAll("[^a-zA-Z0-9.-]", "_"); // Replace
-                                                                                                                  // special
-                                                                                                                  // characters
-                                                                                                                  // that
-                                                                                                                  // might
-                                                                                                                  // cause
-                                                                                                                  // issues
-
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(storedFileName)
-                    .contentType(fileType)
-                    .build();
+            return toResponse(documentRepository.save(document));
+        } catch (RuntimeException e) {
+            discard(List.of(document));
+            throw e;
+        }
+    }
+
+    /**
+     * The body can only be read once, so it is hashed on the way through and
+     * stored under a random key. If the digest turns out to be known already,
+     * the new object is dropped and the existing blob is referenced instead.
+     */
+    @Override
+    public DocumentResponse uploadStream(InputStream content, String fileName, String contentType,
+            Long uploadedByUserId) {
+        String originalFileName = StoredObjects.originalName(fileName);
+        String fileType = StoredObjects.contentType(contentType);
+        String storedFileName = StoredObjects.keyFor(originalFileName);
+
+        MessageDigest digest = newSha256();
+        InputStream hashed = new DigestInputStream(content, digest);
+        long sizeBytes;
+        try {
+            byte[] firstPart = hashed.readNBytes(partSize);
+            if (firstPart.length < partSize) {
+                // Fits in one part, a plain PUT is cheaper than a multipart round trip
+                storage.put(storedFileName, fileType, new ByteArrayInputStream(firstPart), firstPart.length,
+                        null);
+                sizeBytes = firstPart.length;
+            } else {
+                sizeBytes = streamMultipart(hashed, firstPart, storedFileName, fileType);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read upload stream: " + e.getMessage(), e);
+        }
+
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        DocumentBlob blob = blobRegistry.acquire(sha256)
+                .orElseGet(() -> blobRegistry.register(sha256, storedFileName, sizeBytes));
+        if (!blob.getObjectKey().equals(storedFileName)) {
+            deleteObject(storedFileName);
+        }
+
+        Document document = Document.builder()
+                .fileName(originalFileName)
+                .fileType(fileType)
+                .fileUrl(blob.getObjectKey())
+                .uploadDate(LocalDateTime.now())
+                .uploadedByUserId(uploadedByUserId)
+                .blob(blob)
+                .build();
+        try {
+            return toResponse(documentRepository.save(document));
+        } catch (RuntimeException e) {
+            discard(List.of(document));
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Document> storeAll(List<MultipartFile> files, Long uploadedByUserId) {
+        if (files.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Future<Document>> pending = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            pending.add(uploadExecutor.submit(() -> {
+                uploadPermits.acquire();
+                try {
+                    return store(file, uploadedByUserId);
+                } finally {
+                    uploadPermits.release();
+                }
+            }));
+        }
+
+        // Wait for every upload, even after a failure, so nothing is left
+        // running that could still create an object after we clean up
+        List<Document> stored = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+        for (Future<Document> future : pending) {
+            try {
+                stored.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException re ? re
+                            : new RuntimeException("Failed to store file: " + e.getCause().getMessage(),
+                                    e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = new IllegalStateException("Interrupted while storing files", e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            discard(stored);
+            throw failure;
+        }
+        return stored;
+    }
+
+    @Override
+    public void discard(List<Document> documents) {
+        for (Document document : documents) {
+            releaseContent(document);
+        }
+    }
+
+    /**
+     * Deletes the row and drops its blob reference in one transaction; the
+     * object itself is only removed after commit, and only if this was the
+     * last document using it. The rendition and its preview go with it.
+     */
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Document document = findDocument(id);
+        UserEntity current = currentUserProvider.getCurrentUser();
+        boolean admin = current.getRole() != null && current.getRole().getRoleName() == Role.SYSTEM_ADMIN;
+        if (!admin && !current.getId().equals(document.getUploadedByUserId())) {
+            throw new AccessDeniedException("Only the uploader or an administrator can delete this document");
+        }
+        try {
+            documentRepository.delete(document);
+            documentRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Document " + id + " is still attached to a case or agreement");
+        }
+        releaseContent(document);
+        renditionRepository.findById(id).ifPresent(rendition -> {
+            renditionRepository.delete(rendition);
+            if (rendition.getPreviewKey() != null) {
+                AfterCommit.run(() -> deleteObject(rendition.getPreviewKey()));
+            }
+        });
+    }
+
+    @Override
+    public DocumentResponse findById(Long id) {
+        return toResponse(findDocument(id));
+    }
+
+    /**
+     * Cached objects answer from the validators recorded at fill time, so a hot
+     * document costs no storage round trip at all. The lookup does not count
+     * towards cache statistics; the download that follows does.
+     */
+    @Override
+    public DocumentObjectInfo describe(Long id) {
+        Document document = findDocument(id);
+        Optional<CachedObject> cached = storage.isLocal() ? Optional.empty() : diskCache.peek(document.getFileUrl());
+        if (cached.isPresent()) {
+            return new DocumentObjectInfo(toResponse(document), cached.get().size(), cached.get().eTag(),
+                    cached.get().lastModified());
+        }
+
+        StoredObjectMetadata metadata = storage.head(document.getFileUrl())
+                .orElseThrow(() -> new IllegalStateException("Stored file is missing for document " + id));
+        return new DocumentObjectInfo(toResponse(document), metadata.contentLength(), metadata.eTag(),
+                metadata.lastModified());
+    }
+
+    /**
+     * Full downloads read through the disk cache. A miss is streamed straight
+     * from storage and a cacheable object is copied to disk in the background,
+     * so the first byte never waits for the fill. Backends that are already on
+     * local disk bypass the cache.
+     */
+    @Override
+    public Resource download(Long id) {
+        Document document = findDocument(id);
+        String key = document.getFileUrl();
+        Optional<FileRegionResource> hit = cacheLookup(key)
+                .flatMap(cached -> diskCache.open(cached, 0, cached.size() - 1));
+        if (hit.isPresent()) {
+            return hit.get();
+        }
 
-            s3Client.putObject(putObjectRequest,
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        StoredObjectContent object = storage.get(key);
+        if (!storage.isLocal() && diskCache.accepts(object.metadata().contentLength())) {
+            fillInBackground(key);
+        }
+        return object.content();
+    }
+
+    /**
+     * Ranges are served from disk when the object is cached. Otherwise only
+     * the range is fetched; seeking around a cold file does not fill the cache.
+     */
+    @Override
+    public Resource download(Long id, long start, long end) {
+        Document document = findDocument(id);
+        Optional<FileRegionResource> hit = cacheLookup(document.getFileUrl())
+                .flatMap(cached -> diskCache.open(cached, start, end));
+        if (hit.isPresent()) {
+            return hit.get();
+        }
+        return storage.get(document.getFileUrl(), start, end).content();
+    }
+
+    @Override
+    public DocumentRenditionResponse getRendition(Long id) {
+        findDocument(id);
+        return renditionRepository.findById(id)
+                .map(r -> new DocumentRenditionResponse(
+                        id,
+                        r.getStatus(),
+                        r.getPreviewKey() != null,
+                        r.getExtractedText() != null ? r.getExtractedText().length() : 0,
+                        r.isTextTruncated(),
+                        r.getFailureReason(),
+                        r.getProcessedAt()))
+                .orElse(new DocumentRenditionResponse(id, RenditionStatus.PENDING, false, 0, false, null, null));
+    }
+
+    @Override
+    public Optional<Resource> openPreview(Long id) {
+        findDocument(id);
+        return renditionRepository.findById(id)
+                .map(DocumentRendition::getPreviewKey)
+                .map(key -> storage.get(key).content());
+    }
+
+    @Override
+    public Optional<String> getExtractedText(Long id) {
+        findDocument(id);
+        return renditionRepository.findById(id).map(DocumentRendition::getExtractedText);
+    }
+
+    private Optional<CachedObject> cacheLookup(String key) {
+        return storage.isLocal() ? Optional.empty() : diskCache.get(key);
+    }
+
+    /**
+     * Fetches the object a second time for the cache rather than teeing the
+     * response stream, so a slow or aborted client cannot stall or truncate
+     * the fill.
+     */
+    private void fillInBackground(String key) {
+        if (!fillsInFlight.add(key)) {
+            return;
+        }
+        try {
+            cacheFillExecutor.execute(() -> {
+                try {
+                    StoredObjectContent object = storage.get(key);
+                    StoredObjectMetadata metadata = object.metadata();
+                    try (InputStream in = object.content().getInputStream()) {
+                        diskCache.fill(key, metadata.contentLength(), metadata.eTag(), metadata.lastModified(), in);
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to cache {}: {}", key, e.getMessage());
+                } finally {
+                    fillsInFlight.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the next download will try again
+            fillsInFlight.remove(key);
+        }
+    }
+
+    private Document findDocument(Long id) {
+        return documentRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Document not found with id: " + id));
+    }
+
+    /**
+     * Servlet multipart has already spooled the file locally, so it is hashed
+     * first and the PUT is skipped entirely when the content is already stored.
+     */
+    private Document store(MultipartFile file, Long uploadedByUserId) {
+        try {
+            String originalFileName = StoredObjects.originalName(file.getOriginalFilename());
+            String fileType = StoredObjects.contentType(file.getContentType());
+
+            byte[] sha256Bytes = sha256(file);
+            String sha256 = HexFormat.of().formatHex(sha256Bytes);
 
-            Document document = Document.builder()
+            DocumentBlob blob = blobRegistry.acquire(sha256).orElse(null);
+            if (blob == null) {
+                String storedFileName = StoredObjects.keyForDigest(sha256);
+                try (InputStream in = file.getInputStream()) {
+                    storage.put(storedFileName, fileType, in, file.getSize(), sha256Bytes);
+                }
+
+                blob = blobRegistry.register(sha256, storedFileName, file.getSize());
+                if (!blob.getObjectKey().equals(storedFileName)) {
+                    // Lost the registration race; the winner's object is the one referenced
+                    deleteObject(storedFileName);
+                }
+            }
+
+            return Document.builder()
                     .fileName(originalFileName)
                     .fileType(fileType)
-                    .fileUrl(storedFileName)
+                    .fileUrl(blob.getObjectKey())
                     .uploadDate(LocalDateTime.now())
                     .uploadedByUserId(uploadedByUserId)
+                    .blob(blob)
                     .build();
-
-            Document saved = documentRepository.save(document);
-            return toResponse(saved);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read file input stream: " + e.getMessage(), e);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to store file in S3: " + e.getMessage(), e);
+            throw new RuntimeException("Failed to store file: " + e.getMessage(), e);
         }
     }
 
-    @Override
-    public DocumentResponse findById(Long id) {
-        Document document = documentRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Document not found with id: " + id));
-        return toResponse(document);
+    private byte[] sha256(MultipartFile file) throws IOException {
+        MessageDigest digest = newSha256();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return digest.digest();
     }
 
-    @Override
-    public Resource download(Long id) {
-        Document document = documentRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Document not found with id: " + id));
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Gives up a document's claim on its content. Shared blobs lose one
+     * reference; objects owned outright are deleted. Inside a transaction the
+     * delete waits for commit so a rollback never loses bytes.
+     */
+    private void releaseContent(Document document) {
+        boolean orphaned = document.getBlob() == null || blobRegistry.release(document.getBlob());
+        if (!orphaned) {
+            return;
+        }
+        String key = document.getFileUrl();
+        diskCache.evict(key);
+        AfterCommit.run(() -> deleteObject(key));
+    }
 
+    /**
+     * Reads the stream one part at a time and uploads parts concurrently. At most
+     * maxPartsInFlight buffers are queued or sending while the next one is read,
+     * so memory stays flat no matter how large the document is.
+     */
+    private long streamMultipart(InputStream content, byte[] firstPart, String key, String fileType)
+            throws IOException {
+        String uploadId = storage.createMultipart(key, fileType);
+
+        Semaphore inFlight = new Semaphore(maxPartsInFlight);
+        List<Future<StoredPart>> pending = new ArrayList<>();
         try {
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(document.getFileUrl())
-                    .build();
+            byte[] buffer = firstPart;
+            int partNumber = 1;
+            long sizeBytes = 0;
+            while (buffer.length > 0) {
+                sizeBytes += buffer.length;
+                inFlight.acquire();
+                byte[] part = buffer;
+                int number = partNumber++;
+                pending.add(uploadExecutor.submit(() -> {
+                    try {
+                        String eTag = storage.uploadPart(key, uploadId, number, new ByteArrayInputStream(part),
+                                part.length);
+                        return new StoredPart(number, eTag, part.length);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+                buffer = content.readNBytes(partSize);
+            }
+
+            List<StoredPart> parts = new ArrayList<>(pending.size());
+            for (Future<StoredPart> future : pending) {
+                parts.add(future.get());
+            }
+
+            storage.completeMultipart(key, uploadId, parts);
+            return sizeBytes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortMultipart(key, uploadId, pending);
+            throw new IllegalStateException("Interrupted while streaming upload", e);
+        } catch (ExecutionException e) {
+            abortMultipart(key, uploadId, pending);
+            throw new RuntimeException("Failed to store file: " + e.getCause().getMessage(), e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abortMultipart(key, uploadId, pending);
+            throw e;
+        }
+    }
 
-            ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest);
-            return new InputStreamResource(s3Object);
+    private void abortMultipart(String key, String uploadId, List<Future<StoredPart>> pending) {
+        pending.forEach(future -> future.cancel(true));
+        try {
+            storage.abortMultipart(key, uploadId);
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, e.getMessage());
+        }
+    }
+
+    private void deleteObject(String key) {
+        try {
+            storage.delete(key);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to download file from S3: " + e.getMessage(), e);
+            log.warn("Failed to delete orphaned object {}: {}", key, e.getMessage());
         }
     }
 
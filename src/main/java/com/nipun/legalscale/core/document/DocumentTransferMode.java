@@ -0,0 +1,11 @@
+package com.nipun.legalscale.core.document;
+
+/**
+ * How document bytes travel between clients and the bucket.
+ */
+public enum DocumentTransferMode {
+    /** Bytes stream through the API nodes. */
+    PROXY,
+    /** Clients are handed short-lived presigned URLs and talk to S3 directly. */
+    PRESIGNED
+}
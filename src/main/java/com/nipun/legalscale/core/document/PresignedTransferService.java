@@ -0,0 +1,24 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.dto.DocumentResponse;
+import com.nipun.legalscale.core.document.dto.InitiateUploadRequest;
+import com.nipun.legalscale.core.document.dto.PresignedUploadResponse;
+import com.nipun.legalscale.core.document.dto.PresignedUrlResponse;
+
+import java.util.UUID;
+
+/**
+ * Direct-to-S3 transfers: the API only authorizes and records, clients move
+ * the bytes themselves through short-lived presigned URLs.
+ */
+public interface PresignedTransferService {
+
+    PresignedUploadResponse createUpload(InitiateUploadRequest request);
+
+    /**
+     * Records the {@code Document} once the client's PUT has landed.
+     */
+    DocumentResponse finalizeUpload(UUID uploadId);
+
+    PresignedUrlResponse createDownloadUrl(Long documentId);
+}
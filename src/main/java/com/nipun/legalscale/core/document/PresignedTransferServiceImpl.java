@@ -0,0 +1,182 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.dto.DocumentResponse;
+import com.nipun.legalscale.core.document.dto.InitiateUploadRequest;
+import com.nipun.legalscale.core.document.dto.PresignedUploadResponse;
+import com.nipun.legalscale.core.document.dto.PresignedUrlResponse;
+import com.nipun.legalscale.core.document.entity.DirectUpload;
+import com.nipun.legalscale.core.document.entity.Document;
+import com.nipun.legalscale.core.document.repository.DirectUploadRepository;
+import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.document.storage", havingValue = "s3", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PresignedTransferServiceImpl implements PresignedTransferService {
+
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final DirectUploadRepository directUploadRepository;
+    private final DocumentRepository documentRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+
+    @Value("${app.aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${app.document.presigned.ttl:PT10M}")
+    private Duration ttl;
+
+    // ─── Upload
+    // ───────────────────────────────────────────────────────────────────
+
+    @Override
+    public PresignedUploadResponse createUpload(InitiateUploadRequest request) {
+        UserEntity uploader = currentUserProvider.getCurrentUser();
+        String originalFileName = StoredObjects.originalName(request.fileName());
+        String fileType = StoredObjects.contentType(request.contentType());
+        String objectKey = StoredObjects.keyFor(originalFileName);
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(p -> p
+                .signatureDuration(ttl)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(objectKey)
+                        .contentType(fileType)
+                        .build()));
+
+        DirectUpload upload = directUploadRepository.save(DirectUpload.builder()
+                .objectKey(objectKey)
+                .fileName(originalFileName)
+                .fileType(fileType)
+                .uploadedByUserId(uploader.getId())
+                .expiresAt(LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault()))
+                .build());
+
+        // Signed headers (Content-Type at least) must be replayed verbatim by the client
+        Map<String, String> headers = presigned.signedHeaders().entrySet().stream()
+                .filter(e -> !e.getKey().equalsIgnoreCase("host"))
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> String.join(",", e.getValue())));
+
+        return new PresignedUploadResponse(upload.getId(), presigned.url().toString(), headers,
+                presigned.expiration());
+    }
+
+    @Override
+    public DocumentResponse finalizeUpload(UUID uploadId) {
+        DirectUpload upload = directUploadRepository.findById(uploadId)
+                .orElseThrow(() -> new IllegalArgumentException("Upload not found with id: " + uploadId));
+        UserEntity current = currentUserProvider.getCurrentUser();
+        if (!upload.getUploadedByUserId().equals(current.getId())) {
+            throw new AccessDeniedException("This upload belongs to another user");
+        }
+        if (upload.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new IllegalStateException("This upload has expired; request a new upload URL");
+        }
+
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(upload.getObjectKey())
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new IllegalStateException("The file has not been uploaded yet");
+        }
+
+        Document saved = transactionTemplate.execute(status -> {
+            directUploadRepository.delete(upload);
+            return documentRepository.save(Document.builder()
+                    .fileName(upload.getFileName())
+                    .fileType(upload.getFileType())
+                    .fileUrl(upload.getObjectKey())
+                    .uploadDate(LocalDateTime.now())
+                    .uploadedByUserId(upload.getUploadedByUserId())
+                    .build());
+        });
+        return new DocumentResponse(
+                saved.getId(),
+                saved.getFileName(),
+                saved.getFileType(),
+                saved.getFileUrl(),
+                saved.getUploadDate(),
+                saved.getUploadedByUserId());
+    }
+
+    /**
+     * Drops uploads that were never finalized, and any object the client put
+     * under their key. A PUT that started just before expiry can still be
+     * running, so rows are only swept once a further ttl has passed.
+     */
+    @Scheduled(fixedDelayString = "${app.document.presigned.sweep-interval:PT15M}",
+            initialDelayString = "${app.document.presigned.sweep-interval:PT15M}")
+    public void sweepExpiredUploads() {
+        List<DirectUpload> expired = directUploadRepository.findByExpiresAtBeforeOrderByExpiresAt(
+                LocalDateTime.now().minus(ttl), PageRequest.of(0, SWEEP_BATCH_SIZE));
+        int swept = 0;
+        for (DirectUpload upload : expired) {
+            try {
+                s3Client.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(upload.getObjectKey())
+                        .build());
+                directUploadRepository.delete(upload);
+                swept++;
+            } catch (RuntimeException e) {
+                log.warn("Could not sweep expired upload {}: {}", upload.getId(), e.getMessage());
+            }
+        }
+        if (swept > 0) {
+            log.info("Swept {} expired presigned uploads", swept);
+        }
+    }
+
+    // ─── Download
+    // ─────────────────────────────────────────────────────────────────
+
+    @Override
+    public PresignedUrlResponse createDownloadUrl(Long documentId) {
+        Document document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new IllegalArgumentException("Document not found with id: " + documentId));
+
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(p -> p
+                .signatureDuration(ttl)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(document.getFileUrl())
+                        .responseContentType(document.getFileType())
+                        .responseContentDisposition("attachment; filename=\"" + document.getFileName() + "\"")
+                        .build()));
+        return new PresignedUrlResponse(presigned.url().toString(), presigned.expiration());
+    }
+}
@@ -0,0 +1,15 @@
+package com.nipun.legalscale.core.document;
+
+/**
+ * Where a document stands in the background preview and text pipeline.
+ */
+public enum RenditionStatus {
+    /** Not processed yet; never stored, reported when no rendition row exists. */
+    PENDING,
+    /** Preview and/or text are available. */
+    READY,
+    /** Processing was attempted and threw. */
+    FAILED,
+    /** Content type or size the pipeline does not handle. */
+    UNSUPPORTED
+}
@@ -0,0 +1,39 @@
+package com.nipun.legalscale.core.document;
+
+import java.util.UUID;
+
+/**
+ * Naming rules shared by every path that writes a document into the bucket.
+ */
+final class StoredObjects {
+
+    private StoredObjects() {
+    }
+
+    static String originalName(String fileName) {
+        return (fileName != null && !fileName.isBlank()) ? fileName : "unnamed_file";
+    }
+
+    static String contentType(String contentType) {
+        return (contentType != null && !contentType.isBlank()) ? contentType : "application/octet-stream";
+    }
+
+    /* Replace special characters that might cause issues in object keys */
+    static String keyFor(String originalName) {
+        return UUID.randomUUID() + "_" + originalName.replaceAll("[^a-zA-Z0-9.-]", "_");
+    }
+
+    /*
+     * Content-addressed key, unique per stored generation of the bytes: once a
+     * blob's last reference goes, its after-commit delete must not remove an
+     * object a later upload of the same content has just PUT.
+     */
+    static String keyForDigest(String sha256Hex) {
+        return "sha256/" + sha256Hex + "/" + UUID.randomUUID();
+    }
+
+    /* Preview image derived from a document, owned by that document alone */
+    static String keyForPreview(Long documentId) {
+        return "previews/" + documentId + ".png";
+    }
+}
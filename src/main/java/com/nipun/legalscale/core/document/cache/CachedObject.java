@@ -0,0 +1,15 @@
+package com.nipun.legalscale.core.document.cache;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * A complete local copy of a stored object together with the validators the
+ * object had when it was fetched.
+ */
+public record CachedObject(
+        Path path,
+        long size,
+        String eTag,
+        Instant lastModified
+) {}
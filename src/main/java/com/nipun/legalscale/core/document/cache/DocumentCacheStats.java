@@ -0,0 +1,14 @@
+package com.nipun.legalscale.core.document.cache;
+
+public record DocumentCacheStats(
+        boolean enabled,
+        int entries,
+        long sizeBytes,
+        long maxSizeBytes,
+        long hits,
+        long misses,
+        long fills,
+        long evictions,
+        long integrityFailures,
+        long bytesServed
+) {}
@@ -0,0 +1,275 @@
+package com.nipun.legalscale.core.document.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Read-through disk cache for stored documents, bounded by total size and
+ * evicted least-recently-used first.
+ *
+ * Object keys never change content (they are either content-addressed or
+ * contain a random UUID), so entries never go stale and need no revalidation.
+ * Files are written to a temp name and moved into place only after their
+ * length, and for {@code sha256/} keys their digest, has been verified. The
+ * index lives in memory, so leftover cache files are removed on startup.
+ */
+@Slf4j
+@Component
+public class DocumentDiskCache {
+
+    private static final String CONTENT_ADDRESSED_PREFIX = "sha256/";
+    private static final Pattern CACHE_FILE = Pattern.compile("[0-9a-f]{64}(.*\\.part)?");
+
+    @Value("${app.document.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.document.cache.dir:${app.document.upload-dir}/cache}")
+    private Path dir;
+
+    @Value("${app.document.cache.max-size:2GB}")
+    private DataSize maxSize;
+
+    /* Larger objects are streamed straight through rather than evicting half the cache */
+    @Value("${app.document.cache.max-object-size:100MB}")
+    private DataSize maxObjectSize;
+
+    private final LinkedHashMap<String, CachedObject> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long sizeBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong fills = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong integrityFailures = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(dir);
+        // Only our own files: the directory may be shared with other data
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(p -> CACHE_FILE.matcher(p.getFileName().toString()).matches())
+                    .forEach(DocumentDiskCache::deleteQuietly);
+        }
+        log.info("Document disk cache at {} (max {})", dir, maxSize);
+    }
+
+    public boolean accepts(long contentLength) {
+        return enabled && contentLength <= maxObjectSize.toBytes() && contentLength <= maxSize.toBytes();
+    }
+
+    /**
+     * Returns the cached copy if there is an intact one. An entry whose file
+     * is missing or has the wrong length is dropped and counted as a miss.
+     */
+    public Optional<CachedObject> get(String objectKey) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CachedObject cached;
+        synchronized (this) {
+            cached = entries.get(fileName(objectKey));
+        }
+        if (cached == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        if (!intact(cached)) {
+            integrityFailures.incrementAndGet();
+            evict(objectKey);
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(cached);
+    }
+
+    /**
+     * Like {@link #get} but counts nothing, for metadata lookups that precede
+     * the actual read. A damaged entry is left for {@link #get} to drop.
+     */
+    public Optional<CachedObject> peek(String objectKey) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CachedObject cached;
+        synchronized (this) {
+            cached = entries.get(fileName(objectKey));
+        }
+        return cached != null && intact(cached) ? Optional.of(cached) : Optional.empty();
+    }
+
+    /**
+     * Opens a byte range of a cached object for serving and counts it. The
+     * file is opened here, so later evictions cannot break the response; if
+     * it was evicted since {@link #get} the entry is gone and this is empty.
+     */
+    public Optional<FileRegionResource> open(CachedObject cached, long start, long end) {
+        long count = end - start + 1;
+        try {
+            FileRegionResource region = FileRegionResource.open(cached.path(), start, count);
+            bytesServed.addAndGet(count);
+            return Optional.of(region);
+        } catch (IOException e) {
+            synchronized (this) {
+                if (entries.remove(cached.path().getFileName().toString(), cached)) {
+                    sizeBytes -= cached.size();
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copies {@code content} into the cache. The stream is always consumed;
+     * a truncated or corrupted copy is discarded and reported as an IOException.
+     */
+    public CachedObject fill(String objectKey, long contentLength, String eTag, Instant lastModified,
+            InputStream content) throws IOException {
+        String name = fileName(objectKey);
+        Path temp = Files.createTempFile(dir, name, ".part");
+        try {
+            MessageDigest digest = sha256();
+            long written;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                written = content.transferTo(out);
+            }
+            if (written != contentLength) {
+                throw integrityFailure(objectKey, "expected " + contentLength + " bytes, got " + written);
+            }
+            if (objectKey.startsWith(CONTENT_ADDRESSED_PREFIX)) {
+                String actual = HexFormat.of().formatHex(digest.digest());
+                // sha256/<hex>/<generation>
+                String expected = objectKey.substring(CONTENT_ADDRESSED_PREFIX.length()).split("/", 2)[0];
+                if (!expected.equals(actual)) {
+                    throw integrityFailure(objectKey, "digest mismatch");
+                }
+            }
+
+            Path target = dir.resolve(name);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            CachedObject cached = new CachedObject(target, written, eTag, lastModified);
+            synchronized (this) {
+                CachedObject previous = entries.put(name, cached);
+                if (previous != null) {
+                    sizeBytes -= previous.size();
+                }
+                sizeBytes += written;
+                evictOverflow(name);
+            }
+            fills.incrementAndGet();
+            return cached;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public void evict(String objectKey) {
+        if (!enabled) {
+            return;
+        }
+        CachedObject removed;
+        synchronized (this) {
+            removed = entries.remove(fileName(objectKey));
+            if (removed != null) {
+                sizeBytes -= removed.size();
+            }
+        }
+        if (removed != null) {
+            deleteQuietly(removed.path());
+        }
+    }
+
+    public synchronized DocumentCacheStats stats() {
+        return new DocumentCacheStats(
+                enabled,
+                entries.size(),
+                sizeBytes,
+                maxSize.toBytes(),
+                hits.get(),
+                misses.get(),
+                fills.get(),
+                evictions.get(),
+                integrityFailures.get(),
+                bytesServed.get());
+    }
+
+    // ─── Helpers
+    // ──────────────────────────────────────────────────────────────────
+
+    /** Drops least-recently-used entries, never the one just added. */
+    private void evictOverflow(String justAdded) {
+        Iterator<Map.Entry<String, CachedObject>> it = entries.entrySet().iterator();
+        while (sizeBytes > maxSize.toBytes() && it.hasNext()) {
+            Map.Entry<String, CachedObject> eldest = it.next();
+            if (eldest.getKey().equals(justAdded)) {
+                continue;
+            }
+            it.remove();
+            sizeBytes -= eldest.getValue().size();
+            evictions.incrementAndGet();
+            // Responses hold the file open from open(), so deleting under them is safe on POSIX filesystems
+            deleteQuietly(eldest.getValue().path());
+        }
+    }
+
+    private boolean intact(CachedObject cached) {
+        try {
+            return Files.size(cached.path()) == cached.size();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private IOException integrityFailure(String objectKey, String detail) {
+        integrityFailures.incrementAndGet();
+        return new IOException("Refusing to cache " + objectKey + ": " + detail);
+    }
+
+    /* Object keys can contain '/' and arbitrary characters; hash them into a flat, safe name */
+    private static String fileName(String objectKey) {
+        return HexFormat.of().formatHex(sha256().digest(objectKey.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached file {}: {}", path, e.getMessage());
+        }
+    }
+}
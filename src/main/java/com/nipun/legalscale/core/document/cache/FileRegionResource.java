@@ -0,0 +1,109 @@
+package com.nipun.legalscale.core.document.cache;
+
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A byte range of a local file, backed by a channel opened when the resource
+ * is created. Responses are written after the request thread has returned,
+ * so holding the handle from the start means a cache eviction or object
+ * delete in between cannot pull the file out from under them (deleting an
+ * open file only unlinks it on POSIX filesystems).
+ *
+ * The channel is read once, by {@link #transferTo(OutputStream)} or
+ * {@link #getInputStream()}, and closed when that finishes. Callers that only
+ * want the path must {@link #close()} it themselves.
+ */
+public class FileRegionResource extends FileSystemResource implements Closeable {
+
+    private final FileChannel channel;
+    private final long position;
+    private final long count;
+
+    private FileRegionResource(Path path, FileChannel channel, long position, long count) {
+        super(path);
+        this.channel = channel;
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Opens {@code count} bytes of {@code path} starting at {@code position}.
+     * Throws {@link java.nio.file.NoSuchFileException} if the file is gone.
+     */
+    public static FileRegionResource open(Path path, long position, long count) throws IOException {
+        return new FileRegionResource(path, FileChannel.open(path, StandardOpenOption.READ), position, count);
+    }
+
+    @Override
+    public long contentLength() {
+        return count;
+    }
+
+    /* Single-use, like InputStreamResource: the channel is closed after one read */
+    @Override
+    public boolean isOpen() {
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    public void transferTo(OutputStream out) throws IOException {
+        WritableByteChannel target = Channels.newChannel(out);
+        try (channel) {
+            long sent = 0;
+            while (sent < count) {
+                long n = channel.transferTo(position + sent, count - sent, target);
+                if (n <= 0) {
+                    throw new IOException("File ended early: " + getFile());
+                }
+                sent += n;
+            }
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return new InputStream() {
+            private long remaining = count;
+            private long next = position;
+
+            @Override
+            public int read() throws IOException {
+                byte[] one = new byte[1];
+                return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), next);
+                if (n > 0) {
+                    next += n;
+                    remaining -= n;
+                }
+                return n;
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.nipun.legalscale.core.document.dto;
+
+import java.time.Instant;
+
+/**
+ * Metadata of the stored object behind a document, read without fetching its
+ * bytes. Used to answer conditional and range requests.
+ */
+public record DocumentObjectInfo(
+        DocumentResponse document,
+        long contentLength,
+        String eTag,
+        Instant lastModified
+) {}
@@ -0,0 +1,18 @@
+package com.nipun.legalscale.core.document.dto;
+
+import com.nipun.legalscale.core.document.RenditionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rendition state of a document. {@code processedAt} is null while PENDING.
+ */
+public record DocumentRenditionResponse(
+        Long documentId,
+        RenditionStatus status,
+        boolean previewAvailable,
+        int extractedTextLength,
+        boolean textTruncated,
+        String failureReason,
+        LocalDateTime processedAt
+) {}
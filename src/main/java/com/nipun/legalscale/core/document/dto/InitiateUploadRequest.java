@@ -0,0 +1,8 @@
+package com.nipun.legalscale.core.document.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record InitiateUploadRequest(
+        @NotBlank(message = "File name is required") String fileName,
+        String contentType
+) {}
@@ -0,0 +1,16 @@
+package com.nipun.legalscale.core.document.dto;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The client must PUT the file to {@code uploadUrl} with {@code requiredHeaders}
+ * and then finalize {@code uploadId}.
+ */
+public record PresignedUploadResponse(
+        UUID uploadId,
+        String uploadUrl,
+        Map<String, String> requiredHeaders,
+        Instant expiresAt
+) {}
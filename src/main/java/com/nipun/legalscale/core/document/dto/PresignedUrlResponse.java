@@ -0,0 +1,8 @@
+package com.nipun.legalscale.core.document.dto;
+
+import java.time.Instant;
+
+public record PresignedUrlResponse(
+        String url,
+        Instant expiresAt
+) {}
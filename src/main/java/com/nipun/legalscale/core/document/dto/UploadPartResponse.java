@@ -0,0 +1,7 @@
+package com.nipun.legalscale.core.document.dto;
+
+public record UploadPartResponse(
+        int partNumber,
+        String eTag,
+        long size
+) {}
@@ -0,0 +1,19 @@
+package com.nipun.legalscale.core.document.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * State of a chunked upload. {@code uploadedParts} lets a client that lost its
+ * connection work out which parts it still has to send.
+ */
+public record UploadSessionResponse(
+        UUID sessionId,
+        String fileName,
+        String fileType,
+        long recommendedPartSize,
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt,
+        List<UploadPartResponse> uploadedParts
+) {}
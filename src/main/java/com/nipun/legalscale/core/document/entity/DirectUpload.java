@@ -0,0 +1,42 @@
+package com.nipun.legalscale.core.document.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An object key reserved for a client that uploads straight to S3 through a
+ * presigned PUT URL. It becomes a {@link Document} once the client finalizes,
+ * which it must do before {@code expiresAt}; rows left behind are swept along
+ * with whatever object the client managed to upload.
+ */
+@Entity
+@Table(name = "direct_uploads")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DirectUpload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private String fileType;
+
+    @Column(nullable = false)
+    private Long uploadedByUserId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -1,5 +1,6 @@
 package com.nipun.legalscale.core.document.entity;
 
+import com.nipun.legalscale.core.document.DocumentRenditionListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,6 +8,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "documents")
+@EntityListeners(DocumentRenditionListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,4 +35,13 @@ public class Document {
 
     @Column(nullable = false)
     private Long uploadedByUserId;
+
+    /**
+     * Shared content this row points at; {@code fileUrl} is the blob's object key.
+     * Null for documents that own their object outright (chunked and presigned
+     * uploads, and rows stored before deduplication).
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_id")
+    private DocumentBlob blob;
 }
@@ -0,0 +1,46 @@
+package com.nipun.legalscale.core.document.entity;
+
+import com.nipun.legalscale.core.document.RenditionStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * What the background pipeline derived from a {@link Document}: a small
+ * preview image kept in document storage under {@code previewKey}, and the
+ * plain text of the file. Kept out of {@code documents} so listing documents
+ * never drags the text along.
+ */
+@Entity
+@Table(name = "document_renditions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentRendition {
+
+    @Id
+    private Long documentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RenditionStatus status;
+
+    private String previewKey;
+
+    @Column(columnDefinition = "TEXT")
+    private String extractedText;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean textTruncated = false;
+
+    @Column(length = 1000)
+    private String failureReason;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime processedAt = LocalDateTime.now();
+}
@@ -0,0 +1,52 @@
+package com.nipun.legalscale.core.document.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A resumable chunked upload that has been opened against document storage
+ * but not yet completed. The parts themselves live in the storage backend
+ * under {@code storageUploadId}; this row only remembers where they go and
+ * who may add to them.
+ *
+ * Sessions that see no new part before {@code expiresAt} are aborted by a
+ * scheduled sweep, which also drops the parts held in storage.
+ */
+@Entity
+@Table(name = "upload_sessions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "s3_upload_id", nullable = false, length = 1024)
+    private String storageUploadId;
+
+    @Column(nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private String fileType;
+
+    @Column(nullable = false)
+    private Long uploadedByUserId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /* Pushed back on every part. Null only on sessions opened before expiry existed */
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,169 @@
+package com.nipun.legalscale.core.document.rendition;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Turns a stored file into a small PNG preview and plain text. Handles
+ * images (preview only), PDFs (first page and full text) and text files
+ * (text only). Stateless; safe to call from several workers at once.
+ */
+@Component
+public class DocumentRenderer {
+
+    private static final MediaType PDF = MediaType.APPLICATION_PDF;
+
+    /* Longest edge of a preview, in pixels */
+    @Value("${app.document.rendition.preview-size:256}")
+    private int previewSize;
+
+    /* Images with more pixels than this are refused before any decoding */
+    @Value("${app.document.rendition.max-image-pixels:100000000}")
+    private long maxImagePixels;
+
+    @Value("${app.document.rendition.max-text-chars:200000}")
+    private int maxTextChars;
+
+    public boolean supports(MediaType type) {
+        return PDF.includes(type) || "image".equals(type.getType()) || "text".equals(type.getType());
+    }
+
+    /**
+     * Returns null when the file turns out not to be readable as {@code type},
+     * for example an image format ImageIO has no reader for.
+     */
+    public RenderedDocument render(Path file, MediaType type) throws IOException {
+        if (PDF.includes(type)) {
+            return renderPdf(file);
+        }
+        if ("image".equals(type.getType())) {
+            BufferedImage image = readImage(file);
+            return image == null ? null : new RenderedDocument(toPng(scale(image)), null, false);
+        }
+        if ("text".equals(type.getType())) {
+            return readText(file, type);
+        }
+        return null;
+    }
+
+    // ─── Formats
+    // ──────────────────────────────────────────────────────────────────
+
+    private RenderedDocument renderPdf(Path file) throws IOException {
+        // Spill parsing buffers to temp files so a large PDF does not sit on the heap
+        try (PDDocument pdf = Loader.loadPDF(file.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            byte[] preview = null;
+            if (pdf.getNumberOfPages() > 0) {
+                PDRectangle page = pdf.getPage(0).getMediaBox();
+                float scale = previewSize / Math.max(page.getWidth(), page.getHeight());
+                BufferedImage image = new PDFRenderer(pdf).renderImage(0, Math.min(scale, 1f), ImageType.RGB);
+                preview = toPng(image);
+            }
+            String text = new PDFTextStripper().getText(pdf);
+            return withText(preview, text);
+        }
+    }
+
+    private RenderedDocument readText(Path file, MediaType type) throws IOException {
+        var charset = type.getCharset() != null ? type.getCharset() : StandardCharsets.UTF_8;
+        char[] buffer = new char[maxTextChars + 1];
+        int read = 0;
+        try (Reader reader = Files.newBufferedReader(file, charset)) {
+            int n;
+            while (read < buffer.length && (n = reader.read(buffer, read, buffer.length - read)) != -1) {
+                read += n;
+            }
+        }
+        return withText(null, new String(buffer, 0, read));
+    }
+
+    private RenderedDocument withText(byte[] preview, String text) {
+        String trimmed = text.strip();
+        if (trimmed.length() > maxTextChars) {
+            return new RenderedDocument(preview, trimmed.substring(0, maxTextChars), true);
+        }
+        return new RenderedDocument(preview, trimmed.isEmpty() ? null : trimmed, false);
+    }
+
+    // ─── Images
+    // ───────────────────────────────────────────────────────────────────
+
+    /**
+     * Decodes only every n-th row and column, so the raster in memory is at
+     * most about twice the preview size whatever the image claims to be. The
+     * dimensions come from the header, before any pixel data is read.
+     */
+    private BufferedImage readImage(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxImagePixels) {
+                    throw new IOException("Image is " + width + "x" + height + " pixels, over the "
+                            + maxImagePixels + " pixel limit");
+                }
+                int step = Math.max(1, Math.max(width, height) / previewSize);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** Fits the image into previewSize on a white background; never upscales. */
+    private BufferedImage scale(BufferedImage source) {
+        double factor = Math.min(1.0, (double) previewSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * factor));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * factor));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
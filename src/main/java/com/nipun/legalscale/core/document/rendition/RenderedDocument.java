@@ -0,0 +1,11 @@
+package com.nipun.legalscale.core.document.rendition;
+
+/**
+ * Output of {@link DocumentRenderer}. Either part may be null when the format
+ * has no sensible preview or no text.
+ */
+public record RenderedDocument(
+        byte[] previewPng,
+        String text,
+        boolean textTruncated
+) {}
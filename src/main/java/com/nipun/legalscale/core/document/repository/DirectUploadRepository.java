@@ -0,0 +1,14 @@
+package com.nipun.legalscale.core.document.repository;
+
+import com.nipun.legalscale.core.document.entity.DirectUpload;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface DirectUploadRepository extends JpaRepository<DirectUpload, UUID> {
+
+    List<DirectUpload> findByExpiresAtBeforeOrderByExpiresAt(LocalDateTime cutoff, Pageable pageable);
+}
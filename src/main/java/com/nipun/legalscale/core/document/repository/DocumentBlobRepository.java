@@ -0,0 +1,36 @@
+package com.nipun.legalscale.core.document.repository;
+
+import com.nipun.legalscale.core.document.entity.DocumentBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface DocumentBlobRepository extends JpaRepository<DocumentBlob, Long> {
+
+    Optional<DocumentBlob> findBySha256(String sha256);
+
+    /**
+     * Atomic reference bump; returns 0 when no blob with that digest exists.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.refCount = b.refCount + 1 WHERE b.sha256 = :sha256")
+    int incrementRefCount(@Param("sha256") String sha256);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.refCount = b.refCount - 1 WHERE b.id = :id")
+    int decrementRefCount(@Param("id") Long id);
+
+    /**
+     * Removes the row only if nothing references it any more; returns 1 if it did.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DocumentBlob b WHERE b.id = :id AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+}
@@ -0,0 +1,20 @@
+package com.nipun.legalscale.core.document.repository;
+
+import com.nipun.legalscale.core.document.entity.DocumentRendition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface DocumentRenditionRepository extends JpaRepository<DocumentRendition, Long> {
+
+    /**
+     * Renditions whose document no longer exists. There is no foreign key, so
+     * anything that removes document rows without going through
+     * {@code DocumentService.delete} leaves these behind.
+     */
+    @Query("SELECT r FROM DocumentRendition r WHERE NOT EXISTS "
+            + "(SELECT 1 FROM Document d WHERE d.id = r.documentId) ORDER BY r.documentId")
+    List<DocumentRendition> findOrphans(Pageable pageable);
+}
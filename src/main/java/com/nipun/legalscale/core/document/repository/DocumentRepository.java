@@ -1,7 +1,21 @@
 package com.nipun.legalscale.core.document.repository;
 
 import com.nipun.legalscale.core.document.entity.Document;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface DocumentRepository extends JpaRepository<Document, Long> {
+
+    /**
+     * Documents uploaded before {@code before} that the rendition pipeline has
+     * not produced anything for, oldest first.
+     */
+    @Query("SELECT d.id FROM Document d WHERE d.uploadDate < :before AND NOT EXISTS "
+            + "(SELECT 1 FROM DocumentRendition r WHERE r.documentId = d.id) ORDER BY d.id")
+    List<Long> findIdsWithoutRendition(@Param("before") LocalDateTime before, Pageable pageable);
 }
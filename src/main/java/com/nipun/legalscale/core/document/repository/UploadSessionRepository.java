@@ -0,0 +1,36 @@
+package com.nipun.legalscale.core.document.repository;
+
+import com.nipun.legalscale.core.document.entity.UploadSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+
+    /* An update rather than a save, so a session completed meanwhile is not written back */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.expiresAt = :expiresAt WHERE s.id = :id")
+    int extendExpiry(@Param("id") UUID id, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Sessions past their expiry. Rows without one are judged by when they
+     * were opened, against {@code openedBefore}.
+     */
+    @Query("""
+            SELECT s FROM UploadSession s
+            WHERE s.expiresAt < :now
+               OR (s.expiresAt IS NULL AND s.createdAt < :openedBefore)
+            ORDER BY s.createdAt
+            """)
+    List<UploadSession> findExpired(@Param("now") LocalDateTime now,
+                                    @Param("openedBefore") LocalDateTime openedBefore,
+                                    Pageable pageable);
+}
@@ -0,0 +1,55 @@
+package com.nipun.legalscale.core.document.storage;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Where document bytes live. Exactly one implementation is active, chosen by
+ * {@code app.document.storage} ({@code s3} or {@code local}). Keys are opaque
+ * strings that may contain '/'; objects are immutable once written.
+ *
+ * Multipart uploads follow S3 semantics: parts are numbered from 1, may
+ * arrive in any order and are stitched together on completion.
+ */
+public interface DocumentStorage {
+
+    /**
+     * Writes a whole object. {@code sha256}, when given, lets the backend
+     * verify the bytes it received.
+     */
+    void put(String key, String contentType, InputStream content, long contentLength, byte[] sha256);
+
+    Optional<StoredObjectMetadata> head(String key);
+
+    StoredObjectContent get(String key);
+
+    /** Bytes {@code start..end} inclusive. */
+    StoredObjectContent get(String key, long start, long end);
+
+    void delete(String key);
+
+    String createMultipart(String key, String contentType);
+
+    /** Returns the part's ETag. */
+    String uploadPart(String key, String uploadId, int partNumber, InputStream content, long contentLength);
+
+    /** Parts received so far, ordered by part number. */
+    List<StoredPart> listParts(String key, String uploadId);
+
+    void completeMultipart(String key, String uploadId, List<StoredPart> parts);
+
+    /** Aborting an upload that no longer exists is a no-op. */
+    void abortMultipart(String key, String uploadId);
+
+    /**
+     * True when objects already sit on local disk, in which case a disk cache
+     * in front of the backend would only duplicate them.
+     */
+    default boolean isLocal() {
+        return false;
+    }
+
+    /** Short description for startup logging. */
+    String describe();
+}
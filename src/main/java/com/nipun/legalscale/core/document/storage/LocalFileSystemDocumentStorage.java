@@ -0,0 +1,322 @@
+package com.nipun.legalscale.core.document.storage;
+
+import com.nipun.legalscale.core.document.cache.FileRegionResource;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Stores documents as plain files under {@code app.document.upload-dir}.
+ *
+ * Writes land in a temp file next to the target and are moved into place
+ * atomically once their length (and digest, when known) checks out, so a
+ * reader never sees a partial object. Reads are returned as
+ * {@link FileRegionResource}s over an already-open channel.
+ * Multipart parts are kept under {@code .multipart/<uploadId>/} until the
+ * upload completes.
+ */
+@Component
+@ConditionalOnProperty(name = "app.document.storage", havingValue = "local")
+public class LocalFileSystemDocumentStorage implements DocumentStorage {
+
+    private static final String MULTIPART_DIR = ".multipart";
+    private static final Pattern PART_FILE = Pattern.compile("(\\d{5})-([0-9a-f]{32})\\.part");
+
+    @Value("${app.document.upload-dir}")
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = root.toAbsolutePath().normalize();
+        Files.createDirectories(root.resolve(MULTIPART_DIR));
+    }
+
+    @Override
+    public void put(String key, String contentType, InputStream content, long contentLength, byte[] sha256) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), ".upload", ".tmp");
+            try {
+                MessageDigest digest = newDigest("SHA-256");
+                long written;
+                try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                    written = content.transferTo(out);
+                }
+                if (written != contentLength) {
+                    throw new IOException("Expected " + contentLength + " bytes for " + key + ", got " + written);
+                }
+                if (sha256 != null && !Arrays.equals(sha256, digest.digest())) {
+                    throw new IOException("SHA-256 mismatch for " + key);
+                }
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<StoredObjectMetadata> head(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(metadata(path));
+    }
+
+    @Override
+    public StoredObjectContent get(String key) {
+        Path path = existing(key);
+        StoredObjectMetadata metadata = metadata(path);
+        return new StoredObjectContent(region(key, path, 0, metadata.contentLength()), metadata);
+    }
+
+    @Override
+    public StoredObjectContent get(String key, long start, long end) {
+        Path path = existing(key);
+        StoredObjectMetadata metadata = metadata(path);
+        return new StoredObjectContent(region(key, path, start, end - start + 1), metadata);
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete " + key, e);
+        }
+    }
+
+    // ─── Multipart
+    // ────────────────────────────────────────────────────────────────
+
+    @Override
+    public String createMultipart(String key, String contentType) {
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(partsDir(uploadId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start multipart upload for " + key, e);
+        }
+        return uploadId;
+    }
+
+    /**
+     * Parts are named after their number and MD5 (the same ETag S3 would give
+     * a single-part upload), so a retried part simply replaces the old file.
+     */
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, InputStream content, long contentLength) {
+        Path dir = partsDir(uploadId);
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("Unknown multipart upload: " + uploadId);
+        }
+        try {
+            Path temp = Files.createTempFile(dir, ".part", ".tmp");
+            try {
+                MessageDigest md5 = newDigest("MD5");
+                long written;
+                try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), md5)) {
+                    written = content.transferTo(out);
+                }
+                if (written != contentLength) {
+                    throw new IOException("Expected " + contentLength + " bytes for part " + partNumber
+                            + ", got " + written);
+                }
+                String eTag = HexFormat.of().formatHex(md5.digest());
+                try (Stream<Path> previous = Files.list(dir)) {
+                    for (Path p : previous.filter(p -> isPart(p, partNumber)).toList()) {
+                        Files.deleteIfExists(p);
+                    }
+                }
+                Files.move(temp, dir.resolve(String.format("%05d-%s.part", partNumber, eTag)),
+                        StandardCopyOption.ATOMIC_MOVE);
+                return "\"" + eTag + "\"";
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store part " + partNumber + " of " + key, e);
+        }
+    }
+
+    @Override
+    public List<StoredPart> listParts(String key, String uploadId) {
+        try (Stream<Path> files = Files.list(partsDir(uploadId))) {
+            return files.map(this::toPart)
+                    .flatMap(Optional::stream)
+                    .sorted((a, b) -> Integer.compare(a.partNumber(), b.partNumber()))
+                    .toList();
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("Unknown multipart upload: " + uploadId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list parts of " + key, e);
+        }
+    }
+
+    /**
+     * Concatenates the parts with FileChannel.transferTo into a temp file and
+     * moves the result into place.
+     */
+    @Override
+    public void completeMultipart(String key, String uploadId, List<StoredPart> parts) {
+        Path dir = partsDir(uploadId);
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), ".upload", ".tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (StoredPart part : parts) {
+                    String eTag = part.eTag().replace("\"", "");
+                    Path file = dir.resolve(String.format("%05d-%s.part", part.partNumber(), eTag));
+                    if (!Files.isRegularFile(file)) {
+                        throw new IllegalArgumentException("Part " + part.partNumber() + " with ETag "
+                                + part.eTag() + " was not uploaded");
+                    }
+                    try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                        long size = in.size();
+                        long sent = 0;
+                        while (sent < size) {
+                            sent += in.transferTo(sent, size - sent, out);
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            FileSystemUtils.deleteRecursively(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to complete multipart upload for " + key, e);
+        }
+    }
+
+    @Override
+    public void abortMultipart(String key, String uploadId) {
+        try {
+            FileSystemUtils.deleteRecursively(partsDir(uploadId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to abort multipart upload for " + key, e);
+        }
+    }
+
+    @Override
+    public boolean isLocal() {
+        return true;
+    }
+
+    @Override
+    public String describe() {
+        return "local directory " + root;
+    }
+
+    // ─── Helpers
+    // ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Keys map onto paths below the root; anything escaping it, or reaching a
+     * dot-named entry (multipart parts, in-flight temp files), is rejected.
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        for (Path segment : root.relativize(path)) {
+            if (segment.toString().startsWith(".")) {
+                throw new IllegalArgumentException("Invalid storage key: " + key);
+            }
+        }
+        return path;
+    }
+
+    private Path existing(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            throw new UncheckedIOException(new NoSuchFileException("Stored object is missing: " + key));
+        }
+        return path;
+    }
+
+    /* Opened now, so a delete before the response is written cannot break it */
+    private FileRegionResource region(String key, Path path, long position, long count) {
+        try {
+            return FileRegionResource.open(path, position, count);
+        } catch (NoSuchFileException e) {
+            throw new UncheckedIOException(new NoSuchFileException("Stored object is missing: " + key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path partsDir(String uploadId) {
+        // Upload ids are UUIDs we issued; parsing rejects anything path-like
+        return root.resolve(MULTIPART_DIR).resolve(UUID.fromString(uploadId).toString());
+    }
+
+    /** Same shape as an nginx ETag: size and modification time in hex. */
+    private StoredObjectMetadata metadata(Path path) {
+        try {
+            long size = Files.size(path);
+            var modified = Files.getLastModifiedTime(path).toInstant();
+            return new StoredObjectMetadata(size,
+                    "\"" + Long.toHexString(size) + "-" + Long.toHexString(modified.toEpochMilli()) + "\"",
+                    modified);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isPart(Path file, int partNumber) {
+        return toPart(file).map(p -> p.partNumber() == partNumber).orElse(false);
+    }
+
+    private Optional<StoredPart> toPart(Path file) {
+        Matcher m = PART_FILE.matcher(file.getFileName().toString());
+        if (!m.matches()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new StoredPart(Integer.parseInt(m.group(1)), "\"" + m.group(2) + "\"",
+                    Files.size(file)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(algorithm + " is not available", e);
+        }
+    }
+}
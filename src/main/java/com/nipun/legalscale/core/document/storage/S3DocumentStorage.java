@@ -0,0 +1,173 @@
+package com.nipun.legalscale.core.document.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.document.storage", havingValue = "s3", matchIfMissing = true)
+public class S3DocumentStorage implements DocumentStorage {
+
+    private final S3Client s3Client;
+
+    @Value("${app.aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Override
+    public void put(String key, String contentType, InputStream content, long contentLength, byte[] sha256) {
+        PutObjectRequest.Builder request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType);
+        if (sha256 != null) {
+            request.checksumSHA256(Base64.getEncoder().encodeToString(sha256));
+        }
+        s3Client.putObject(request.build(), RequestBody.fromInputStream(content, contentLength));
+    }
+
+    @Override
+    public Optional<StoredObjectMetadata> head(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return Optional.of(new StoredObjectMetadata(head.contentLength(), head.eTag(), head.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public StoredObjectContent get(String key) {
+        return open(key, null);
+    }
+
+    @Override
+    public StoredObjectContent get(String key, long start, long end) {
+        return open(key, "bytes=" + start + "-" + end);
+    }
+
+    private StoredObjectContent open(String key, String range) {
+        ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range(range)
+                .build());
+        GetObjectResponse response = s3Object.response();
+        // For ranged reads Content-Length is the range; the full size is after the '/'
+        long totalLength = response.contentRange() != null
+                ? Long.parseLong(response.contentRange().substring(response.contentRange().lastIndexOf('/') + 1))
+                : response.contentLength();
+        return new StoredObjectContent(new InputStreamResource(s3Object),
+                new StoredObjectMetadata(totalLength, response.eTag(), response.lastModified()));
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    // ─── Multipart
+    // ────────────────────────────────────────────────────────────────
+
+    @Override
+    public String createMultipart(String key, String contentType) {
+        return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+    }
+
+    /**
+     * The stream is handed to the SDK with its known length, so the part is
+     * forwarded as it is read rather than buffered.
+     */
+    @Override
+    public String uploadPart(String key, String uploadId, int partNumber, InputStream content, long contentLength) {
+        return s3Client.uploadPart(UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(contentLength)
+                .build(), RequestBody.fromInputStream(content, contentLength)).eTag();
+    }
+
+    @Override
+    public List<StoredPart> listParts(String key, String uploadId) {
+        return s3Client.listPartsPaginator(ListPartsRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .build())
+                .parts().stream()
+                .sorted(Comparator.comparing(Part::partNumber))
+                .map(p -> new StoredPart(p.partNumber(), p.eTag(), p.size()))
+                .toList();
+    }
+
+    @Override
+    public void completeMultipart(String key, String uploadId, List<StoredPart> parts) {
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder()
+                        .parts(parts.stream()
+                                .map(p -> CompletedPart.builder().partNumber(p.partNumber()).eTag(p.eTag()).build())
+                                .toList())
+                        .build())
+                .build());
+    }
+
+    @Override
+    public void abortMultipart(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (NoSuchUploadException e) {
+            // Already completed or aborted
+        }
+    }
+
+    @Override
+    public String describe() {
+        return "S3 bucket " + bucketName;
+    }
+}
@@ -0,0 +1,12 @@
+package com.nipun.legalscale.core.document.storage;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * An opened object (or range of one). {@code metadata} describes the whole
+ * object, not just the range.
+ */
+public record StoredObjectContent(
+        Resource content,
+        StoredObjectMetadata metadata
+) {}
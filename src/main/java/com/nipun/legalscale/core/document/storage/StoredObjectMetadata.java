@@ -0,0 +1,9 @@
+package com.nipun.legalscale.core.document.storage;
+
+import java.time.Instant;
+
+public record StoredObjectMetadata(
+        long contentLength,
+        String eTag,
+        Instant lastModified
+) {}
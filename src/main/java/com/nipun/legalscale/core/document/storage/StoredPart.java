@@ -0,0 +1,7 @@
+package com.nipun.legalscale.core.document.storage;
+
+public record StoredPart(
+        int partNumber,
+        String eTag,
+        long size
+) {}
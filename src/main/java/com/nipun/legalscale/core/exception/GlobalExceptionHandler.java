@@ -1,6 +1,7 @@
 package com.nipun.legalscale.core.exception;
 
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -32,6 +33,16 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, "Conflict", ex.getMessage());
     }
 
+    /**
+     * Handles concurrent updates caught by a @Version check: another request
+     * changed the record first, so the client should reload and retry.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        return buildResponse(HttpStatus.CONFLICT, "Conflict",
+                "This record was changed by another request. Reload it and try again.");
+    }
+
     /**
      * Handles 403s thrown explicitly in service logic
      * (e.g. officer trying to act on a case not assigned to them).
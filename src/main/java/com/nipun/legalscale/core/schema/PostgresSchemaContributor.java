@@ -0,0 +1,26 @@
+package com.nipun.legalscale.core.schema;
+
+import java.util.List;
+
+/**
+ * Schema that Hibernate cannot declare (tsvector columns, GIN or expression
+ * indexes, upsert targets) and that only makes sense on PostgreSQL.
+ * Implemented by the feature that needs it; {@link PostgresSchemaInitializer}
+ * runs the statements once the app is up.
+ */
+public interface PostgresSchemaContributor {
+
+    /** What the statements are for, as it should read in the startup log */
+    String description();
+
+    /** Idempotent DDL ({@code CREATE ... IF NOT EXISTS}), run in order */
+    List<String> statements();
+
+    /**
+     * Called once every statement has succeeded. Never called when the
+     * database is not PostgreSQL or a statement failed, so a feature that
+     * starts disabled stays disabled.
+     */
+    default void schemaReady() {
+    }
+}
@@ -0,0 +1,50 @@
+package com.nipun.legalscale.core.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Applies every {@link PostgresSchemaContributor} once the app is up, after
+ * Hibernate has created the tables they refer to. On other databases nothing
+ * is run. A failing statement disables only the contributor it belongs to.
+ *
+ * Extensions are not installed from here; the app's database user usually
+ * lacks the privilege. They are a provisioning prerequisite (see
+ * DOCUMENTATION.md).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostgresSchemaInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PostgresSchemaContributor> contributors;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        String product = jdbcTemplate
+                .execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            contributors.forEach(contributor ->
+                    log.info("{} disabled: it needs PostgreSQL, found {}", contributor.description(), product));
+            return;
+        }
+        for (PostgresSchemaContributor contributor : contributors) {
+            try {
+                contributor.statements().forEach(jdbcTemplate::execute);
+            } catch (DataAccessException e) {
+                log.warn("{} disabled: {}", contributor.description(), e.getMessage());
+                continue;
+            }
+            contributor.schemaReady();
+        }
+    }
+}
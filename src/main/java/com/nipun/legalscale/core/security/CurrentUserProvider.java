@@ -0,0 +1,37 @@
+package com.nipun.legalscale.core.security;
+
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the {@link UserEntity} behind the current request.
+ *
+ * JwtAuthFilter already places the loaded user in the SecurityContext as the
+ * principal, so services reuse it instead of querying the users table again.
+ * Any other kind of authentication falls back to {@link PrincipalCache}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserProvider {
+
+    private final PrincipalCache principalCache;
+
+    public UserEntity getCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) {
+            throw new IllegalStateException("No authenticated user in the current request");
+        }
+        if (auth.getPrincipal() instanceof UserEntity user) {
+            return user;
+        }
+        try {
+            return principalCache.get(auth.getName());
+        } catch (UsernameNotFoundException e) {
+            throw new IllegalStateException("Authenticated user not found");
+        }
+    }
+}
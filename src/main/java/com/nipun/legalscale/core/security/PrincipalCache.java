@@ -0,0 +1,92 @@
+package com.nipun.legalscale.core.security;
+
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import com.nipun.legalscale.feature.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, TTL-based cache of authenticated users keyed by email, so that
+ * validating a JWT does not cost a database round trip on every request.
+ *
+ * Entries are evicted least-recently-used once {@code max-size} is reached
+ * and reloaded after {@code ttl}. Anything that changes what a principal is
+ * allowed to do (ban, role change) must call {@link #invalidate(String)}; the
+ * TTL bounds staleness on other application nodes.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<String, Entry> entries;
+
+    /* Bumped by every invalidation (under the entries lock) so a load that raced one is not kept */
+    private long generation;
+
+    public PrincipalCache(UserRepository userRepository,
+            @Value("${app.security.principal-cache.max-size:10000}") int maxSize,
+            @Value("${app.security.principal-cache.ttl:PT5M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > PrincipalCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached user for {@code email}, loading it from the database
+     * when absent or expired. A load that overlaps an invalidation is returned
+     * but not cached, since it may have read the row before the change.
+     */
+    public UserEntity get(String email) {
+        long now = System.nanoTime();
+        long loadedGeneration;
+        synchronized (entries) {
+            Entry cached = entries.get(email);
+            if (cached != null && now - cached.loadedAt() < ttlNanos) {
+                return cached.user();
+            }
+            loadedGeneration = generation;
+        }
+
+        // Load outside the lock so a slow query does not block other requests
+        UserEntity user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        synchronized (entries) {
+            if (generation == loadedGeneration) {
+                entries.put(email, new Entry(user, now));
+            }
+        }
+        return user;
+    }
+
+    public void invalidate(String email) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(email);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    private record Entry(UserEntity user, long loadedAt) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.nipun.legalscale.core.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Undoes side effects that happened outside the current transaction, such as
+ * objects written to storage, when that transaction rolls back and nothing
+ * will ever refer to them.
+ */
+public final class AfterRollback {
+
+    private AfterRollback() {
+    }
+
+    /**
+     * Runs {@code action} once the current transaction has rolled back; it is
+     * skipped on commit and when there is no transaction. The transaction is
+     * already over by then, so database work inside {@code action} needs a
+     * transaction of its own (REQUIRES_NEW).
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -1,26 +1,36 @@
 package com.nipun.legalscale.feature.admin;
 
+import com.nipun.legalscale.core.document.cache.DocumentCacheStats;
+import com.nipun.legalscale.core.document.cache.DocumentDiskCache;
 import com.nipun.legalscale.feature.user.UserService;
 import com.nipun.legalscale.feature.admin.dto.ChangeRoleRequest;
-import com.nipun.legalscale.feature.admin.dto.UserDetailsResponse;
+import com.nipun.legalscale.feature.admin.dto.UserPageResponse;
+import com.nipun.legalscale.feature.auth.enums.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
 public class AdminController {
 
     private final UserService adminService;
+    private final DocumentDiskCache documentDiskCache;
 
+    /**
+     * Keyset-paginated user directory ordered by name. Optional filters: role,
+     * q (name or email prefix). Pass the previous page's nextCursor as cursor.
+     */
     @GetMapping
     @PreAuthorize("hasAnyRole('SYSTEM_ADMIN', 'MANAGEMENT')")
-    public ResponseEntity<List<UserDetailsResponse>> getAllUsers() {
-        return ResponseEntity.ok(adminService.getAllUsers());
+    public ResponseEntity<UserPageResponse> getUsers(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "25") int size) {
+        return ResponseEntity.ok(adminService.getUserDirectory(role, q, cursor, size));
     }
 
     @GetMapping("/role-counts")
@@ -29,6 +39,12 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getRoleCounts());
     }
 
+    @GetMapping("/document-cache")
+    @PreAuthorize("hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<DocumentCacheStats> getDocumentCacheStats() {
+        return ResponseEntity.ok(documentDiskCache.stats());
+    }
+
     @PatchMapping("/change-role")
     @PreAuthorize("hasRole('SYSTEM_ADMIN')")
     public ResponseEntity<String> changeUserRole(@RequestBody ChangeRoleRequest request) {
@@ -0,0 +1,19 @@
+package com.nipun.legalscale.feature.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of the user directory, ordered by full name.
+ * Pass {@code nextCursor} back as the {@code cursor} parameter to fetch the
+ * following page; it is null once the last page has been reached.
+ */
+@Data
+@Builder
+public class UserPageResponse {
+
+    private List<UserDetailsResponse> items;
+    private String nextCursor;
+}
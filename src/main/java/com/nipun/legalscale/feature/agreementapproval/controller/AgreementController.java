@@ -2,15 +2,25 @@ package com.nipun.legalscale.feature.agreementapproval.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryAlertResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementPageResponse;
 import com.nipun.legalscale.feature.agreementapproval.dto.AgreementResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementSearchFilter;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementStatusEventResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementVersionDiffResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementSummaryResponse;
 import com.nipun.legalscale.feature.agreementapproval.dto.CreateAgreementRequest;
 import com.nipun.legalscale.feature.agreementapproval.service.AgreementService;
+import com.nipun.legalscale.feature.agreementapproval.service.AgreementVersionDiffService;
 import com.nipun.legalscale.feature.agreementapproval.dto.ReviewAgreementRequest;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +36,7 @@ import java.util.Set;
 public class AgreementController {
 
     private final AgreementService agreementService;
+    private final AgreementVersionDiffService versionDiffService;
     private final ObjectMapper objectMapper;
     private final Validator validator;
 
@@ -52,12 +63,46 @@ public class AgreementController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<AgreementResponse>> getAllAgreements() {
+    public ResponseEntity<List<AgreementSummaryResponse>> getAllAgreements() {
         return ResponseEntity.ok(agreementService.getAllAgreements());
     }
 
+    /**
+     * GET /api/agreements/search?page=&size=&sort=endDate,asc
+     * Paginated agreement search, newest first unless a sort is given.
+     * Optional filters: status (repeatable), type, minValue / maxValue,
+     * startFrom / startTo, endFrom / endTo (ISO dates, inclusive), parties
+     * (substring), createdById, reviewerId, approverId, linkedCaseId.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<AgreementPageResponse> searchAgreements(
+            @ModelAttribute AgreementSearchFilter filter,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(agreementService.searchAgreements(filter, pageable));
+    }
+
+    /**
+     * GET /api/agreements/expiring
+     * Approved and executed agreements ending soon, bucketed by days left, as
+     * of the last scheduled expiry scan.
+     */
+    @GetMapping("/expiring")
+    public ResponseEntity<AgreementExpiryResponse> getExpiringAgreements() {
+        return ResponseEntity.ok(agreementService.getExpiringAgreements());
+    }
+
+    /**
+     * GET /api/agreements/expiry-alerts?size=
+     * Renewal alerts for the current user's agreements, newest first.
+     */
+    @GetMapping("/expiry-alerts")
+    public ResponseEntity<List<AgreementExpiryAlertResponse>> getMyExpiryAlerts(
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(agreementService.getMyExpiryAlerts(size));
+    }
+
     @GetMapping("/my")
-    public ResponseEntity<List<AgreementResponse>> getMyAgreements() {
+    public ResponseEntity<List<AgreementSummaryResponse>> getMyAgreements() {
         return ResponseEntity.ok(agreementService.getMyAgreements());
     }
 
@@ -87,6 +132,25 @@ public class AgreementController {
         return ResponseEntity.ok(agreementService.getAgreementById(id));
     }
 
+    /**
+     * GET /api/agreements/{id}/history
+     * The agreement's status transitions, oldest first.
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<AgreementStatusEventResponse>> getStatusHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(agreementService.getStatusHistory(id));
+    }
+
+    /**
+     * GET /api/agreements/{id}/versions/{a}/diff/{b}
+     * Line diff of the extracted text from version a to version b.
+     */
+    @GetMapping("/{id}/versions/{a}/diff/{b}")
+    public ResponseEntity<AgreementVersionDiffResponse> getVersionDiff(@PathVariable Long id,
+            @PathVariable("a") int fromVersion, @PathVariable("b") int toVersion) {
+        return ResponseEntity.ok(versionDiffService.getDiff(id, fromVersion, toVersion));
+    }
+
     @PostMapping("/{id}/comments")
     public ResponseEntity<AgreementResponse> addComment(
             @PathVariable Long id,
@@ -0,0 +1,19 @@
+package com.nipun.legalscale.feature.agreementapproval.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class AgreementExpiryAlertResponse {
+
+    private Long id;
+    private Long agreementId;
+    private String agreementTitle;
+    private LocalDate endDate;
+    private Integer daysRemaining;
+    private LocalDateTime createdAt;
+}
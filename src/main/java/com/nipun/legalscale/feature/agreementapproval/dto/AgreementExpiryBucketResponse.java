@@ -0,0 +1,19 @@
+package com.nipun.legalscale.feature.agreementapproval.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Agreements ending after the previous bucket's limit and within
+ * {@code withinDays} days of the scan, soonest first.
+ */
+@Data
+@Builder
+public class AgreementExpiryBucketResponse {
+
+    private int withinDays;
+    private int count;
+    private List<AgreementExpiryItemResponse> agreements;
+}
@@ -0,0 +1,21 @@
+package com.nipun.legalscale.feature.agreementapproval.dto;
+
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class AgreementExpiryItemResponse {
+
+    private Long id;
+    private String title;
+    private String parties;
+    private AgreementStatus status;
+    private LocalDate endDate;
+
+    /** Days from the scan date to endDate; 0 means it ends that day */
+    private long daysRemaining;
+}
@@ -0,0 +1,19 @@
+package com.nipun.legalscale.feature.agreementapproval.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Upcoming expirations as of the last scan, grouped into buckets of
+ * increasing distance.
+ */
+@Data
+@Builder
+public class AgreementExpiryResponse {
+
+    private LocalDateTime scannedAt;
+    private List<AgreementExpiryBucketResponse> buckets;
+}
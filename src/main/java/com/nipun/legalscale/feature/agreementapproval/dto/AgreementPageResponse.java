@@ -0,0 +1,21 @@
+package com.nipun.legalscale.feature.agreementapproval.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of agreement search results. No total is computed, since counting
+ * every match would cost more than the page itself; {@code hasNext} says
+ * whether another page exists.
+ */
+@Data
+@Builder
+public class AgreementPageResponse {
+
+    private List<AgreementSummaryResponse> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,50 @@
+package com.nipun.legalscale.feature.agreementapproval.dto;
+
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Optional server-side filters for the agreement search. Every field may be
+ * left null; date and value bounds are inclusive.
+ */
+@Data
+public class AgreementSearchFilter {
+
+    /** Matches any of the given statuses; repeat the parameter to pass several */
+    private List<AgreementStatus> status;
+
+    private AgreementType type;
+
+    private BigDecimal minValue;
+
+    private BigDecimal maxValue;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endTo;
+
+    /** Case-insensitive substring of the parties text */
+    private String parties;
+
+    private Long createdById;
+
+    private Long reviewerId;
+
+    private Long approverId;
+
+    private Long linkedCaseId;
+}
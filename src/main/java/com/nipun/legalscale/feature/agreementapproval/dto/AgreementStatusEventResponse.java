@@ -0,0 +1,19 @@
+package com.nipun.legalscale.feature.agreementapproval.dto;
+
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class AgreementStatusEventResponse {
+
+    private Long id;
+    private AgreementStatus fromStatus;
+    private AgreementStatus toStatus;
+    private Long actorId;
+    private String actorName;
+    private LocalDateTime occurredAt;
+}
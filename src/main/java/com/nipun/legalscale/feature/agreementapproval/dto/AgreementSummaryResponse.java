@@ -0,0 +1,41 @@
+package com.nipun.legalscale.feature.agreementapproval.dto;
+
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Slim list-view representation of an agreement.
+ * Carries the current version number and comment count instead of the
+ * versions and comments themselves; use GET /api/agreements/{id} for the
+ * full record.
+ */
+@Data
+@Builder
+public class AgreementSummaryResponse {
+
+    private Long id;
+    private String title;
+    private AgreementType type;
+    private String parties;
+    private BigDecimal value;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private AgreementStatus status;
+
+    private String createdByName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    private String reviewerName;
+    private String approverName;
+    private Boolean isDigitallySigned;
+
+    private Integer currentVersionNumber;
+    private long commentCount;
+}
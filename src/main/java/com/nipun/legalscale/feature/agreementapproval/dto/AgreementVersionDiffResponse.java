@@ -0,0 +1,28 @@
+package com.nipun.legalscale.feature.agreementapproval.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Line changes from one agreement version's extracted text to another's.
+ */
+@Data
+@Builder
+public class AgreementVersionDiffResponse {
+
+    private Long agreementId;
+    private Integer fromVersion;
+    private Integer toVersion;
+    private int linesAdded;
+    private int linesRemoved;
+
+    /** The text of at least one version was cut short at extraction */
+    private boolean truncated;
+
+    /** Unified diff with three lines of context; empty when the texts are equal */
+    private String unifiedDiff;
+
+    private LocalDateTime computedAt;
+}
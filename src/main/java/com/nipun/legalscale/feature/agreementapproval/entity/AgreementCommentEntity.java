@@ -7,7 +7,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "agreement_comments")
+@Table(name = "agreement_comments", indexes = {
+        @Index(name = "idx_agreement_comments_agreement", columnList = "agreement_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
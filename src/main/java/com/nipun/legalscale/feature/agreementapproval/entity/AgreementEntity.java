@@ -6,6 +6,7 @@ import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,7 +15,17 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "agreements")
+@Table(name = "agreements", indexes = {
+        // Per-user list views
+        @Index(name = "idx_agreements_created_by", columnList = "created_by_id"),
+        @Index(name = "idx_agreements_reviewer", columnList = "reviewer_id"),
+        @Index(name = "idx_agreements_approver", columnList = "approver_id"),
+        @Index(name = "idx_agreements_linked_case", columnList = "linked_case_id"),
+        // Search order, status/end-date windows, and the expiry scan's (end_date, id) keyset
+        @Index(name = "idx_agreements_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_agreements_status_end_date", columnList = "status, end_date"),
+        @Index(name = "idx_agreements_end_date_id", columnList = "end_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,6 +37,16 @@ public class AgreementEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Optimistic lock: every workflow action re-checks it on update, so of two
+     * concurrent actions on the same agreement the later commit fails instead
+     * of overwriting the first. Defaults to 0 for rows that predate it.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false)
     private String title;
 
@@ -74,7 +95,12 @@ public class AgreementEntity {
     @Builder.Default
     private Boolean isDigitallySigned = false;
 
+    /*
+     * Set only by the expiry scanner's bulk update: it must neither bump
+     * version nor be written back as false by an edit loaded before the alert
+     */
     @Builder.Default
+    @Column(updatable = false)
     private Boolean renewalAlertSent = false;
 
     @OneToMany(mappedBy = "agreement", cascade = CascadeType.ALL, orphanRemoval = true)
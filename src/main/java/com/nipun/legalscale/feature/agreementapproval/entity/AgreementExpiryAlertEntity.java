@@ -0,0 +1,43 @@
+package com.nipun.legalscale.feature.agreementapproval.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A renewal reminder raised once when an agreement enters the expiry alert
+ * window. Written by the expiry scanner and never updated.
+ */
+@Entity
+@Table(name = "agreement_expiry_alerts", indexes = {
+        @Index(name = "idx_agreement_expiry_alerts_agreement", columnList = "agreement_id"),
+        @Index(name = "idx_agreement_expiry_alerts_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AgreementExpiryAlertEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "agreement_id", nullable = false)
+    private AgreementEntity agreement;
+
+    /** The end date the alert was raised for */
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    /** Days left until endDate when the alert was raised */
+    @Column(nullable = false)
+    private Integer daysRemaining;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
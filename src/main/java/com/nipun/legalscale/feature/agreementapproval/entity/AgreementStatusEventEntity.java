@@ -0,0 +1,50 @@
+package com.nipun.legalscale.feature.agreementapproval.entity;
+
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One status transition of an agreement. The log is append-only: rows are
+ * inserted in the transaction that changes the status and never updated, so
+ * it can be written concurrently without contending on existing rows.
+ */
+@Entity
+@Immutable
+@Table(name = "agreement_status_events", indexes = {
+        @Index(name = "idx_agreement_status_events_agreement", columnList = "agreement_id, occurred_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AgreementStatusEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "agreement_id", nullable = false, updatable = false)
+    private AgreementEntity agreement;
+
+    /** Null for the event that creates the agreement */
+    @Enumerated(EnumType.STRING)
+    @Column(updatable = false)
+    private AgreementStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private AgreementStatus toStatus;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "actor_id", nullable = false, updatable = false)
+    private UserEntity actor;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,52 @@
+package com.nipun.legalscale.feature.agreementapproval.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stored line diff between the extracted text of two agreement versions,
+ * computed once per (from, to) pair and served from here afterwards.
+ */
+@Entity
+@Table(name = "agreement_version_diffs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_agreement_version_diffs_pair",
+                columnNames = { "from_version_id", "to_version_id" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AgreementVersionDiffEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "from_version_id", nullable = false)
+    private AgreementVersionEntity fromVersion;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "to_version_id", nullable = false)
+    private AgreementVersionEntity toVersion;
+
+    /** Unified diff with three lines of context; empty when the texts are equal */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String unifiedDiff;
+
+    @Column(nullable = false)
+    private int linesAdded;
+
+    @Column(nullable = false)
+    private int linesRemoved;
+
+    /** Either text was cut short at extraction, so the diff covers only its start */
+    @Column(nullable = false)
+    private boolean truncated;
+
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+}
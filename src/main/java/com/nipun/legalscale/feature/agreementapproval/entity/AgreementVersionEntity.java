@@ -8,7 +8,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "agreement_versions")
+@Table(name = "agreement_versions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_agreement_versions_agreement_version",
+                columnNames = { "agreement_id", "version_number" })
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,193 @@
+package com.nipun.legalscale.feature.agreementapproval.expiry;
+
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryBucketResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryItemResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryResponse;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementEntity;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementExpiryAlertEntity;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementExpiryAlertRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.AgreementExpiryRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Upcoming agreement expirations, grouped into "expiring within N days"
+ * buckets. A scheduled scan walks the agreements ending within the largest
+ * bucket along the (end_date, id) index in bounded keyset batches and
+ * replaces an in-memory snapshot, so expiry dashboards read the snapshot
+ * instead of scanning agreements on every view. The first scan runs as soon
+ * as the scheduler starts; until it completes the snapshot is empty, so no
+ * request ever runs a scan itself.
+ *
+ * Agreements entering the alert window get one persisted
+ * {@link AgreementExpiryAlertEntity}; {@code renewalAlertSent} keeps it to one
+ * per agreement however many scans, or application nodes, see it.
+ */
+@Slf4j
+@Component
+public class AgreementExpiryScanner {
+
+    /* Agreements in force or about to be; drafts and closed agreements have nothing to renew */
+    private static final Set<AgreementStatus> LIVE_STATUSES =
+            EnumSet.of(AgreementStatus.APPROVED, AgreementStatus.EXECUTED);
+
+    private final AgreementRepository agreementRepository;
+    private final AgreementExpiryAlertRepository alertRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<Integer> buckets;
+    private final int alertDays;
+    private final int batchSize;
+
+    private volatile AgreementExpiryResponse snapshot;
+
+    public AgreementExpiryScanner(AgreementRepository agreementRepository,
+            AgreementExpiryAlertRepository alertRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.agreement.expiry.buckets:30,60,90}") List<Integer> buckets,
+            @Value("${app.agreement.expiry.alert-days:30}") int alertDays,
+            @Value("${app.agreement.expiry.batch-size:500}") int batchSize) {
+        this.agreementRepository = agreementRepository;
+        this.alertRepository = alertRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buckets = buckets.stream().filter(days -> days >= 0).distinct().sorted().toList();
+        if (this.buckets.isEmpty()) {
+            throw new IllegalStateException("app.agreement.expiry.buckets needs at least one day count");
+        }
+        this.alertDays = alertDays;
+        this.batchSize = Math.max(1, batchSize);
+        this.snapshot = toResponse(null, this.buckets.stream()
+                .map(days -> List.<AgreementExpiryItemResponse>of())
+                .toList());
+    }
+
+    /**
+     * The latest scan. Before the first one completes this has empty buckets
+     * and no {@code scannedAt}.
+     */
+    public AgreementExpiryResponse snapshot() {
+        return snapshot;
+    }
+
+    /* No initial delay: the first run starts with the scheduler */
+    @Scheduled(fixedDelayString = "${app.agreement.expiry.scan-interval:PT1H}")
+    public synchronized AgreementExpiryResponse scan() {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(buckets.get(buckets.size() - 1));
+
+        List<List<AgreementExpiryItemResponse>> grouped = new ArrayList<>();
+        buckets.forEach(days -> grouped.add(new ArrayList<>()));
+        int alerted = 0;
+
+        // Keyset position past every agreement ending yesterday, so the first batch starts at today
+        LocalDate afterDate = today.minusDays(1);
+        long afterId = Long.MAX_VALUE;
+        List<AgreementExpiryRow> batch;
+        do {
+            batch = agreementRepository.findEndingAfter(LIVE_STATUSES, horizon, afterDate, afterId,
+                    PageRequest.of(0, batchSize));
+
+            List<Long> toAlert = new ArrayList<>();
+            for (AgreementExpiryRow row : batch) {
+                long daysRemaining = ChronoUnit.DAYS.between(today, row.getEndDate());
+                grouped.get(bucketIndex(daysRemaining)).add(AgreementExpiryItemResponse.builder()
+                        .id(row.getId())
+                        .title(row.getTitle())
+                        .parties(row.getParties())
+                        .status(row.getStatus())
+                        .endDate(row.getEndDate())
+                        .daysRemaining(daysRemaining)
+                        .build());
+                if (daysRemaining <= alertDays && !Boolean.TRUE.equals(row.getRenewalAlertSent())) {
+                    toAlert.add(row.getId());
+                }
+            }
+            if (!toAlert.isEmpty()) {
+                alerted += recordAlerts(toAlert, today);
+            }
+
+            if (!batch.isEmpty()) {
+                AgreementExpiryRow last = batch.get(batch.size() - 1);
+                afterDate = last.getEndDate();
+                afterId = last.getId();
+            }
+        } while (batch.size() == batchSize);
+
+        AgreementExpiryResponse result = toResponse(LocalDateTime.now(), grouped);
+        snapshot = result;
+
+        if (alerted > 0) {
+            log.info("Agreement expiry scan raised {} renewal alerts", alerted);
+        }
+        return result;
+    }
+
+    private AgreementExpiryResponse toResponse(LocalDateTime scannedAt,
+            List<List<AgreementExpiryItemResponse>> grouped) {
+        List<AgreementExpiryBucketResponse> bucketResponses = new ArrayList<>();
+        for (int i = 0; i < buckets.size(); i++) {
+            List<AgreementExpiryItemResponse> items = Collections.unmodifiableList(grouped.get(i));
+            bucketResponses.add(AgreementExpiryBucketResponse.builder()
+                    .withinDays(buckets.get(i))
+                    .count(items.size())
+                    .agreements(items)
+                    .build());
+        }
+        return AgreementExpiryResponse.builder()
+                .scannedAt(scannedAt)
+                .buckets(Collections.unmodifiableList(bucketResponses))
+                .build();
+    }
+
+    private int bucketIndex(long daysRemaining) {
+        for (int i = 0; i < buckets.size(); i++) {
+            if (daysRemaining <= buckets.get(i)) {
+                return i;
+            }
+        }
+        return buckets.size() - 1;
+    }
+
+    /**
+     * Flags and alerts the given agreements in one transaction. Agreements a
+     * concurrent scan alerted in the meantime are skipped by the locking query;
+     * the row lock itself does not touch {@code version}.
+     */
+    private int recordAlerts(List<Long> ids, LocalDate today) {
+        Integer recorded = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<AgreementEntity> locked = agreementRepository.lockWithoutRenewalAlert(ids);
+            if (locked.isEmpty()) {
+                return 0;
+            }
+            agreementRepository.markRenewalAlertSent(locked.stream().map(AgreementEntity::getId).toList());
+            List<AgreementExpiryAlertEntity> alerts = new ArrayList<>();
+            for (AgreementEntity agreement : locked) {
+                alerts.add(AgreementExpiryAlertEntity.builder()
+                        .agreement(agreement)
+                        .endDate(agreement.getEndDate())
+                        .daysRemaining((int) ChronoUnit.DAYS.between(today, agreement.getEndDate()))
+                        .createdAt(now)
+                        .build());
+            }
+            alertRepository.saveAll(alerts);
+            return alerts.size();
+        });
+        return recorded != null ? recorded : 0;
+    }
+}
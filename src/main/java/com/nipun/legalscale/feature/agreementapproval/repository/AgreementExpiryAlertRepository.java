@@ -0,0 +1,26 @@
+package com.nipun.legalscale.feature.agreementapproval.repository;
+
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementExpiryAlertEntity;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.AgreementExpiryAlertRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AgreementExpiryAlertRepository extends JpaRepository<AgreementExpiryAlertEntity, Long> {
+
+    /**
+     * Alerts on agreements the user created, reviews or approves, newest
+     * first. Each branch is served by the per-user index on agreements.
+     */
+    @Query("SELECT al.id AS id, a.id AS agreementId, a.title AS agreementTitle, al.endDate AS endDate, "
+            + "al.daysRemaining AS daysRemaining, al.createdAt AS createdAt "
+            + "FROM AgreementExpiryAlertEntity al JOIN al.agreement a "
+            + "WHERE a.createdBy.id = :userId OR a.reviewer.id = :userId OR a.approver.id = :userId "
+            + "ORDER BY al.createdAt DESC, al.id DESC")
+    List<AgreementExpiryAlertRow> findForParticipant(@Param("userId") Long userId, Pageable pageable);
+}
@@ -1,18 +1,94 @@
 package com.nipun.legalscale.feature.agreementapproval.repository;
 
 import com.nipun.legalscale.feature.agreementapproval.entity.AgreementEntity;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.AgreementExpiryRow;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.AgreementStatusCount;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.AgreementSummaryRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AgreementRepository
         extends JpaRepository<AgreementEntity, Long>, JpaSpecificationExecutor<AgreementEntity> {
-    List<AgreementEntity> findByCreatedById(Long userId);
 
-    List<AgreementEntity> findByReviewerId(Long reviewerId);
+    /*
+     * List views read one row per agreement. The version and comment tallies
+     * are correlated subqueries over the (agreement_id, ...) indexes rather
+     * than joins, so neither collection is ever loaded and rows do not fan out.
+     */
+    String SUMMARY_SELECT = "SELECT a.id AS id, a.title AS title, a.type AS type, a.parties AS parties, "
+            + "a.value AS value, a.startDate AS startDate, a.endDate AS endDate, a.status AS status, "
+            + "cb.fullName AS createdByName, a.createdAt AS createdAt, a.updatedAt AS updatedAt, "
+            + "rv.fullName AS reviewerName, ap.fullName AS approverName, "
+            + "a.isDigitallySigned AS isDigitallySigned, "
+            + "(SELECT MAX(v.versionNumber) FROM AgreementVersionEntity v WHERE v.agreement = a) "
+            + "AS currentVersionNumber, "
+            + "(SELECT COUNT(c) FROM AgreementCommentEntity c WHERE c.agreement = a) AS commentCount "
+            + "FROM AgreementEntity a JOIN a.createdBy cb LEFT JOIN a.reviewer rv LEFT JOIN a.approver ap ";
 
-    List<AgreementEntity> findByApproverId(Long approverId);
+    String SUMMARY_ORDER = " ORDER BY a.createdAt DESC, a.id DESC";
+
+    @Query(SUMMARY_SELECT + SUMMARY_ORDER)
+    List<AgreementSummaryRow> findAllSummaries();
+
+    /** Rows come back in no particular order */
+    @Query(SUMMARY_SELECT + "WHERE a.id IN :ids")
+    List<AgreementSummaryRow> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "WHERE a.createdBy.id = :userId" + SUMMARY_ORDER)
+    List<AgreementSummaryRow> findSummariesByCreatedById(@Param("userId") Long userId);
+
+    @Query(SUMMARY_SELECT + "WHERE a.reviewer.id = :reviewerId" + SUMMARY_ORDER)
+    List<AgreementSummaryRow> findSummariesByReviewerId(@Param("reviewerId") Long reviewerId);
+
+    @Query(SUMMARY_SELECT + "WHERE a.approver.id = :approverId" + SUMMARY_ORDER)
+    List<AgreementSummaryRow> findSummariesByApproverId(@Param("approverId") Long approverId);
+
+    /**
+     * One batch of agreements ending on or before {@code to}, in (endDate, id)
+     * order after the given keyset position. The redundant lower bound lets the
+     * (end_date, id) index range start at the keyset position, and the scan
+     * stops after one page however many agreements lie beyond it.
+     */
+    @Query("SELECT a.id AS id, a.title AS title, a.parties AS parties, a.status AS status, "
+            + "a.endDate AS endDate, a.renewalAlertSent AS renewalAlertSent "
+            + "FROM AgreementEntity a "
+            + "WHERE a.endDate >= :afterDate AND a.endDate <= :to AND a.status IN :statuses "
+            + "AND (a.endDate > :afterDate OR (a.endDate = :afterDate AND a.id > :afterId)) "
+            + "ORDER BY a.endDate, a.id")
+    List<AgreementExpiryRow> findEndingAfter(@Param("statuses") Collection<AgreementStatus> statuses,
+            @Param("to") LocalDate to, @Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Locks the agreements among {@code ids} that have not had a renewal alert
+     * yet. A concurrent scan waits on the lock and then no longer sees them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AgreementEntity a WHERE a.id IN :ids "
+            + "AND (a.renewalAlertSent IS NULL OR a.renewalAlertSent = false)")
+    List<AgreementEntity> lockWithoutRenewalAlert(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Flags renewal alerts as sent. A bulk update leaves {@code version} alone,
+     * so a scan never fails a concurrent edit of the same agreement with a 409.
+     */
+    @Modifying
+    @Query("UPDATE AgreementEntity a SET a.renewalAlertSent = true WHERE a.id IN :ids")
+    int markRenewalAlertSent(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.status AS status, COUNT(a) AS total FROM AgreementEntity a GROUP BY a.status")
+    List<AgreementStatusCount> countGroupedByStatus();
 }
@@ -0,0 +1,29 @@
+package com.nipun.legalscale.feature.agreementapproval.repository;
+
+import com.nipun.legalscale.core.schema.PostgresSchemaContributor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Substring index for the agreement search. The parties filter matches
+ * {@code lower(parties) LIKE '%text%'}, which no B-tree can answer; PostgreSQL
+ * serves it from a trigram GIN index, which cannot be declared through
+ * Hibernate. It needs the {@code pg_trgm} extension, which is installed when
+ * the database is provisioned rather than by the app; without it the index is
+ * skipped and the filter scans the rows left by the other filters.
+ */
+@Component
+public class AgreementSearchIndexes implements PostgresSchemaContributor {
+
+    @Override
+    public String description() {
+        return "Agreement parties index (needs the pg_trgm extension)";
+    }
+
+    @Override
+    public List<String> statements() {
+        return List.of("CREATE INDEX IF NOT EXISTS idx_agreements_parties_trgm "
+                + "ON agreements USING gin (lower(parties) gin_trgm_ops)");
+    }
+}
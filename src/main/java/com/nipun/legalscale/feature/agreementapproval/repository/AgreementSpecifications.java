@@ -0,0 +1,97 @@
+package com.nipun.legalscale.feature.agreementapproval.repository;
+
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementEntity;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Composable filters for {@link AgreementEntity} searches.
+ * A null argument yields a null specification, which Spring Data ignores when
+ * combining with {@code and(...)}.
+ */
+public final class AgreementSpecifications {
+
+    private AgreementSpecifications() {
+    }
+
+    public static Specification<AgreementEntity> hasStatusIn(Collection<AgreementStatus> statuses) {
+        return statuses == null || statuses.isEmpty() ? null
+                : (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<AgreementEntity> hasType(AgreementType type) {
+        return type == null ? null : (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<AgreementEntity> valueAtLeast(BigDecimal min) {
+        return min == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("value"), min);
+    }
+
+    public static Specification<AgreementEntity> valueAtMost(BigDecimal max) {
+        return max == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("value"), max);
+    }
+
+    /** Both bounds inclusive; either may be null for an open-ended window */
+    public static Specification<AgreementEntity> startsBetween(LocalDate from, LocalDate to) {
+        return dateWindow("startDate", from, to);
+    }
+
+    /** Both bounds inclusive; either may be null for an open-ended window */
+    public static Specification<AgreementEntity> endsBetween(LocalDate from, LocalDate to) {
+        return dateWindow("endDate", from, to);
+    }
+
+    /**
+     * Case-insensitive substring match on the parties text. LIKE wildcards in
+     * the input are matched literally.
+     */
+    public static Specification<AgreementEntity> partiesContain(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("parties")), pattern, '\\');
+    }
+
+    public static Specification<AgreementEntity> createdBy(Long userId) {
+        return userId == null ? null : (root, query, cb) -> cb.equal(root.get("createdBy").get("id"), userId);
+    }
+
+    public static Specification<AgreementEntity> reviewedBy(Long reviewerId) {
+        return reviewerId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("reviewer").get("id"), reviewerId);
+    }
+
+    public static Specification<AgreementEntity> approvedBy(Long approverId) {
+        return approverId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("approver").get("id"), approverId);
+    }
+
+    public static Specification<AgreementEntity> linkedToCase(Long caseId) {
+        return caseId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("linkedCase").get("id"), caseId);
+    }
+
+    private static Specification<AgreementEntity> dateWindow(String attribute, LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        if (from == null) {
+            return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), to);
+        }
+        if (to == null) {
+            return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), from);
+        }
+        return (root, query, cb) -> cb.between(root.get(attribute), from, to);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,17 @@
+package com.nipun.legalscale.feature.agreementapproval.repository;
+
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementStatusEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AgreementStatusEventRepository extends JpaRepository<AgreementStatusEventEntity, Long> {
+
+    @Query("SELECT e FROM AgreementStatusEventEntity e JOIN FETCH e.actor "
+            + "WHERE e.agreement.id = :agreementId ORDER BY e.occurredAt, e.id")
+    List<AgreementStatusEventEntity> findHistory(@Param("agreementId") Long agreementId);
+}
@@ -0,0 +1,37 @@
+package com.nipun.legalscale.feature.agreementapproval.repository;
+
+import com.nipun.legalscale.core.document.RenditionStatus;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementVersionDiffEntity;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.VersionPairRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AgreementVersionDiffRepository extends JpaRepository<AgreementVersionDiffEntity, Long> {
+
+    Optional<AgreementVersionDiffEntity> findByFromVersionIdAndToVersionId(Long fromVersionId, Long toVersionId);
+
+    /**
+     * Consecutive versions (n-1, n) whose texts have both been extracted but
+     * that have no stored diff yet, newest first. READY renditions without
+     * text (images, scanned or empty PDFs) can never be diffed, so they are
+     * left out rather than failing, and filling the batch, on every run.
+     */
+    @Query("SELECT prev.id AS fromVersionId, next.id AS toVersionId "
+            + "FROM AgreementVersionEntity next "
+            + "JOIN AgreementVersionEntity prev "
+            + "ON prev.agreement = next.agreement AND prev.versionNumber = next.versionNumber - 1 "
+            + "JOIN DocumentRendition rp ON rp.documentId = prev.document.id AND rp.status = :ready "
+            + "JOIN DocumentRendition rn ON rn.documentId = next.document.id AND rn.status = :ready "
+            + "WHERE rp.extractedText IS NOT NULL AND rn.extractedText IS NOT NULL "
+            + "AND NOT EXISTS (SELECT d.id FROM AgreementVersionDiffEntity d "
+            + "WHERE d.fromVersion = prev AND d.toVersion = next) "
+            + "ORDER BY next.id DESC")
+    List<VersionPairRow> findConsecutivePairsWithoutDiff(@Param("ready") RenditionStatus ready, Pageable pageable);
+}
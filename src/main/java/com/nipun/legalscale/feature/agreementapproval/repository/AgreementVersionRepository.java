@@ -2,11 +2,19 @@ package com.nipun.legalscale.feature.agreementapproval.repository;
 
 import com.nipun.legalscale.feature.agreementapproval.entity.AgreementVersionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AgreementVersionRepository extends JpaRepository<AgreementVersionEntity, Long> {
     List<AgreementVersionEntity> findByAgreementIdOrderByVersionNumberDesc(Long agreementId);
+
+    Optional<AgreementVersionEntity> findByAgreementIdAndVersionNumber(Long agreementId, Integer versionNumber);
+
+    @Query("SELECT COALESCE(MAX(v.versionNumber), 0) FROM AgreementVersionEntity v WHERE v.agreement.id = :agreementId")
+    int findLatestVersionNumber(@Param("agreementId") Long agreementId);
 }
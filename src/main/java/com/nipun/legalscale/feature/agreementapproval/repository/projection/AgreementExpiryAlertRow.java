@@ -0,0 +1,22 @@
+package com.nipun.legalscale.feature.agreementapproval.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One expiry alert with the title of its agreement.
+ */
+public interface AgreementExpiryAlertRow {
+
+    Long getId();
+
+    Long getAgreementId();
+
+    String getAgreementTitle();
+
+    LocalDate getEndDate();
+
+    Integer getDaysRemaining();
+
+    LocalDateTime getCreatedAt();
+}
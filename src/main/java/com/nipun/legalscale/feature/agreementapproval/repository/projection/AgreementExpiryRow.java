@@ -0,0 +1,23 @@
+package com.nipun.legalscale.feature.agreementapproval.repository.projection;
+
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+
+import java.time.LocalDate;
+
+/**
+ * One agreement seen by the expiry scan.
+ */
+public interface AgreementExpiryRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getParties();
+
+    AgreementStatus getStatus();
+
+    LocalDate getEndDate();
+
+    Boolean getRenewalAlertSent();
+}
@@ -0,0 +1,10 @@
+package com.nipun.legalscale.feature.agreementapproval.repository.projection;
+
+/**
+ * Just the id of an agreement, for searches that page over ids first and
+ * load the listed columns separately.
+ */
+public interface AgreementIdRow {
+
+    Long getId();
+}
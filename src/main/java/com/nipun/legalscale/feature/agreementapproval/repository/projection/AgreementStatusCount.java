@@ -0,0 +1,13 @@
+package com.nipun.legalscale.feature.agreementapproval.repository.projection;
+
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+
+/**
+ * One row of a GROUP BY status aggregate over agreements.
+ */
+public interface AgreementStatusCount {
+
+    AgreementStatus getStatus();
+
+    long getTotal();
+}
@@ -0,0 +1,48 @@
+package com.nipun.legalscale.feature.agreementapproval.repository.projection;
+
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One agreement as shown in list views: its own columns, the names of the
+ * people on it, and version and comment tallies computed in the query.
+ * Agreements without any uploaded version have a null current version.
+ */
+public interface AgreementSummaryRow {
+
+    Long getId();
+
+    String getTitle();
+
+    AgreementType getType();
+
+    String getParties();
+
+    BigDecimal getValue();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    AgreementStatus getStatus();
+
+    String getCreatedByName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    String getReviewerName();
+
+    String getApproverName();
+
+    Boolean getIsDigitallySigned();
+
+    Integer getCurrentVersionNumber();
+
+    long getCommentCount();
+}
@@ -0,0 +1,11 @@
+package com.nipun.legalscale.feature.agreementapproval.repository.projection;
+
+/**
+ * Two versions of the same agreement, identified by their row ids.
+ */
+public interface VersionPairRow {
+
+    Long getFromVersionId();
+
+    Long getToVersionId();
+}
@@ -0,0 +1,37 @@
+package com.nipun.legalscale.feature.agreementapproval.service;
+
+import com.nipun.legalscale.core.counter.CounterScope;
+import com.nipun.legalscale.core.counter.DashboardCounterSource;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.AgreementStatusCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Agreement tallies recomputed from agreements.
+ */
+@Component
+@RequiredArgsConstructor
+public class AgreementCounterSource implements DashboardCounterSource {
+
+    private final AgreementRepository agreementRepository;
+
+    @Override
+    public Set<CounterScope> scopes() {
+        return EnumSet.of(CounterScope.AGREEMENT_STATUS);
+    }
+
+    @Override
+    public Map<String, Long> recount(CounterScope scope) {
+        if (scope != CounterScope.AGREEMENT_STATUS) {
+            throw new IllegalArgumentException("Not an agreement counter: " + scope);
+        }
+        return agreementRepository.countGroupedByStatus().stream()
+                .collect(Collectors.toMap(row -> row.getStatus().name(), AgreementStatusCount::getTotal));
+    }
+}
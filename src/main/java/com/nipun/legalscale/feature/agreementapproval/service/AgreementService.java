@@ -1,8 +1,15 @@
 package com.nipun.legalscale.feature.agreementapproval.service;
 
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryAlertResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementPageResponse;
 import com.nipun.legalscale.feature.agreementapproval.dto.AgreementResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementSearchFilter;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementStatusEventResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementSummaryResponse;
 import com.nipun.legalscale.feature.agreementapproval.dto.CreateAgreementRequest;
 import com.nipun.legalscale.feature.agreementapproval.dto.ReviewAgreementRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -16,12 +23,15 @@ public interface AgreementService {
 
     AgreementResponse requestReview(Long agreementId, ReviewAgreementRequest request);
 
-    List<AgreementResponse> getMyAgreements();
+    List<AgreementSummaryResponse> getMyAgreements();
 
     AgreementResponse getAgreementById(Long id);
 
+    /** Every status transition of the agreement, oldest first */
+    List<AgreementStatusEventResponse> getStatusHistory(Long agreementId);
+
     // Reviewer functions
-    List<AgreementResponse> getAgreementsForReview();
+    List<AgreementSummaryResponse> getAgreementsForReview();
 
     AgreementResponse reviewAgreement(Long agreementId, ReviewAgreementRequest request);
 
@@ -30,7 +40,7 @@ public interface AgreementService {
     AgreementResponse addComment(Long agreementId, String commentText);
 
     // Approver functions
-    List<AgreementResponse> getAgreementsForApproval();
+    List<AgreementSummaryResponse> getAgreementsForApproval();
 
     AgreementResponse approveOrReject(Long agreementId, ReviewAgreementRequest request);
 
@@ -39,7 +49,15 @@ public interface AgreementService {
     AgreementResponse digitallySignAgreement(Long agreementId);
 
     // General
-    List<AgreementResponse> getAllAgreements();
+    List<AgreementSummaryResponse> getAllAgreements();
+
+    AgreementPageResponse searchAgreements(AgreementSearchFilter filter, Pageable pageable);
+
+    /** Upcoming expirations as of the last expiry scan */
+    AgreementExpiryResponse getExpiringAgreements();
+
+    /** Renewal alerts on agreements the current user created, reviews or approves */
+    List<AgreementExpiryAlertResponse> getMyExpiryAlerts(int size);
 
     java.util.Map<String, Long> getAgreementStatusCounts();
 }
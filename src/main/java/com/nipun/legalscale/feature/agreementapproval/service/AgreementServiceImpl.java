@@ -1,50 +1,117 @@
 package com.nipun.legalscale.feature.agreementapproval.service;
 
+import com.nipun.legalscale.core.counter.CounterScope;
+import com.nipun.legalscale.core.counter.DashboardCounters;
 import com.nipun.legalscale.core.document.DocumentService;
 import com.nipun.legalscale.core.document.dto.DocumentResponse;
 import com.nipun.legalscale.core.document.entity.Document;
 import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
+import com.nipun.legalscale.core.transaction.AfterRollback;
 import com.nipun.legalscale.feature.agreementapproval.dto.*;
 import com.nipun.legalscale.feature.agreementapproval.entity.AgreementCommentEntity;
 import com.nipun.legalscale.feature.agreementapproval.entity.AgreementEntity;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementStatusEventEntity;
 import com.nipun.legalscale.feature.agreementapproval.entity.AgreementVersionEntity;
 import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.expiry.AgreementExpiryScanner;
 import com.nipun.legalscale.feature.agreementapproval.repository.AgreementCommentRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementExpiryAlertRepository;
 import com.nipun.legalscale.feature.agreementapproval.repository.AgreementRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementSpecifications;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementStatusEventRepository;
 import com.nipun.legalscale.feature.agreementapproval.repository.AgreementVersionRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.AgreementIdRow;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.AgreementSummaryRow;
 import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
 import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
 import com.nipun.legalscale.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AgreementServiceImpl implements AgreementService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /* Columns a search may be sorted by; each is plain and indexed or cheap to sort on */
+    private static final Set<String> SEARCH_SORT_PROPERTIES = Set.of(
+            "title", "type", "status", "value", "startDate", "endDate", "createdAt", "updatedAt");
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"));
+
     private final AgreementRepository agreementRepository;
     private final AgreementVersionRepository versionRepository;
     private final AgreementCommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
     private final DocumentService documentService;
     private final DocumentRepository documentRepository;
     private final InitialCaseRepository initialCaseRepository;
     private final com.nipun.legalscale.feature.agreementapproval.repository.AgreementSignatureRepository signatureRepository;
+    private final DashboardCounters dashboardCounters;
+    private final AgreementExpiryScanner expiryScanner;
+    private final AgreementExpiryAlertRepository expiryAlertRepository;
+    private final AgreementStatusEventRepository statusEventRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /** Every status transition goes through here so the dashboard tallies and the event log follow it */
+    private void changeStatus(AgreementEntity agreement, AgreementStatus newStatus, UserEntity actor) {
+        AgreementStatus oldStatus = agreement.getStatus();
+        if (oldStatus == newStatus) {
+            return;
+        }
+        dashboardCounters.move(CounterScope.AGREEMENT_STATUS, oldStatus.name(), newStatus.name());
+        agreement.setStatus(newStatus);
+        recordStatusEvent(agreement, oldStatus, newStatus, actor);
+    }
 
-    private UserEntity currentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+    private void recordStatusEvent(AgreementEntity agreement, AgreementStatus fromStatus,
+            AgreementStatus toStatus, UserEntity actor) {
+        statusEventRepository.save(AgreementStatusEventEntity.builder()
+                .agreement(agreement)
+                .fromStatus(fromStatus)
+                .toStatus(toStatus)
+                .actor(actor)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Stores the file and returns its row. The stored content is given back if
+     * this transaction rolls back, since no version will ever point at it.
+     */
+    private Document uploadDocument(MultipartFile file, UserEntity uploader) {
+        DocumentResponse uploaded = documentService.upload(file, uploader.getId());
+        Document document = documentRepository.findById(uploaded.id())
+                .orElseThrow(() -> new IllegalStateException("Document not found"));
+        AfterRollback.run(() -> {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            template.executeWithoutResult(status -> documentService.discard(List.of(document)));
+        });
+        return document;
     }
 
     private AgreementResponse toResponse(AgreementEntity entity) {
@@ -99,10 +166,31 @@ public class AgreementServiceImpl implements AgreementService {
                 .build();
     }
 
+    private AgreementSummaryResponse toSummary(AgreementSummaryRow row) {
+        return AgreementSummaryResponse.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .type(row.getType())
+                .parties(row.getParties())
+                .value(row.getValue())
+                .startDate(row.getStartDate())
+                .endDate(row.getEndDate())
+                .status(row.getStatus())
+                .createdByName(row.getCreatedByName())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .reviewerName(row.getReviewerName())
+                .approverName(row.getApproverName())
+                .isDigitallySigned(row.getIsDigitallySigned())
+                .currentVersionNumber(row.getCurrentVersionNumber())
+                .commentCount(row.getCommentCount())
+                .build();
+    }
+
     @Override
     @Transactional
     public AgreementResponse createAgreement(CreateAgreementRequest request, MultipartFile documentFile) {
-        UserEntity creator = currentUser();
+        UserEntity creator = currentUserProvider.getCurrentUser();
 
         AgreementEntity agreement = AgreementEntity.builder()
                 .title(request.getTitle())
@@ -129,11 +217,11 @@ public class AgreementServiceImpl implements AgreementService {
         }
 
         agreement = agreementRepository.save(agreement);
+        dashboardCounters.increment(CounterScope.AGREEMENT_STATUS, AgreementStatus.DRAFT.name());
+        recordStatusEvent(agreement, null, AgreementStatus.DRAFT, creator);
 
         if (documentFile != null && !documentFile.isEmpty()) {
-            DocumentResponse uploaded = documentService.upload(documentFile, creator.getId());
-            Document docEntity = documentRepository.findById(uploaded.id())
-                    .orElseThrow(() -> new IllegalStateException("Document not found"));
+            Document docEntity = uploadDocument(documentFile, creator);
 
             AgreementVersionEntity version = AgreementVersionEntity.builder()
                     .agreement(agreement)
@@ -156,14 +244,17 @@ public class AgreementServiceImpl implements AgreementService {
     public AgreementResponse uploadRevision(Long agreementId, String revisionNotes, MultipartFile documentFile) {
         AgreementEntity agreement = agreementRepository.findById(agreementId)
                 .orElseThrow(() -> new IllegalArgumentException("Agreement not found"));
-        UserEntity uploader = currentUser();
-
-        int nextVersion = agreement.getVersions().size() + 1;
+        UserEntity uploader = currentUserProvider.getCurrentUser();
 
         if (documentFile != null && !documentFile.isEmpty()) {
-            DocumentResponse uploaded = documentService.upload(documentFile, uploader.getId());
-            Document docEntity = documentRepository.findById(uploaded.id())
-                    .orElseThrow(() -> new IllegalStateException("Document not found"));
+            changeStatus(agreement, AgreementStatus.REVIEW_REQUESTED, uploader); // Return to review after revision
+            agreement.setUpdatedAt(LocalDateTime.now());
+            // Flushing the @Version check before numbering holds the agreement row until commit,
+            // so a concurrent revision fails with a conflict instead of taking the same number.
+            // It also runs before the upload, so a conflict leaves nothing in storage.
+            agreementRepository.saveAndFlush(agreement);
+            int nextVersion = versionRepository.findLatestVersionNumber(agreementId) + 1;
+            Document docEntity = uploadDocument(documentFile, uploader);
 
             AgreementVersionEntity version = AgreementVersionEntity.builder()
                     .agreement(agreement)
@@ -176,8 +267,6 @@ public class AgreementServiceImpl implements AgreementService {
 
             versionRepository.save(version);
             agreement.getVersions().add(version);
-            agreement.setStatus(AgreementStatus.REVIEW_REQUESTED); // Return to review after revision
-            agreement.setUpdatedAt(LocalDateTime.now());
         }
 
         return toResponse(agreementRepository.save(agreement));
@@ -188,7 +277,7 @@ public class AgreementServiceImpl implements AgreementService {
     public AgreementResponse requestReview(Long agreementId, ReviewAgreementRequest request) {
         AgreementEntity agreement = agreementRepository.findById(agreementId)
                 .orElseThrow(() -> new IllegalArgumentException("Agreement not found"));
-        UserEntity user = currentUser();
+        UserEntity user = currentUserProvider.getCurrentUser();
 
         if (agreement.getStatus() != AgreementStatus.DRAFT) {
             throw new IllegalStateException("Agreement is not in DRAFT status");
@@ -209,7 +298,7 @@ public class AgreementServiceImpl implements AgreementService {
             agreement.getComments().add(comment);
         }
 
-        agreement.setStatus(request.getReviewStatus());
+        changeStatus(agreement, request.getReviewStatus(), user);
         agreement.setUpdatedAt(LocalDateTime.now());
 
         return toResponse(agreementRepository.save(agreement));
@@ -217,9 +306,9 @@ public class AgreementServiceImpl implements AgreementService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<AgreementResponse> getMyAgreements() {
-        return agreementRepository.findByCreatedById(currentUser().getId())
-                .stream().map(this::toResponse).collect(Collectors.toList());
+    public List<AgreementSummaryResponse> getMyAgreements() {
+        return agreementRepository.findSummariesByCreatedById(currentUserProvider.getCurrentUser().getId())
+                .stream().map(this::toSummary).collect(Collectors.toList());
     }
 
     @Override
@@ -231,16 +320,34 @@ public class AgreementServiceImpl implements AgreementService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<AgreementResponse> getAgreementsForReview() {
-        return agreementRepository.findByReviewerId(currentUser().getId())
-                .stream().map(this::toResponse).collect(Collectors.toList());
+    public List<AgreementStatusEventResponse> getStatusHistory(Long agreementId) {
+        if (!agreementRepository.existsById(agreementId)) {
+            throw new IllegalArgumentException("Agreement not found");
+        }
+        return statusEventRepository.findHistory(agreementId).stream()
+                .map(e -> AgreementStatusEventResponse.builder()
+                        .id(e.getId())
+                        .fromStatus(e.getFromStatus())
+                        .toStatus(e.getToStatus())
+                        .actorId(e.getActor().getId())
+                        .actorName(e.getActor().getFullName())
+                        .occurredAt(e.getOccurredAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AgreementSummaryResponse> getAgreementsForReview() {
+        return agreementRepository.findSummariesByReviewerId(currentUserProvider.getCurrentUser().getId())
+                .stream().map(this::toSummary).collect(Collectors.toList());
     }
 
     @Override
     @Transactional
     public AgreementResponse reviewAgreement(Long agreementId, ReviewAgreementRequest request) {
         AgreementEntity agreement = agreementRepository.findById(agreementId).orElseThrow();
-        UserEntity reviewer = currentUser();
+        UserEntity reviewer = currentUserProvider.getCurrentUser();
 
         if (request.getRemarks() != null && !request.getRemarks().isBlank()) {
             AgreementCommentEntity comment = AgreementCommentEntity.builder()
@@ -256,7 +363,7 @@ public class AgreementServiceImpl implements AgreementService {
         if (request.getReviewStatus() == AgreementStatus.REVIEW_REQUESTED ||
                 request.getReviewStatus() == AgreementStatus.PENDING_APPROVAL ||
                 request.getReviewStatus() == AgreementStatus.APPROVED) {
-            agreement.setStatus(request.getReviewStatus());
+            changeStatus(agreement, request.getReviewStatus(), reviewer);
             agreement.setUpdatedAt(LocalDateTime.now());
 
             if (request.getReviewStatus() == AgreementStatus.PENDING_APPROVAL) {
@@ -271,7 +378,7 @@ public class AgreementServiceImpl implements AgreementService {
     @Transactional
     public AgreementResponse respondToRevision(Long agreementId, ReviewAgreementRequest request) {
         AgreementEntity agreement = agreementRepository.findById(agreementId).orElseThrow();
-        UserEntity user = currentUser();
+        UserEntity user = currentUserProvider.getCurrentUser();
 
         if (agreement.getStatus() != AgreementStatus.REVIEW_REQUESTED) {
             throw new IllegalStateException("Agreement is not in REVIEW_REQUESTED status");
@@ -293,7 +400,7 @@ public class AgreementServiceImpl implements AgreementService {
             agreement.getComments().add(comment);
         }
 
-        agreement.setStatus(request.getReviewStatus());
+        changeStatus(agreement, request.getReviewStatus(), user);
         agreement.setUpdatedAt(LocalDateTime.now());
 
         return toResponse(agreementRepository.save(agreement));
@@ -303,7 +410,7 @@ public class AgreementServiceImpl implements AgreementService {
     @Transactional
     public AgreementResponse addComment(Long agreementId, String commentText) {
         AgreementEntity agreement = agreementRepository.findById(agreementId).orElseThrow();
-        UserEntity user = currentUser();
+        UserEntity user = currentUserProvider.getCurrentUser();
 
         AgreementCommentEntity comment = AgreementCommentEntity.builder()
                 .agreement(agreement)
@@ -319,16 +426,16 @@ public class AgreementServiceImpl implements AgreementService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<AgreementResponse> getAgreementsForApproval() {
-        return agreementRepository.findByApproverId(currentUser().getId())
-                .stream().map(this::toResponse).collect(Collectors.toList());
+    public List<AgreementSummaryResponse> getAgreementsForApproval() {
+        return agreementRepository.findSummariesByApproverId(currentUserProvider.getCurrentUser().getId())
+                .stream().map(this::toSummary).collect(Collectors.toList());
     }
 
     @Override
     @Transactional
     public AgreementResponse approveOrReject(Long agreementId, ReviewAgreementRequest request) {
         AgreementEntity agreement = agreementRepository.findById(agreementId).orElseThrow();
-        UserEntity approver = currentUser();
+        UserEntity approver = currentUserProvider.getCurrentUser();
 
         if (request.getReviewStatus() != AgreementStatus.APPROVED
                 && request.getReviewStatus() != AgreementStatus.REJECTED) {
@@ -356,7 +463,7 @@ public class AgreementServiceImpl implements AgreementService {
             agreement.getComments().add(comment);
         }
 
-        agreement.setStatus(finalStatus);
+        changeStatus(agreement, finalStatus, approver);
         agreement.setApprover(approver);
         agreement.setApprovalRemarks(request.getRemarks());
         agreement.setUpdatedAt(LocalDateTime.now());
@@ -371,7 +478,7 @@ public class AgreementServiceImpl implements AgreementService {
         if (agreement.getStatus() != AgreementStatus.APPROVED) {
             throw new IllegalStateException("Only approved agreements can be executed");
         }
-        agreement.setStatus(AgreementStatus.EXECUTED);
+        changeStatus(agreement, AgreementStatus.EXECUTED, currentUserProvider.getCurrentUser());
         agreement.setUpdatedAt(LocalDateTime.now());
         return toResponse(agreementRepository.save(agreement));
     }
@@ -380,7 +487,7 @@ public class AgreementServiceImpl implements AgreementService {
     @Transactional
     public AgreementResponse digitallySignAgreement(Long agreementId) {
         AgreementEntity agreement = agreementRepository.findById(agreementId).orElseThrow();
-        UserEntity user = currentUser();
+        UserEntity user = currentUserProvider.getCurrentUser();
 
         Integer level = user.getApproverLevel();
         if (level == null || level < 2) {
@@ -404,21 +511,96 @@ public class AgreementServiceImpl implements AgreementService {
         signatureRepository.save(signature);
 
         agreement.setIsDigitallySigned(true);
-        agreement.setStatus(AgreementStatus.EXECUTED);
+        changeStatus(agreement, AgreementStatus.EXECUTED, user);
         agreement.setUpdatedAt(LocalDateTime.now());
         return toResponse(agreementRepository.save(agreement));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AgreementResponse> getAllAgreements() {
-        return agreementRepository.findAll().stream().map(this::toResponse).collect(Collectors.toList());
+    public List<AgreementSummaryResponse> getAllAgreements() {
+        return agreementRepository.findAllSummaries().stream().map(this::toSummary).collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
+    public AgreementPageResponse searchAgreements(AgreementSearchFilter filter, Pageable pageable) {
+        AgreementSearchFilter f = filter != null ? filter : new AgreementSearchFilter();
+        int pageSize = Math.max(1, Math.min(pageable.getPageSize(), MAX_PAGE_SIZE));
+        PageRequest request = PageRequest.of(pageable.getPageNumber(), pageSize, searchSort(pageable.getSort()));
+
+        Specification<AgreementEntity> spec = Specification.allOf(
+                AgreementSpecifications.hasStatusIn(f.getStatus()),
+                AgreementSpecifications.hasType(f.getType()),
+                AgreementSpecifications.valueAtLeast(f.getMinValue()),
+                AgreementSpecifications.valueAtMost(f.getMaxValue()),
+                AgreementSpecifications.startsBetween(f.getStartFrom(), f.getStartTo()),
+                AgreementSpecifications.endsBetween(f.getEndFrom(), f.getEndTo()),
+                AgreementSpecifications.partiesContain(f.getParties()),
+                AgreementSpecifications.createdBy(f.getCreatedById()),
+                AgreementSpecifications.reviewedBy(f.getReviewerId()),
+                AgreementSpecifications.approvedBy(f.getApproverId()),
+                AgreementSpecifications.linkedToCase(f.getLinkedCaseId()));
+
+        // A slice reads one extra row to learn whether another page exists, instead of a COUNT.
+        // The interface projection makes it select the id column only, not whole entities.
+        Slice<AgreementIdRow> slice = agreementRepository.findBy(spec,
+                q -> q.project("id").as(AgreementIdRow.class).slice(request));
+
+        List<Long> ids = slice.stream().map(AgreementIdRow::getId).toList();
+        Map<Long, AgreementSummaryRow> rows = ids.isEmpty() ? Map.of()
+                : agreementRepository.findSummariesByIdIn(ids).stream()
+                        .collect(Collectors.toMap(AgreementSummaryRow::getId, Function.identity()));
+
+        // An agreement deleted between the two queries is left out rather than failing the page
+        return AgreementPageResponse.builder()
+                .items(ids.stream().map(rows::get).filter(Objects::nonNull).map(this::toSummary)
+                        .collect(Collectors.toList()))
+                .page(request.getPageNumber())
+                .size(pageSize)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    /**
+     * Keeps only whitelisted sort properties and appends the id, so that rows
+     * with equal sort keys keep a stable order from one page to the next.
+     */
+    private Sort searchSort(Sort requested) {
+        for (Sort.Order order : requested) {
+            if (!SEARCH_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Cannot sort agreements by '" + order.getProperty() + "'");
+            }
+        }
+        Sort sort = requested.isSorted() ? requested : NEWEST_FIRST;
+        return sort.and(Sort.by(Sort.Order.desc("id")));
+    }
+
+    @Override
+    public AgreementExpiryResponse getExpiringAgreements() {
+        return expiryScanner.snapshot();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AgreementExpiryAlertResponse> getMyExpiryAlerts(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return expiryAlertRepository
+                .findForParticipant(currentUserProvider.getCurrentUser().getId(), PageRequest.of(0, limit))
+                .stream()
+                .map(row -> AgreementExpiryAlertResponse.builder()
+                        .id(row.getId())
+                        .agreementId(row.getAgreementId())
+                        .agreementTitle(row.getAgreementTitle())
+                        .endDate(row.getEndDate())
+                        .daysRemaining(row.getDaysRemaining())
+                        .createdAt(row.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
     public java.util.Map<String, Long> getAgreementStatusCounts() {
-        return agreementRepository.findAll().stream()
-                .collect(Collectors.groupingBy(a -> a.getStatus().name(), Collectors.counting()));
+        return dashboardCounters.read(CounterScope.AGREEMENT_STATUS);
     }
 }
@@ -0,0 +1,17 @@
+package com.nipun.legalscale.feature.agreementapproval.service;
+
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementVersionDiffResponse;
+
+/**
+ * Text comparison between versions of an agreement, built on the text the
+ * document pipeline extracts from each uploaded file.
+ */
+public interface AgreementVersionDiffService {
+
+    /**
+     * Changes from version {@code fromVersion} to {@code toVersion} of the
+     * agreement. Computed on first request and stored, so later requests for
+     * the same pair read the stored diff.
+     */
+    AgreementVersionDiffResponse getDiff(Long agreementId, int fromVersion, int toVersion);
+}
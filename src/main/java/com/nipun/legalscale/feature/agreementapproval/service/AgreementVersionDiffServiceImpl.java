@@ -0,0 +1,176 @@
+package com.nipun.legalscale.feature.agreementapproval.service;
+
+import com.github.difflib.DiffUtils;
+import com.github.difflib.UnifiedDiffUtils;
+import com.github.difflib.patch.AbstractDelta;
+import com.github.difflib.patch.Patch;
+import com.nipun.legalscale.core.document.RenditionStatus;
+import com.nipun.legalscale.core.document.entity.DocumentRendition;
+import com.nipun.legalscale.core.document.repository.DocumentRenditionRepository;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementVersionDiffResponse;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementVersionDiffEntity;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementVersionEntity;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementVersionDiffRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementVersionRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.projection.VersionPairRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Diffs are line-based over {@link DocumentRendition#getExtractedText()}, so
+ * no comparison ever downloads or parses the files again. Every computed diff
+ * is stored; a scheduled job computes the diff between each pair of
+ * consecutive versions as soon as both texts are available, so the common
+ * "what changed in this revision" view is ready before anyone asks.
+ */
+@Slf4j
+@Service
+public class AgreementVersionDiffServiceImpl implements AgreementVersionDiffService {
+
+    private static final int CONTEXT_LINES = 3;
+
+    private final AgreementRepository agreementRepository;
+    private final AgreementVersionRepository versionRepository;
+    private final AgreementVersionDiffRepository diffRepository;
+    private final DocumentRenditionRepository renditionRepository;
+    private final int precomputeBatchSize;
+
+    public AgreementVersionDiffServiceImpl(AgreementRepository agreementRepository,
+            AgreementVersionRepository versionRepository,
+            AgreementVersionDiffRepository diffRepository,
+            DocumentRenditionRepository renditionRepository,
+            @Value("${app.agreement.diff.precompute-batch-size:20}") int precomputeBatchSize) {
+        this.agreementRepository = agreementRepository;
+        this.versionRepository = versionRepository;
+        this.diffRepository = diffRepository;
+        this.renditionRepository = renditionRepository;
+        this.precomputeBatchSize = Math.max(1, precomputeBatchSize);
+    }
+
+    /*
+     * Not @Transactional: the compute runs without holding a connection, and a
+     * store that loses a race to another request must not poison a shared
+     * transaction before the winner's row is read back.
+     */
+    @Override
+    public AgreementVersionDiffResponse getDiff(Long agreementId, int fromVersion, int toVersion) {
+        if (fromVersion == toVersion) {
+            throw new IllegalArgumentException("Choose two different versions to compare");
+        }
+        if (!agreementRepository.existsById(agreementId)) {
+            throw new IllegalArgumentException("Agreement not found");
+        }
+        AgreementVersionEntity from = findVersion(agreementId, fromVersion);
+        AgreementVersionEntity to = findVersion(agreementId, toVersion);
+
+        AgreementVersionDiffEntity diff = diffRepository
+                .findByFromVersionIdAndToVersionId(from.getId(), to.getId())
+                .orElseGet(() -> computeAndStore(from, to));
+        return toResponse(agreementId, fromVersion, toVersion, diff);
+    }
+
+    /**
+     * Stores diffs for consecutive versions whose texts became available since
+     * the last run. Pairs that cannot be diffed are logged and retried next run.
+     */
+    @Scheduled(fixedDelayString = "${app.agreement.diff.precompute-interval:PT1M}",
+            initialDelayString = "${app.agreement.diff.precompute-interval:PT1M}")
+    public void precomputeConsecutiveDiffs() {
+        List<VersionPairRow> pairs = diffRepository.findConsecutivePairsWithoutDiff(
+                RenditionStatus.READY, PageRequest.of(0, precomputeBatchSize));
+        for (VersionPairRow pair : pairs) {
+            try {
+                AgreementVersionEntity from = versionRepository.findById(pair.getFromVersionId()).orElseThrow();
+                AgreementVersionEntity to = versionRepository.findById(pair.getToVersionId()).orElseThrow();
+                computeAndStore(from, to);
+            } catch (RuntimeException e) {
+                log.warn("Could not diff agreement versions {} -> {}: {}",
+                        pair.getFromVersionId(), pair.getToVersionId(), e.getMessage());
+            }
+        }
+    }
+
+    // ─── Diffing
+    // ──────────────────────────────────────────────────────────────────
+
+    private AgreementVersionDiffEntity computeAndStore(AgreementVersionEntity from, AgreementVersionEntity to) {
+        DocumentRendition fromText = readyText(from);
+        DocumentRendition toText = readyText(to);
+
+        List<String> original = lines(fromText.getExtractedText());
+        List<String> revised = lines(toText.getExtractedText());
+        Patch<String> patch = DiffUtils.diff(original, revised);
+
+        int added = 0;
+        int removed = 0;
+        for (AbstractDelta<String> delta : patch.getDeltas()) {
+            added += delta.getTarget().size();
+            removed += delta.getSource().size();
+        }
+        String unifiedDiff = patch.getDeltas().isEmpty() ? ""
+                : String.join("\n", UnifiedDiffUtils.generateUnifiedDiff(
+                        "v" + from.getVersionNumber(), "v" + to.getVersionNumber(),
+                        original, patch, CONTEXT_LINES));
+
+        AgreementVersionDiffEntity diff = AgreementVersionDiffEntity.builder()
+                .fromVersion(from)
+                .toVersion(to)
+                .unifiedDiff(unifiedDiff)
+                .linesAdded(added)
+                .linesRemoved(removed)
+                .truncated(fromText.isTextTruncated() || toText.isTextTruncated())
+                .computedAt(LocalDateTime.now())
+                .build();
+        try {
+            return diffRepository.save(diff);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request stored the same pair first; theirs is identical
+            return diffRepository.findByFromVersionIdAndToVersionId(from.getId(), to.getId()).orElseThrow(() -> e);
+        }
+    }
+
+    private DocumentRendition readyText(AgreementVersionEntity version) {
+        if (version.getDocument() == null) {
+            throw new IllegalStateException("Version " + version.getVersionNumber() + " has no document");
+        }
+        DocumentRendition rendition = renditionRepository.findById(version.getDocument().getId())
+                .orElseThrow(() -> new IllegalStateException(
+                        "Text of version " + version.getVersionNumber() + " is still being extracted"));
+        if (rendition.getStatus() != RenditionStatus.READY || rendition.getExtractedText() == null) {
+            throw new IllegalStateException("Version " + version.getVersionNumber()
+                    + " has no extractable text (" + rendition.getStatus() + ")");
+        }
+        return rendition;
+    }
+
+    private static List<String> lines(String text) {
+        return text.isEmpty() ? List.of() : List.of(text.split("\\R", -1));
+    }
+
+    private AgreementVersionEntity findVersion(Long agreementId, int versionNumber) {
+        return versionRepository.findByAgreementIdAndVersionNumber(agreementId, versionNumber)
+                .orElseThrow(() -> new IllegalArgumentException("Version " + versionNumber + " not found"));
+    }
+
+    private AgreementVersionDiffResponse toResponse(Long agreementId, int fromVersion, int toVersion,
+            AgreementVersionDiffEntity diff) {
+        return AgreementVersionDiffResponse.builder()
+                .agreementId(agreementId)
+                .fromVersion(fromVersion)
+                .toVersion(toVersion)
+                .linesAdded(diff.getLinesAdded())
+                .linesRemoved(diff.getLinesRemoved())
+                .truncated(diff.isTruncated())
+                .unifiedDiff(diff.getUnifiedDiff())
+                .computedAt(diff.getComputedAt())
+                .build();
+    }
+}
@@ -1,6 +1,9 @@
 package com.nipun.legalscale.feature.auth;
 
+import com.nipun.legalscale.core.counter.CounterScope;
+import com.nipun.legalscale.core.counter.DashboardCounters;
 import com.nipun.legalscale.core.exception.AccountBannedException;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
 import com.nipun.legalscale.core.security.JwtService;
 import com.nipun.legalscale.feature.auth.dto.AuthResponse;
 import com.nipun.legalscale.feature.auth.dto.LoginRequest;
@@ -16,8 +19,7 @@ import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -28,8 +30,11 @@ public class AuthServiceImpl implements AuthService {
         private final PasswordEncoder passwordEncoder;
         private final JwtService jwtService;
         private final AuthenticationManager authenticationManager;
+        private final CurrentUserProvider currentUserProvider;
+        private final DashboardCounters dashboardCounters;
 
         @Override
+        @Transactional
         public AuthResponse register(RegisterRequest request) {
                 if (userRepository.existsByEmail(request.getEmail())) {
                         throw new IllegalArgumentException("Email already in use");
@@ -52,6 +57,7 @@ public class AuthServiceImpl implements AuthService {
                                 .build();
 
                 userRepository.save(user);
+                dashboardCounters.increment(CounterScope.USER_ROLE, role.getRoleName().name());
 
                 String token = jwtService.generateToken(user);
 
@@ -92,9 +98,7 @@ public class AuthServiceImpl implements AuthService {
 
         @Override
         public AuthResponse getCurrentUser() {
-                Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-                UserEntity user = userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+                UserEntity user = currentUserProvider.getCurrentUser();
 
                 return AuthResponse.builder()
                                 .email(user.getEmail())
@@ -1,6 +1,7 @@
 package com.nipun.legalscale.feature.legalcasehandling;
 
 import com.nipun.legalscale.feature.legalcasehandling.dto.CaseResponse;
+import com.nipun.legalscale.feature.legalcasehandling.dto.CaseSearchPageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,12 +28,31 @@ public class CaseController {
         return ResponseEntity.ok(caseService.getCaseById(id));
     }
 
+    /**
+     * GET /api/cases/search?q=&page=&size=
+     * Ranked full-text search across case text, comments, inquiry findings and
+     * criminal charges.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CaseSearchPageResponse> searchCases(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(caseService.searchCases(query, page, size));
+    }
+
     @GetMapping("/status-counts")
     @org.springframework.security.access.prepost.PreAuthorize("hasRole('MANAGEMENT')")
     public ResponseEntity<java.util.Map<String, Long>> getCaseStatusCounts() {
         return ResponseEntity.ok(caseService.getCaseStatusCounts());
     }
 
+    @GetMapping("/type-counts")
+    @org.springframework.security.access.prepost.PreAuthorize("hasRole('MANAGEMENT')")
+    public ResponseEntity<java.util.Map<String, Long>> getCaseTypeCounts() {
+        return ResponseEntity.ok(caseService.getCaseTypeCounts());
+    }
+
     @GetMapping("/officer-counts")
     @org.springframework.security.access.prepost.PreAuthorize("hasAnyRole('MANAGEMENT', 'SYSTEM_ADMIN')")
     public ResponseEntity<java.util.Map<String, Long>> getAssignedCaseCountsPerOfficer() {
@@ -1,8 +1,10 @@
 package com.nipun.legalscale.feature.legalcasehandling;
 
 import com.nipun.legalscale.feature.legalcasehandling.dto.*;
+import com.nipun.legalscale.feature.supervisor.dto.CaseActivityPageResponse;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CaseService {
@@ -16,16 +18,40 @@ public interface CaseService {
 
     List<CaseResponse> getAllNewCases();
 
-    List<CaseResponse> getAllCases();
+    /**
+     * Keyset-paginated listing ordered by newest first.
+     *
+     * @param cursor opaque value from a previous page's {@code nextCursor}, or
+     *               null for the first page
+     */
+    CasePageResponse getCasesPage(CaseListFilter filter, String cursor, int size);
 
     CaseResponse getCaseById(Long id);
 
+    /**
+     * Ranked full-text search over case fields, comments, inquiry findings and
+     * criminal charges. {@code query} uses web search syntax ("phrases",
+     * -exclusions, or).
+     */
+    CaseSearchPageResponse searchCases(String query, int page, int size);
+
     List<CaseResponse> getCasesAssignedToCurrentOfficer();
 
     List<CaseResponse> getCasesCreatedByCurrentSupervisor();
 
+    /**
+     * Comments and closing remarks on the current supervisor's cases, newest
+     * first, continuing after {@code cursor} (a previous page's nextCursor)
+     * and restricted to timestamps strictly after {@code since}. Either may
+     * be null.
+     */
+    CaseActivityPageResponse getActivityFeedForCurrentSupervisor(String cursor, LocalDateTime since,
+            int limit);
+
     java.util.Map<String, Long> getCaseStatusCounts();
 
+    java.util.Map<String, Long> getCaseTypeCounts();
+
     java.util.Map<String, Long> getAssignedCaseCountsPerOfficer();
 
     // ─── Supervisor Actions
@@ -37,6 +63,22 @@ public interface CaseService {
 
     CaseCommentResponse supervisorAddComment(Long caseId, AddCommentRequest request);
 
+    // ─── Bulk Supervisor Actions
+    // ──────────────────────────────────────────────────
+
+    /**
+     * Assigns many cases in one transaction. Items that fail validation (unknown
+     * case or officer, user not a Legal Officer, duplicate case) are skipped and
+     * reported; the rest are applied.
+     */
+    BulkCaseActionResponse bulkAssignCases(BulkAssignCasesRequest request);
+
+    /**
+     * Changes the status of many cases in one transaction, with the same rules
+     * and per-item reporting as {@link #bulkAssignCases}.
+     */
+    BulkCaseActionResponse bulkUpdateStatus(BulkUpdateCaseStatusRequest request);
+
     // ─── Officer Actions
     // ──────────────────────────────────────────────────────────
 
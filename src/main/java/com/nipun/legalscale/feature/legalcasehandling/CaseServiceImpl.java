@@ -1,28 +1,49 @@
 package com.nipun.legalscale.feature.legalcasehandling;
 
+import com.nipun.legalscale.core.counter.CounterScope;
+import com.nipun.legalscale.core.counter.DashboardCounters;
 import com.nipun.legalscale.core.document.DocumentService;
 import com.nipun.legalscale.core.document.dto.DocumentResponse;
 import com.nipun.legalscale.core.document.entity.Document;
 import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
 import com.nipun.legalscale.feature.legalcasehandling.dto.*;
 import com.nipun.legalscale.feature.legalcasehandling.entity.CaseCommentEntity;
 import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
 import com.nipun.legalscale.feature.legalcasehandling.repository.CaseCommentRepository;
+import com.nipun.legalscale.feature.legalcasehandling.repository.CaseSpecifications;
 import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.CaseActivityRow;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.legalcasehandling.search.CaseSearchHit;
+import com.nipun.legalscale.feature.legalcasehandling.search.CaseSearchIndex;
+import com.nipun.legalscale.feature.supervisor.dto.CaseActivityPageResponse;
+import com.nipun.legalscale.feature.supervisor.dto.CaseActivityResponse;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
 import com.nipun.legalscale.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -31,19 +52,24 @@ public class CaseServiceImpl implements CaseService {
         private final InitialCaseRepository initialCaseRepository;
         private final CaseCommentRepository caseCommentRepository;
         private final UserRepository userRepository;
+        private final CurrentUserProvider currentUserProvider;
         private final DocumentRepository documentRepository;
         private final DocumentService documentService;
+        private final TransactionTemplate transactionTemplate;
+        private final CaseSearchIndex caseSearchIndex;
+        private final DashboardCounters dashboardCounters;
+
+        private static final int MAX_PAGE_SIZE = 100;
+
+        /* Stand-ins for open-ended activity feed bounds */
+        private static final LocalDateTime FEED_EARLIEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+        private static final LocalDateTime FEED_LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+        private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
 
         // ─── Helpers
         // ──────────────────────────────────────────────────────────────────
 
-        private UserEntity currentUser() {
-                Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-                return userRepository.findByEmail(auth.getName())
-                                .orElseThrow(() -> new IllegalStateException(
-                                                "Authenticated user not found in database"));
-        }
-
         private InitialCaseEntity findCase(Long id) {
                 return initialCaseRepository.findById(id)
                                 .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + id));
@@ -117,54 +143,110 @@ public class CaseServiceImpl implements CaseService {
                                 .build();
         }
 
+        private CaseSummaryResponse toCaseSummary(InitialCaseEntity c) {
+                return CaseSummaryResponse.builder()
+                                .id(c.getId())
+                                .caseTitle(c.getCaseTitle())
+                                .caseType(c.getCaseType())
+                                .referenceNumber(c.getReferenceNumber())
+                                .courtOrAuthority(c.getCourtOrAuthority())
+                                .dateOfOccurrenceOrFiling(c.getDateOfOccurrenceOrFiling())
+                                .financialExposure(c.getFinancialExposure())
+                                .status(c.getStatus())
+                                .createdSupervisorName(c.getCreatedSupervisor().getFullName())
+                                .createdAt(c.getCreatedAt())
+                                .assignedOfficerName(
+                                                c.getAssignedOfficer() != null ? c.getAssignedOfficer().getFullName()
+                                                                : null)
+                                .assignedAt(c.getAssignedAt())
+                                .build();
+        }
+
+        /**
+         * Cursor format: URL-safe Base64 of "{createdAt}|{id}" for the last row of
+         * the previous page. Opaque to clients.
+         */
+        private String encodeCursor(InitialCaseEntity last) {
+                String raw = last.getCreatedAt() + "|" + last.getId();
+                return Base64.getUrlEncoder().withoutPadding()
+                                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private Specification<InitialCaseEntity> cursorSpecification(String cursor) {
+                if (cursor == null || cursor.isBlank()) {
+                        return null;
+                }
+                try {
+                        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                        int sep = raw.lastIndexOf('|');
+                        return CaseSpecifications.after(
+                                        LocalDateTime.parse(raw.substring(0, sep)),
+                                        Long.parseLong(raw.substring(sep + 1)));
+                } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                }
+        }
+
         // ─── Case Creation
         // ────────────────────────────────────────────────────────────
 
+        /**
+         * Attachments are uploaded concurrently before any transaction is opened,
+         * so a slow object store never holds a database connection. The case, its
+         * document rows and the attachment links are then written in a single
+         * transaction; if that fails the already-uploaded objects are deleted.
+         *
+         * The reference number is checked before uploading so an obvious duplicate
+         * costs no storage traffic; the check inside the transaction and the unique
+         * constraint still catch two submissions racing each other.
+         */
         @Override
-        @Transactional
         public CaseResponse createCase(CreateCaseRequest request, List<MultipartFile> attachments) {
-                if (initialCaseRepository.existsByReferenceNumber(request.getReferenceNumber())) {
-                        throw new IllegalArgumentException("A case with reference number '"
-                                        + request.getReferenceNumber() + "' already exists");
+                UserEntity creator = currentUserProvider.getCurrentUser();
+                requireNewReferenceNumber(request.getReferenceNumber());
+
+                List<MultipartFile> files = attachments == null ? List.of()
+                                : attachments.stream()
+                                                .filter(file -> file != null && !file.isEmpty())
+                                                .toList();
+                List<Document> stored = documentService.storeAll(files, creator.getId());
+
+                try {
+                        return transactionTemplate.execute(status -> {
+                                requireNewReferenceNumber(request.getReferenceNumber());
+
+                                InitialCaseEntity caseEntity = InitialCaseEntity.builder()
+                                                .caseTitle(request.getCaseTitle())
+                                                .caseType(request.getCaseType())
+                                                .referenceNumber(request.getReferenceNumber())
+                                                .partiesInvolved(request.getPartiesInvolved())
+                                                .natureOfCase(request.getNatureOfCase())
+                                                .dateOfOccurrenceOrFiling(request.getDateOfOccurrenceOrFiling())
+                                                .courtOrAuthority(request.getCourtOrAuthority())
+                                                .financialExposure(request.getFinancialExposure())
+                                                .summaryOfFacts(request.getSummaryOfFacts())
+                                                .status(CaseStatus.NEW)
+                                                .createdSupervisor(creator)
+                                                .createdAt(LocalDateTime.now())
+                                                .build();
+
+                                // Document rows are persisted through the cascade on the link table
+                                caseEntity.getSupportingAttachments().addAll(stored);
+                                dashboardCounters.increment(CounterScope.CASE_STATUS, CaseStatus.NEW.name());
+                                dashboardCounters.increment(CounterScope.CASE_TYPE, request.getCaseType().name());
+                                return toCaseResponse(initialCaseRepository.save(caseEntity));
+                        });
+                } catch (RuntimeException e) {
+                        documentService.discard(stored);
+                        throw e;
                 }
+        }
 
-                UserEntity creator = currentUser();
-
-                InitialCaseEntity caseEntity = InitialCaseEntity.builder()
-                                .caseTitle(request.getCaseTitle())
-                                .caseType(request.getCaseType())
-                                .referenceNumber(request.getReferenceNumber())
-                                .partiesInvolved(request.getPartiesInvolved())
-                                .natureOfCase(request.getNatureOfCase())
-                                .dateOfOccurrenceOrFiling(request.getDateOfOccurrenceOrFiling())
-                                .courtOrAuthority(request.getCourtOrAuthority())
-                                .financialExposure(request.getFinancialExposure())
-                                .summaryOfFacts(request.getSummaryOfFacts())
-                                .status(CaseStatus.NEW)
-                                .createdSupervisor(creator)
-                                .createdAt(LocalDateTime.now())
-                                .build();
-
-                // Persist first so we have an ID to link documents against
-                InitialCaseEntity saved = initialCaseRepository.save(caseEntity);
-
-                // Attach any files supplied at creation time
-                if (attachments != null) {
-                        for (MultipartFile file : attachments) {
-                                if (file != null && !file.isEmpty()) {
-                                        DocumentResponse uploaded = documentService.upload(file, creator.getId());
-                                        Document document = documentRepository.findById(uploaded.id())
-                                                        .orElseThrow(() -> new IllegalStateException(
-                                                                        "Document was not persisted correctly"));
-                                        saved.getSupportingAttachments().add(document);
-                                }
-                        }
-                        if (!attachments.isEmpty()) {
-                                saved = initialCaseRepository.save(saved);
-                        }
+        private void requireNewReferenceNumber(String referenceNumber) {
+                if (initialCaseRepository.existsByReferenceNumber(referenceNumber)) {
+                        throw new IllegalArgumentException("A case with reference number '"
+                                        + referenceNumber + "' already exists");
                 }
-
-                return toCaseResponse(saved);
         }
 
         // ─── Read
@@ -180,22 +262,89 @@ public class CaseServiceImpl implements CaseService {
 
         @Override
         @Transactional(readOnly = true)
-        public List<CaseResponse> getAllCases() {
-                return initialCaseRepository.findAll().stream()
-                                .map(this::toCaseResponse)
-                                .collect(Collectors.toList());
+        public CasePageResponse getCasesPage(CaseListFilter filter, String cursor, int size) {
+                int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+                CaseListFilter f = filter != null ? filter : new CaseListFilter();
+
+                Specification<InitialCaseEntity> spec = Specification.allOf(
+                                CaseSpecifications.hasStatus(f.getStatus()),
+                                CaseSpecifications.hasCaseType(f.getCaseType()),
+                                CaseSpecifications.assignedTo(f.getAssignedOfficerId()),
+                                CaseSpecifications.createdBy(f.getCreatedSupervisorId()),
+                                CaseSpecifications.createdOnOrAfter(
+                                                f.getCreatedFrom() != null ? f.getCreatedFrom().atStartOfDay() : null),
+                                CaseSpecifications.createdBefore(
+                                                f.getCreatedTo() != null ? f.getCreatedTo().plusDays(1).atStartOfDay()
+                                                                : null),
+                                cursorSpecification(cursor),
+                                CaseSpecifications.fetchListParticipants());
+
+                // Fetch one extra row to learn whether another page exists without a COUNT
+                List<InitialCaseEntity> rows = initialCaseRepository.findBy(spec,
+                                q -> q.sortBy(NEWEST_FIRST).limit(pageSize + 1).all());
+
+                boolean hasMore = rows.size() > pageSize;
+                List<InitialCaseEntity> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+                return CasePageResponse.builder()
+                                .items(page.stream().map(this::toCaseSummary).collect(Collectors.toList()))
+                                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1)) : null)
+                                .build();
         }
 
         @Override
         @Transactional(readOnly = true)
         public CaseResponse getCaseById(Long id) {
-                return toCaseResponse(findCase(id));
+                return toCaseResponse(initialCaseRepository.findDetailedById(id)
+                                .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + id)));
+        }
+
+        /**
+         * Ranking and paging happen in the index; only the page's cases are then
+         * loaded, with their participants, in one query. One extra hit is fetched
+         * to tell whether a next page exists.
+         */
+        @Override
+        @Transactional(readOnly = true)
+        public CaseSearchPageResponse searchCases(String query, int page, int size) {
+                if (query == null || query.isBlank()) {
+                        throw new IllegalArgumentException("Search query must not be empty");
+                }
+                int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+                int pageNumber = Math.max(0, page);
+
+                List<CaseSearchHit> hits = caseSearchIndex.search(query.strip(), pageSize + 1,
+                                (long) pageNumber * pageSize);
+                boolean hasNext = hits.size() > pageSize;
+                if (hasNext) {
+                        hits = hits.subList(0, pageSize);
+                }
+
+                Map<Long, InitialCaseEntity> cases = initialCaseRepository
+                                .findByIdIn(hits.stream().map(CaseSearchHit::caseId).toList()).stream()
+                                .collect(Collectors.toMap(InitialCaseEntity::getId, Function.identity()));
+
+                List<CaseSearchResultResponse> items = hits.stream()
+                                .filter(hit -> cases.containsKey(hit.caseId()))
+                                .map(hit -> CaseSearchResultResponse.builder()
+                                                .caseSummary(toCaseSummary(cases.get(hit.caseId())))
+                                                .rank(hit.rank())
+                                                .headline(hit.headline())
+                                                .build())
+                                .toList();
+
+                return CaseSearchPageResponse.builder()
+                                .items(items)
+                                .page(pageNumber)
+                                .size(pageSize)
+                                .hasNext(hasNext)
+                                .build();
         }
 
         @Override
         @Transactional(readOnly = true)
         public List<CaseResponse> getCasesAssignedToCurrentOfficer() {
-                UserEntity officer = currentUser();
+                UserEntity officer = currentUserProvider.getCurrentUser();
                 return initialCaseRepository.findByAssignedOfficerId(officer.getId()).stream()
                                 .map(this::toCaseResponse)
                                 .collect(Collectors.toList());
@@ -204,7 +353,7 @@ public class CaseServiceImpl implements CaseService {
         @Override
         @Transactional(readOnly = true)
         public List<CaseResponse> getCasesCreatedByCurrentSupervisor() {
-                UserEntity supervisor = currentUser();
+                UserEntity supervisor = currentUserProvider.getCurrentUser();
                 return initialCaseRepository.findByCreatedSupervisorId(supervisor.getId()).stream()
                                 .map(this::toCaseResponse)
                                 .collect(Collectors.toList());
@@ -212,19 +361,83 @@ public class CaseServiceImpl implements CaseService {
 
         @Override
         @Transactional(readOnly = true)
+        public CaseActivityPageResponse getActivityFeedForCurrentSupervisor(String cursor,
+                        LocalDateTime since, int limit) {
+                UserEntity supervisor = currentUserProvider.getCurrentUser();
+                int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+                FeedPosition after = decodeFeedCursor(cursor);
+
+                List<CaseActivityRow> rows = caseCommentRepository.findActivityFeed(
+                                supervisor.getId(),
+                                after.timestamp(),
+                                after.type(),
+                                after.entryId(),
+                                since != null ? since : FEED_EARLIEST,
+                                pageSize + 1);
+
+                boolean hasMore = rows.size() > pageSize;
+                List<CaseActivityRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+                List<CaseActivityResponse> items = page.stream()
+                                .map(r -> CaseActivityResponse.builder()
+                                                .type(r.getType())
+                                                .caseId(r.getCaseId())
+                                                .caseTitle(r.getCaseTitle())
+                                                .referenceNumber(r.getReferenceNumber())
+                                                .authorName(r.getAuthorName())
+                                                .authorEmail(r.getAuthorEmail())
+                                                .content(r.getContent())
+                                                .timestamp(r.getTimestamp())
+                                                .build())
+                                .collect(Collectors.toList());
+
+                return CaseActivityPageResponse.builder()
+                                .items(items)
+                                .nextCursor(hasMore ? encodeFeedCursor(page.get(page.size() - 1)) : null)
+                                .build();
+        }
+
+        /**
+         * Feed cursor format: URL-safe Base64 of "{timestamp}|{type}|{entryId}"
+         * for the last entry of the previous page. Opaque to clients.
+         */
+        private String encodeFeedCursor(CaseActivityRow last) {
+                String raw = last.getTimestamp() + "|" + last.getType() + "|" + last.getEntryId();
+                return Base64.getUrlEncoder().withoutPadding()
+                                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private FeedPosition decodeFeedCursor(String cursor) {
+                if (cursor == null || cursor.isBlank()) {
+                        // Everything before FEED_LATEST qualifies, so type and id are never compared
+                        return new FeedPosition(FEED_LATEST, "", 0L);
+                }
+                try {
+                        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                                        .split("\\|", -1);
+                        return new FeedPosition(LocalDateTime.parse(parts[0]), parts[1], Long.parseLong(parts[2]));
+                } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                }
+        }
+
+        private record FeedPosition(LocalDateTime timestamp, String type, Long entryId) {
+        }
+
+        // Dashboard tallies are maintained by the write paths below; see DashboardCounters
+
+        @Override
         public java.util.Map<String, Long> getCaseStatusCounts() {
-                return initialCaseRepository.findAll().stream()
-                                .collect(Collectors.groupingBy(c -> c.getStatus().name(), Collectors.counting()));
+                return dashboardCounters.read(CounterScope.CASE_STATUS);
+        }
+
+        @Override
+        public java.util.Map<String, Long> getCaseTypeCounts() {
+                return dashboardCounters.read(CounterScope.CASE_TYPE);
         }
 
         @Override
-        @Transactional(readOnly = true)
         public java.util.Map<String, Long> getAssignedCaseCountsPerOfficer() {
-                return initialCaseRepository.findAll().stream()
-                                .filter(c -> c.getAssignedOfficer() != null)
-                                .collect(Collectors.groupingBy(
-                                                c -> c.getAssignedOfficer().getFullName(),
-                                                Collectors.counting()));
+                return dashboardCounters.read(CounterScope.CASE_OFFICER);
         }
 
         // ─── Supervisor Actions
@@ -233,22 +446,14 @@ public class CaseServiceImpl implements CaseService {
         @Override
         @Transactional
         public CaseResponse assignCaseToOfficer(Long caseId, AssignCaseRequest request) {
-                UserEntity supervisor = currentUser();
+                UserEntity supervisor = currentUserProvider.getCurrentUser();
                 InitialCaseEntity caseEntity = findCase(caseId);
 
                 UserEntity officer = userRepository.findById(request.getOfficerId())
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Officer not found with id: " + request.getOfficerId()));
 
-                // Verify the target user is a LEGAL_OFFICER
-                String officerRole = officer.getRole().getRoleName().name();
-                if (!officerRole.equals("LEGAL_OFFICER")) {
-                        throw new IllegalArgumentException("The selected user is not a Legal Officer");
-                }
-
-                caseEntity.setAssignedOfficer(officer);
-
-                caseEntity.setAssignedAt(LocalDateTime.now());
+                applyAssignment(caseEntity, officer, LocalDateTime.now());
 
                 return toCaseResponse(initialCaseRepository.save(caseEntity));
         }
@@ -256,10 +461,10 @@ public class CaseServiceImpl implements CaseService {
         @Override
         @Transactional
         public CaseResponse supervisorUpdateStatus(Long caseId, UpdateCaseStatusRequest request) {
-                UserEntity supervisor = currentUser();
+                UserEntity supervisor = currentUserProvider.getCurrentUser();
                 InitialCaseEntity caseEntity = findCase(caseId);
 
-                applyStatusChange(caseEntity, request, supervisor);
+                applyStatusChange(caseEntity, request.getStatus(), request.getClosingRemarks(), supervisor);
 
                 return toCaseResponse(initialCaseRepository.save(caseEntity));
         }
@@ -267,7 +472,7 @@ public class CaseServiceImpl implements CaseService {
         @Override
         @Transactional
         public CaseCommentResponse supervisorAddComment(Long caseId, AddCommentRequest request) {
-                UserEntity supervisor = currentUser();
+                UserEntity supervisor = currentUserProvider.getCurrentUser();
                 InitialCaseEntity caseEntity = findCase(caseId);
 
                 CaseCommentEntity comment = CaseCommentEntity.builder()
@@ -280,13 +485,101 @@ public class CaseServiceImpl implements CaseService {
                 return toCommentResponse(caseCommentRepository.save(comment));
         }
 
+        // ─── Bulk Supervisor Actions
+        // ──────────────────────────────────────────────────
+
+        /**
+         * The cases (with their participants) and the officers named in the
+         * request are loaded in one query each. Items that fail validation are
+         * reported and left untouched; the rest are flushed together at commit as
+         * JDBC-batched UPDATEs.
+         */
+        @Override
+        @Transactional
+        public BulkCaseActionResponse bulkAssignCases(BulkAssignCasesRequest request) {
+                List<CaseAssignmentItem> items = request.getAssignments();
+                Map<Long, InitialCaseEntity> cases = loadCases(items.stream().map(CaseAssignmentItem::getCaseId));
+                Map<Long, UserEntity> officers = userRepository
+                                .findAllById(items.stream().map(CaseAssignmentItem::getOfficerId).distinct().toList())
+                                .stream()
+                                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+
+                LocalDateTime now = LocalDateTime.now();
+                Set<Long> seen = new HashSet<>();
+                List<BulkCaseItemResult> results = new ArrayList<>(items.size());
+                for (CaseAssignmentItem item : items) {
+                        results.add(applyBulkItem(item.getCaseId(), cases, seen, caseEntity -> {
+                                UserEntity officer = officers.get(item.getOfficerId());
+                                if (officer == null) {
+                                        throw new IllegalArgumentException(
+                                                        "Officer not found with id: " + item.getOfficerId());
+                                }
+                                applyAssignment(caseEntity, officer, now);
+                        }));
+                }
+                return toBulkResponse(results);
+        }
+
+        @Override
+        @Transactional
+        public BulkCaseActionResponse bulkUpdateStatus(BulkUpdateCaseStatusRequest request) {
+                UserEntity supervisor = currentUserProvider.getCurrentUser();
+                List<CaseStatusChangeItem> items = request.getChanges();
+                Map<Long, InitialCaseEntity> cases = loadCases(items.stream().map(CaseStatusChangeItem::getCaseId));
+
+                Set<Long> seen = new HashSet<>();
+                List<BulkCaseItemResult> results = new ArrayList<>(items.size());
+                for (CaseStatusChangeItem item : items) {
+                        results.add(applyBulkItem(item.getCaseId(), cases, seen,
+                                        caseEntity -> applyStatusChange(caseEntity, item.getStatus(),
+                                                        item.getClosingRemarks(), supervisor)));
+                }
+                return toBulkResponse(results);
+        }
+
+        private Map<Long, InitialCaseEntity> loadCases(Stream<Long> caseIds) {
+                return initialCaseRepository.findByIdIn(caseIds.distinct().toList()).stream()
+                                .collect(Collectors.toMap(InitialCaseEntity::getId, Function.identity()));
+        }
+
+        /**
+         * Runs one item's change; validation failures (which are raised before
+         * the case is modified) become that item's error instead of failing the
+         * whole request. A case may appear only once per request.
+         */
+        private BulkCaseItemResult applyBulkItem(Long caseId, Map<Long, InitialCaseEntity> cases, Set<Long> seen,
+                        Consumer<InitialCaseEntity> change) {
+                try {
+                        InitialCaseEntity caseEntity = cases.get(caseId);
+                        if (caseEntity == null) {
+                                throw new IllegalArgumentException("Case not found with id: " + caseId);
+                        }
+                        if (!seen.add(caseId)) {
+                                throw new IllegalArgumentException("Case appears more than once in this request");
+                        }
+                        change.accept(caseEntity);
+                        return BulkCaseItemResult.builder().caseId(caseId).applied(true).build();
+                } catch (IllegalArgumentException e) {
+                        return BulkCaseItemResult.builder().caseId(caseId).applied(false).error(e.getMessage()).build();
+                }
+        }
+
+        private BulkCaseActionResponse toBulkResponse(List<BulkCaseItemResult> results) {
+                int applied = (int) results.stream().filter(BulkCaseItemResult::isApplied).count();
+                return BulkCaseActionResponse.builder()
+                                .applied(applied)
+                                .skipped(results.size() - applied)
+                                .results(results)
+                                .build();
+        }
+
         // ─── Officer Actions
         // ──────────────────────────────────────────────────────────
 
         @Override
         @Transactional
         public CaseResponse officerUpdateStatus(Long caseId, UpdateCaseStatusRequest request) {
-                UserEntity officer = currentUser();
+                UserEntity officer = currentUserProvider.getCurrentUser();
                 InitialCaseEntity caseEntity = findCase(caseId);
 
                 // Officers can only update cases assigned to them
@@ -295,7 +588,7 @@ public class CaseServiceImpl implements CaseService {
                         throw new AccessDeniedException("You are not assigned to this case");
                 }
 
-                applyStatusChange(caseEntity, request, officer);
+                applyStatusChange(caseEntity, request.getStatus(), request.getClosingRemarks(), officer);
 
                 return toCaseResponse(initialCaseRepository.save(caseEntity));
         }
@@ -303,7 +596,7 @@ public class CaseServiceImpl implements CaseService {
         @Override
         @Transactional
         public CaseCommentResponse officerAddComment(Long caseId, AddCommentRequest request) {
-                UserEntity officer = currentUser();
+                UserEntity officer = currentUserProvider.getCurrentUser();
                 InitialCaseEntity caseEntity = findCase(caseId);
 
                 // Officers can only comment on cases assigned to them
@@ -328,7 +621,7 @@ public class CaseServiceImpl implements CaseService {
         @Override
         @Transactional
         public CaseResponse attachDocument(Long caseId, MultipartFile file) {
-                UserEntity uploader = currentUser();
+                UserEntity uploader = currentUserProvider.getCurrentUser();
                 InitialCaseEntity caseEntity = findCase(caseId);
 
                 // Delegate to the generic DocumentService to store the file
@@ -369,28 +662,46 @@ public class CaseServiceImpl implements CaseService {
          * - ON_HOLD → no extra audit fields
          */
         private void applyStatusChange(InitialCaseEntity caseEntity,
-                        UpdateCaseStatusRequest request,
+                        CaseStatus newStatus,
+                        String closingRemarks,
                         UserEntity actor) {
-                CaseStatus newStatus = request.getStatus();
-
                 switch (newStatus) {
                         case ACTIVE -> {
                                 caseEntity.setApprovedBy(actor);
                                 caseEntity.setApprovedAt(LocalDateTime.now());
                         }
                         case CLOSED -> {
-                                if (request.getClosingRemarks() == null || request.getClosingRemarks().isBlank()) {
+                                if (closingRemarks == null || closingRemarks.isBlank()) {
                                         throw new IllegalArgumentException(
                                                         "Closing remarks are required when closing a case");
                                 }
                                 caseEntity.setClosedBy(actor);
                                 caseEntity.setClosedAt(LocalDateTime.now());
-                                caseEntity.setClosingRemarks(request.getClosingRemarks());
+                                caseEntity.setClosingRemarks(closingRemarks);
                         }
                         default -> {
                                 /* ON_HOLD, NEW – no extra audit needed */ }
                 }
 
+                dashboardCounters.move(CounterScope.CASE_STATUS, caseEntity.getStatus().name(), newStatus.name());
                 caseEntity.setStatus(newStatus);
         }
+
+        /**
+         * Assigns a case to a Legal Officer, recording when it happened.
+         */
+        private void applyAssignment(InitialCaseEntity caseEntity, UserEntity officer, LocalDateTime assignedAt) {
+                // Verify the target user is a LEGAL_OFFICER
+                if (officer.getRole().getRoleName() != Role.LEGAL_OFFICER) {
+                        throw new IllegalArgumentException("The selected user is not a Legal Officer");
+                }
+
+                dashboardCounters.move(CounterScope.CASE_OFFICER,
+                                caseEntity.getAssignedOfficer() != null
+                                                ? caseEntity.getAssignedOfficer().getFullName()
+                                                : null,
+                                officer.getFullName());
+                caseEntity.setAssignedOfficer(officer);
+                caseEntity.setAssignedAt(assignedAt);
+        }
 }
@@ -1,5 +1,6 @@
 package com.nipun.legalscale.feature.legalcasehandling.casedetail.appeals;
 
+import com.nipun.legalscale.core.security.CurrentUserProvider;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.appeals.dto.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.appeals.entity.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.appeals.enums.DeadlineStatus;
@@ -9,10 +10,7 @@ import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
 import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
-import com.nipun.legalscale.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,17 +27,11 @@ public class AppealServiceImpl implements AppealService {
     private final AppealDeadlineRepository deadlineRepository;
     private final AppealOutcomeRepository outcomeRepository;
     private final InitialCaseRepository initialCaseRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     // ─── Helpers
     // ──────────────────────────────────────────────────────────────────
 
-    private UserEntity currentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-    }
-
     private InitialCaseEntity findAndValidateCase(Long caseId) {
         InitialCaseEntity caseEntity = initialCaseRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + caseId));
@@ -156,7 +148,7 @@ public class AppealServiceImpl implements AppealService {
     @Transactional
     public AppealDetailResponse setAppealDetails(Long caseId, AppealDetailRequest request) {
         InitialCaseEntity caseEntity = findAndValidateCase(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Resolve the optional original case link
         InitialCaseEntity originalCase = null;
@@ -211,7 +203,7 @@ public class AppealServiceImpl implements AppealService {
     public AppealDeadlineResponse addDeadline(Long caseId, AppealDeadlineRequest request) {
         findAndValidateCase(caseId);
         AppealDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         AppealDeadline deadline = AppealDeadline.builder()
                 .appealDetail(detail)
@@ -243,7 +235,7 @@ public class AppealServiceImpl implements AppealService {
                     "Extended deadline date is required when setting status to EXTENDED.");
         }
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         deadline.setStatus(request.getStatus());
         deadline.setExtendedDeadlineDate(request.getExtendedDeadlineDate());
         if (request.getNotes() != null && !request.getNotes().isBlank()) {
@@ -275,7 +267,7 @@ public class AppealServiceImpl implements AppealService {
     public AppealOutcomeResponse recordOutcome(Long caseId, AppealOutcomeRequest request) {
         findAndValidateCase(caseId);
         AppealDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         AppealOutcome outcome;
         if (outcomeRepository.existsByAppealDetailId(detail.getId())) {
@@ -1,5 +1,6 @@
 package com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal;
 
+import com.nipun.legalscale.core.security.CurrentUserProvider;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.dto.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.entity.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.enums.ChargeStatus;
@@ -11,10 +12,7 @@ import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
 import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
-import com.nipun.legalscale.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,17 +29,11 @@ public class CriminalCaseServiceImpl implements CriminalCaseService {
     private final CriminalChargeRepository chargeRepository;
     private final CourtHearingRepository hearingRepository;
     private final InitialCaseRepository initialCaseRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     // ─── Helpers
     // ──────────────────────────────────────────────────────────────────
 
-    private UserEntity currentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-    }
-
     private InitialCaseEntity findAndValidateCase(Long caseId) {
         InitialCaseEntity caseEntity = initialCaseRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + caseId));
@@ -180,7 +172,7 @@ public class CriminalCaseServiceImpl implements CriminalCaseService {
     @Transactional
     public CriminalCaseDetailResponse setCaseDetails(Long caseId, CriminalCaseDetailRequest request) {
         InitialCaseEntity caseEntity = findAndValidateCase(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         CriminalCaseDetail detail;
 
         if (detailRepository.existsByInitialCaseId(caseId)) {
@@ -227,7 +219,7 @@ public class CriminalCaseServiceImpl implements CriminalCaseService {
     public CriminalChargeResponse addCharge(Long caseId, CriminalChargeRequest request) {
         findAndValidateCase(caseId);
         CriminalCaseDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         CriminalCharge charge = CriminalCharge.builder()
                 .criminalCaseDetail(detail)
@@ -255,7 +247,7 @@ public class CriminalCaseServiceImpl implements CriminalCaseService {
                 .orElseThrow(() -> new IllegalArgumentException("Charge not found with id: " + chargeId));
         assertChargeOwnership(charge, caseId);
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         charge.setStatute(request.getStatute());
         charge.setSection(request.getSection());
         charge.setOffenceName(request.getOffenceName());
@@ -291,7 +283,7 @@ public class CriminalCaseServiceImpl implements CriminalCaseService {
     public CourtHearingResponse addHearing(Long caseId, CourtHearingRequest request) {
         findAndValidateCase(caseId);
         CriminalCaseDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Guard: ADJOURNED outcome must have a next hearing date
         if (request.getOutcome() == HearingOutcome.ADJOURNED && request.getNextHearingDate() == null) {
@@ -328,7 +320,7 @@ public class CriminalCaseServiceImpl implements CriminalCaseService {
             throw new IllegalArgumentException("Next hearing date is required when outcome is ADJOURNED.");
         }
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         hearing.setHearingDate(request.getHearingDate());
         hearing.setHearingType(request.getHearingType());
         hearing.setPresidingJudge(request.getPresidingJudge());
@@ -2,6 +2,7 @@ package com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.entit
 
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.enums.ChargeStatus;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.enums.PleaType;
+import com.nipun.legalscale.feature.legalcasehandling.search.CaseSearchListener;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
  * Feature 1 – Charge Management.
  */
 @Entity
+@EntityListeners(CaseSearchListener.class)
 @Table(name = "criminal_charges")
 @Getter
 @Setter
@@ -1,5 +1,6 @@
 package com.nipun.legalscale.feature.legalcasehandling.casedetail.damagesrecovery;
 
+import com.nipun.legalscale.core.security.CurrentUserProvider;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.damagesrecovery.dto.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.damagesrecovery.entity.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.damagesrecovery.enums.SettlementStatus;
@@ -9,10 +10,7 @@ import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
 import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
-import com.nipun.legalscale.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,17 +28,11 @@ public class DamagesRecoveryServiceImpl implements DamagesRecoveryService {
     private final CompensationPaymentRepository paymentRepository;
     private final SettlementAgreementRepository settlementRepository;
     private final InitialCaseRepository initialCaseRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     // ─── Helpers
     // ──────────────────────────────────────────────────────────────────
 
-    private UserEntity currentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-    }
-
     private InitialCaseEntity findAndValidateCase(Long caseId) {
         InitialCaseEntity caseEntity = initialCaseRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + caseId));
@@ -168,7 +160,7 @@ public class DamagesRecoveryServiceImpl implements DamagesRecoveryService {
     @Transactional
     public DamagesRecoveryDetailResponse setCompensationClaimed(Long caseId, DamagesRecoveryDetailRequest request) {
         InitialCaseEntity caseEntity = findAndValidateCase(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         DamagesRecoveryDetail detail;
 
         if (detailRepository.existsByInitialCaseId(caseId)) {
@@ -202,7 +194,7 @@ public class DamagesRecoveryServiceImpl implements DamagesRecoveryService {
     public DamageAssessmentResponse addAssessment(Long caseId, DamageAssessmentRequest request) {
         findAndValidateCase(caseId);
         DamagesRecoveryDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         DamageAssessment assessment = DamageAssessment.builder()
                 .damagesRecoveryDetail(detail)
@@ -231,7 +223,7 @@ public class DamagesRecoveryServiceImpl implements DamagesRecoveryService {
             throw new IllegalArgumentException("Assessment " + assessmentId + " does not belong to case " + caseId);
         }
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         assessment.setStatus(request.getStatus());
         if (request.getNotes() != null && !request.getNotes().isBlank()) {
             assessment.setNotes(request.getNotes());
@@ -263,7 +255,7 @@ public class DamagesRecoveryServiceImpl implements DamagesRecoveryService {
     public CompensationPaymentResponse recordPayment(Long caseId, CompensationPaymentRequest request) {
         findAndValidateCase(caseId);
         DamagesRecoveryDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Guard: payment must not exceed outstanding balance
         BigDecimal alreadyReceived = paymentRepository.sumAmountByDetailId(detail.getId());
@@ -311,7 +303,7 @@ public class DamagesRecoveryServiceImpl implements DamagesRecoveryService {
     public SettlementAgreementResponse proposeSettlement(Long caseId, SettlementAgreementRequest request) {
         findAndValidateCase(caseId);
         DamagesRecoveryDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         SettlementAgreement settlement;
 
@@ -345,7 +337,7 @@ public class DamagesRecoveryServiceImpl implements DamagesRecoveryService {
     public SettlementAgreementResponse updateSettlementStatus(Long caseId, SettlementStatus newStatus) {
         findAndValidateCase(caseId);
         DamagesRecoveryDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         SettlementAgreement settlement = settlementRepository.findByDamagesRecoveryDetailId(detail.getId())
                 .orElseThrow(() -> new IllegalArgumentException(
@@ -1,5 +1,6 @@
 package com.nipun.legalscale.feature.legalcasehandling.casedetail.inquiry;
 
+import com.nipun.legalscale.core.security.CurrentUserProvider;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.inquiry.dto.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.inquiry.entity.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.inquiry.enums.DecisionStatus;
@@ -11,10 +12,7 @@ import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
 import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
-import com.nipun.legalscale.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,17 +30,11 @@ public class InquiryServiceImpl implements InquiryService {
     private final InquiryFindingRepository findingRepository;
     private final InquiryDecisionRepository decisionRepository;
     private final InitialCaseRepository initialCaseRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     // ─── Helpers
     // ──────────────────────────────────────────────────────────────────
 
-    private UserEntity currentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-    }
-
     private InitialCaseEntity findAndValidateCase(Long caseId) {
         InitialCaseEntity caseEntity = initialCaseRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + caseId));
@@ -207,7 +199,7 @@ public class InquiryServiceImpl implements InquiryService {
     @Transactional
     public InquiryDetailResponse setInquiryDetails(Long caseId, InquiryDetailRequest request) {
         InitialCaseEntity caseEntity = findAndValidateCase(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         InquiryDetail detail;
 
         if (detailRepository.existsByInitialCaseId(caseId)) {
@@ -253,7 +245,7 @@ public class InquiryServiceImpl implements InquiryService {
     public PanelMemberResponse addPanelMember(Long caseId, PanelMemberRequest request) {
         findAndValidateCase(caseId);
         InquiryDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Enforce at most one CHAIRPERSON per panel
         if (request.getRole() == PanelMemberRole.CHAIRPERSON
@@ -297,7 +289,7 @@ public class InquiryServiceImpl implements InquiryService {
     public InquiryFindingResponse addFinding(Long caseId, InquiryFindingRequest request) {
         findAndValidateCase(caseId);
         InquiryDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Auto-assign next finding number
         int nextNumber = findingRepository.findMaxFindingNumber(detail.getId()) + 1;
@@ -325,7 +317,7 @@ public class InquiryServiceImpl implements InquiryService {
                 .orElseThrow(() -> new IllegalArgumentException("Finding not found with id: " + findingId));
         assertBelongsToDetail(finding.getInquiryDetail().getId(), findDetail(caseId).getId(), "Finding " + findingId);
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         finding.setFindingTitle(request.getFindingTitle());
         finding.setFindingDescription(request.getFindingDescription());
         finding.setSeverity(request.getSeverity());
@@ -354,7 +346,7 @@ public class InquiryServiceImpl implements InquiryService {
     public InquiryDecisionResponse addDecision(Long caseId, InquiryDecisionRequest request) {
         findAndValidateCase(caseId);
         InquiryDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Optionally resolve the related finding
         InquiryFinding relatedFinding = null;
@@ -397,7 +389,7 @@ public class InquiryServiceImpl implements InquiryService {
                     "An implemented date is required when marking a decision as IMPLEMENTED.");
         }
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         decision.setStatus(request.getStatus());
         decision.setImplementedDate(request.getImplementedDate());
         if (request.getNotes() != null && !request.getNotes().isBlank()) {
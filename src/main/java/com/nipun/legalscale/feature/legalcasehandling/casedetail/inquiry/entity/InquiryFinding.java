@@ -1,6 +1,7 @@
 package com.nipun.legalscale.feature.legalcasehandling.casedetail.inquiry.entity;
 
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.inquiry.enums.FindingSeverity;
+import com.nipun.legalscale.feature.legalcasehandling.search.CaseSearchListener;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
  * Feature 2 – Findings & Recommendations.
  */
 @Entity
+@EntityListeners(CaseSearchListener.class)
 @Table(name = "inquiry_findings")
 @Getter
 @Setter
@@ -2,6 +2,7 @@ package com.nipun.legalscale.feature.legalcasehandling.casedetail.land;
 
 import com.nipun.legalscale.core.document.entity.Document;
 import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.land.dto.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.land.entity.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.land.repository.*;
@@ -10,10 +11,7 @@ import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
 import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
-import com.nipun.legalscale.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,17 +28,11 @@ public class LandCaseServiceImpl implements LandCaseService {
     private final LandDeedPlanRepository deedPlanRepository;
     private final InitialCaseRepository initialCaseRepository;
     private final DocumentRepository documentRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     // ─── Helpers
     // ──────────────────────────────────────────────────────────────────
 
-    private UserEntity currentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-    }
-
     private InitialCaseEntity findAndValidateCase(Long caseId) {
         InitialCaseEntity caseEntity = initialCaseRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + caseId));
@@ -164,7 +156,7 @@ public class LandCaseServiceImpl implements LandCaseService {
     @Transactional
     public LandDetailResponse setLandDetails(Long caseId, LandDetailRequest request) {
         InitialCaseEntity caseEntity = findAndValidateCase(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Uniqueness check: no two cases should share the same land reference number
         if (landDetailRepository.existsByLandReferenceNumberAndInitialCaseIdNot(
@@ -229,7 +221,7 @@ public class LandCaseServiceImpl implements LandCaseService {
     public OwnershipRecordResponse addOwnershipRecord(Long caseId, OwnershipRecordRequest request) {
         findAndValidateCase(caseId);
         LandDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Validate date range
         if (request.getOwnershipEndDate() != null
@@ -268,7 +260,7 @@ public class LandCaseServiceImpl implements LandCaseService {
             throw new IllegalArgumentException("Ownership end date must be after the start date.");
         }
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         record.setOwnerName(request.getOwnerName());
         record.setOwnerIdentificationNumber(request.getOwnerIdentificationNumber());
         record.setOwnerAddress(request.getOwnerAddress());
@@ -300,7 +292,7 @@ public class LandCaseServiceImpl implements LandCaseService {
     public LandDeedPlanResponse addDeedPlan(Long caseId, LandDeedPlanRequest request) {
         findAndValidateCase(caseId);
         LandDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Optionally resolve the uploaded document
         Document uploadedDoc = null;
@@ -1,5 +1,6 @@
 package com.nipun.legalscale.feature.legalcasehandling.casedetail.moneyrecovery;
 
+import com.nipun.legalscale.core.security.CurrentUserProvider;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.moneyrecovery.dto.MoneyRecoveryDetailRequest;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.moneyrecovery.dto.MoneyRecoveryDetailResponse;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.moneyrecovery.dto.RecoveryTransactionRequest;
@@ -13,10 +14,7 @@ import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
 import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
-import com.nipun.legalscale.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,17 +30,11 @@ public class MoneyRecoveryServiceImpl implements MoneyRecoveryService {
     private final MoneyRecoveryDetailRepository detailRepository;
     private final RecoveryTransactionRepository transactionRepository;
     private final InitialCaseRepository initialCaseRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     // ─── Helpers
     // ──────────────────────────────────────────────────────────────────
 
-    private UserEntity currentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-    }
-
     private InitialCaseEntity findAndValidateCase(Long caseId) {
         InitialCaseEntity caseEntity = initialCaseRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + caseId));
@@ -122,7 +114,7 @@ public class MoneyRecoveryServiceImpl implements MoneyRecoveryService {
     @Transactional
     public MoneyRecoveryDetailResponse setClaimAmount(Long caseId, MoneyRecoveryDetailRequest request) {
         InitialCaseEntity caseEntity = findAndValidateCase(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         MoneyRecoveryDetail detail;
 
@@ -159,7 +151,7 @@ public class MoneyRecoveryServiceImpl implements MoneyRecoveryService {
         // Validate case type + status
         findAndValidateCase(caseId);
         MoneyRecoveryDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Guard: recovered amount must not exceed the claim amount
         BigDecimal alreadyRecovered = transactionRepository.sumAmountByDetailId(detail.getId());
@@ -2,6 +2,7 @@ package com.nipun.legalscale.feature.legalcasehandling.casedetail.other;
 
 import com.nipun.legalscale.core.document.entity.Document;
 import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.other.dto.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.other.entity.*;
 import com.nipun.legalscale.feature.legalcasehandling.casedetail.other.enums.TemplateStatus;
@@ -11,10 +12,7 @@ import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
 import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
-import com.nipun.legalscale.feature.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,19 +30,13 @@ public class OtherCaseServiceImpl implements OtherCaseService {
     private final CaseDocumentTemplateRepository templateRepository;
     private final InitialCaseRepository initialCaseRepository;
     private final DocumentRepository documentRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     private static final String UNCATEGORISED = "Uncategorised";
 
     // ─── Helpers
     // ──────────────────────────────────────────────────────────────────
 
-    private UserEntity currentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
-    }
-
     private InitialCaseEntity findAndValidateCase(Long caseId) {
         InitialCaseEntity caseEntity = initialCaseRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalArgumentException("Case not found with id: " + caseId));
@@ -174,7 +166,7 @@ public class OtherCaseServiceImpl implements OtherCaseService {
     @Transactional
     public OtherCaseDetailResponse setCaseDetails(Long caseId, OtherCaseDetailRequest request) {
         InitialCaseEntity caseEntity = findAndValidateCase(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         OtherCaseDetail detail;
 
         if (detailRepository.existsByInitialCaseId(caseId)) {
@@ -211,7 +203,7 @@ public class OtherCaseServiceImpl implements OtherCaseService {
     public CaseAttributeResponse addAttribute(Long caseId, CaseAttributeRequest request) {
         findAndValidateCase(caseId);
         OtherCaseDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // Enforce unique attribute name within the case
         if (attributeRepository.existsByOtherCaseDetailIdAndAttributeName(
@@ -254,7 +246,7 @@ public class OtherCaseServiceImpl implements OtherCaseService {
                     "Another attribute with name '" + request.getAttributeName() + "' already exists for this case.");
         }
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         attribute.setAttributeName(request.getAttributeName());
         attribute.setDisplayLabel(request.getDisplayLabel());
         attribute.setAttributeValue(request.getAttributeValue());
@@ -296,7 +288,7 @@ public class OtherCaseServiceImpl implements OtherCaseService {
     public CaseDocumentTemplateResponse addTemplate(Long caseId, CaseDocumentTemplateRequest request) {
         findAndValidateCase(caseId);
         OtherCaseDetail detail = findDetail(caseId);
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
 
         // At least one of: inline content or uploaded file must be provided
         if ((request.getTemplateContent() == null || request.getTemplateContent().isBlank())
@@ -338,7 +330,7 @@ public class OtherCaseServiceImpl implements OtherCaseService {
                     "At least one of templateContent (inline) or uploadedTemplateDocumentId must be provided.");
         }
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         template.setTemplateName(request.getTemplateName());
         template.setDescription(request.getDescription());
         template.setTemplateContent(request.getTemplateContent());
@@ -363,7 +355,7 @@ public class OtherCaseServiceImpl implements OtherCaseService {
                 .orElseThrow(() -> new IllegalArgumentException("Template not found with id: " + templateId));
         assertTemplateOwnership(template, detail.getId());
 
-        UserEntity actor = currentUser();
+        UserEntity actor = currentUserProvider.getCurrentUser();
         template.setStatus(request.getStatus());
         if (request.getNotes() != null && !request.getNotes().isBlank()) {
             template.setNotes(request.getNotes());
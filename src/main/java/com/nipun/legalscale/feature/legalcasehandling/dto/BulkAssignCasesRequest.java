@@ -0,0 +1,17 @@
+package com.nipun.legalscale.feature.legalcasehandling.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkAssignCasesRequest {
+
+    @NotEmpty(message = "At least one assignment is required")
+    @Size(max = 500, message = "At most 500 items per request")
+    private List<@Valid @NotNull CaseAssignmentItem> assignments;
+}
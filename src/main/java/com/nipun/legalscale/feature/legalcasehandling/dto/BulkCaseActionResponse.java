@@ -0,0 +1,19 @@
+package com.nipun.legalscale.feature.legalcasehandling.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Per-item report of a bulk case action, in request order. Items that failed
+ * validation are skipped; every other item was applied in one transaction.
+ */
+@Data
+@Builder
+public class BulkCaseActionResponse {
+
+    private int applied;
+    private int skipped;
+    private List<BulkCaseItemResult> results;
+}
@@ -0,0 +1,17 @@
+package com.nipun.legalscale.feature.legalcasehandling.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Outcome of one item of a bulk case action. {@code error} explains why the
+ * item was skipped and is null when it was applied.
+ */
+@Data
+@Builder
+public class BulkCaseItemResult {
+
+    private Long caseId;
+    private boolean applied;
+    private String error;
+}
@@ -0,0 +1,14 @@
+package com.nipun.legalscale.feature.legalcasehandling.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class CaseAssignmentItem {
+
+    @NotNull(message = "Case ID is required")
+    private Long caseId;
+
+    @NotNull(message = "Officer ID is required")
+    private Long officerId;
+}
@@ -0,0 +1,32 @@
+package com.nipun.legalscale.feature.legalcasehandling.dto;
+
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional server-side filters for the case listing. Every field may be left
+ * null.
+ */
+@Data
+public class CaseListFilter {
+
+    private CaseStatus status;
+
+    private CaseType caseType;
+
+    private Long assignedOfficerId;
+
+    private Long createdSupervisorId;
+
+    /** Inclusive lower bound on the creation date */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    /** Inclusive upper bound on the creation date */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+}
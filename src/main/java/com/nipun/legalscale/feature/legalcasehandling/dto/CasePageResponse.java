@@ -0,0 +1,19 @@
+package com.nipun.legalscale.feature.legalcasehandling.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated case listing.
+ * Pass {@code nextCursor} back as the {@code cursor} parameter to fetch the
+ * following page; it is null once the last page has been reached.
+ */
+@Data
+@Builder
+public class CasePageResponse {
+
+    private List<CaseSummaryResponse> items;
+    private String nextCursor;
+}
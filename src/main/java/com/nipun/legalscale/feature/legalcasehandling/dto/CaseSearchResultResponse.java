@@ -0,0 +1,17 @@
+package com.nipun.legalscale.feature.legalcasehandling.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A case matching a full-text search, with its relevance and an excerpt of
+ * the summary of facts (matched terms wrapped in **).
+ */
+@Data
+@Builder
+public class CaseSearchResultResponse {
+
+    private CaseSummaryResponse caseSummary;
+    private double rank;
+    private String headline;
+}
@@ -0,0 +1,35 @@
+package com.nipun.legalscale.feature.legalcasehandling.dto;
+
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Slim list-view representation of a case.
+ * Carries no comments or attachments; use GET /api/cases/{id} for the full
+ * record.
+ */
+@Data
+@Builder
+public class CaseSummaryResponse {
+
+    private Long id;
+    private String caseTitle;
+    private CaseType caseType;
+    private String referenceNumber;
+    private String courtOrAuthority;
+    private LocalDate dateOfOccurrenceOrFiling;
+    private BigDecimal financialExposure;
+    private CaseStatus status;
+
+    private String createdSupervisorName;
+    private LocalDateTime createdAt;
+
+    private String assignedOfficerName;
+    private LocalDateTime assignedAt;
+}
@@ -1,5 +1,6 @@
 package com.nipun.legalscale.feature.legalcasehandling.entity;
 
+import com.nipun.legalscale.feature.legalcasehandling.search.CaseSearchListener;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -7,7 +8,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "case_comments")
+@EntityListeners(CaseSearchListener.class)
+@Table(name = "case_comments", indexes = {
+        @Index(name = "idx_case_comments_case_commented_at", columnList = "case_id, commented_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -3,9 +3,11 @@ package com.nipun.legalscale.feature.legalcasehandling.entity;
 import com.nipun.legalscale.core.document.entity.Document;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import com.nipun.legalscale.feature.legalcasehandling.search.CaseSearchListener;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,7 +16,27 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "initial_cases")
+@NamedEntityGraph(name = InitialCaseEntity.GRAPH_PARTICIPANTS, attributeNodes = {
+        @NamedAttributeNode("createdSupervisor"),
+        @NamedAttributeNode("assignedOfficer"),
+        @NamedAttributeNode("approvedBy"),
+        @NamedAttributeNode("closedBy")
+})
+@NamedEntityGraph(name = InitialCaseEntity.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("createdSupervisor"),
+        @NamedAttributeNode("assignedOfficer"),
+        @NamedAttributeNode("approvedBy"),
+        @NamedAttributeNode("closedBy"),
+        @NamedAttributeNode(value = "comments", subgraph = "comments")
+}, subgraphs = @NamedSubgraph(name = "comments", attributeNodes = @NamedAttributeNode("commentedBy")))
+@EntityListeners(CaseSearchListener.class)
+@Table(name = "initial_cases", indexes = {
+        // Keyset pagination order for the case listing
+        @Index(name = "idx_initial_cases_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_initial_cases_status", columnList = "status"),
+        @Index(name = "idx_initial_cases_assigned_officer_status", columnList = "assigned_officer_id, status"),
+        @Index(name = "idx_initial_cases_created_by", columnList = "created_by_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,6 +44,15 @@ import java.util.List;
 @Builder
 public class InitialCaseEntity {
 
+    /**
+     * List views: every user shown on a case row. Collections are left to
+     * batch fetching so several bags are never joined at once.
+     */
+    public static final String GRAPH_PARTICIPANTS = "InitialCase.participants";
+
+    /** Single-case view: participants plus comments and their authors. */
+    public static final String GRAPH_DETAIL = "InitialCase.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -107,6 +138,7 @@ public class InitialCaseEntity {
     // ─────────────────────────────────────────────────────────────────
 
     @OneToMany(mappedBy = "initialCase", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<CaseCommentEntity> comments = new ArrayList<>();
 
@@ -119,6 +151,7 @@ public class InitialCaseEntity {
      */
     @ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
     @JoinTable(name = "case_attachments", joinColumns = @JoinColumn(name = "case_id"), inverseJoinColumns = @JoinColumn(name = "document_id"))
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Document> supportingAttachments = new ArrayList<>();
 }
@@ -1,11 +1,54 @@
 package com.nipun.legalscale.feature.legalcasehandling.repository;
 
 import com.nipun.legalscale.feature.legalcasehandling.entity.CaseCommentEntity;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.CaseActivityRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CaseCommentRepository extends JpaRepository<CaseCommentEntity, Long> {
 
     List<CaseCommentEntity> findByInitialCaseIdOrderByCommentedAtAsc(Long caseId);
+
+    /**
+     * Comments and closing remarks on cases created by the given supervisor
+     * newer than {@code since}, ordered newest first by (timestamp, type, id)
+     * and starting after that keyset position, so entries sharing a timestamp
+     * are neither skipped nor repeated across pages. Both branches filter on
+     * their own timestamp column before the UNION so the page cost does not
+     * depend on the length of the history.
+     */
+    @Query(value = "SELECT feed.* FROM ("
+            + " SELECT 'COMMENT' AS \"type\", c.id AS \"caseId\", c.reference_number AS \"referenceNumber\","
+            + " c.case_title AS \"caseTitle\", u.full_name AS \"authorName\", u.email AS \"authorEmail\","
+            + " cc.comment AS \"content\", cc.commented_at AS \"timestamp\", cc.id AS \"entryId\""
+            + " FROM case_comments cc"
+            + " JOIN initial_cases c ON c.id = cc.case_id"
+            + " JOIN users u ON u.id = cc.commented_by_id"
+            + " WHERE c.created_by_id = :supervisorId"
+            + " AND cc.commented_at <= :beforeTimestamp AND cc.commented_at > :since"
+            + " AND (cc.commented_at < :beforeTimestamp OR 'COMMENT' < :beforeType"
+            + " OR ('COMMENT' = :beforeType AND cc.id < :beforeId))"
+            + " UNION ALL"
+            + " SELECT 'CLOSING_REMARK', c.id, c.reference_number, c.case_title, u.full_name, u.email,"
+            + " c.closing_remarks, c.closed_at, c.id"
+            + " FROM initial_cases c"
+            + " LEFT JOIN users u ON u.id = c.closed_by_id"
+            + " WHERE c.created_by_id = :supervisorId"
+            + " AND c.closed_at <= :beforeTimestamp AND c.closed_at > :since"
+            + " AND (c.closed_at < :beforeTimestamp OR 'CLOSING_REMARK' < :beforeType"
+            + " OR ('CLOSING_REMARK' = :beforeType AND c.id < :beforeId))"
+            + " AND c.closing_remarks IS NOT NULL AND TRIM(c.closing_remarks) <> ''"
+            + ") feed"
+            + " ORDER BY feed.\"timestamp\" DESC, feed.\"type\" DESC, feed.\"entryId\" DESC"
+            + " LIMIT :limit", nativeQuery = true)
+    List<CaseActivityRow> findActivityFeed(@Param("supervisorId") Long supervisorId,
+            @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+            @Param("beforeType") String beforeType,
+            @Param("beforeId") Long beforeId,
+            @Param("since") LocalDateTime since,
+            @Param("limit") int limit);
 }
@@ -0,0 +1,76 @@
+package com.nipun.legalscale.feature.legalcasehandling.repository;
+
+import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Composable filters for {@link InitialCaseEntity} listings.
+ * A null argument yields a null specification, which Spring Data ignores when
+ * combining with {@code and(...)}.
+ */
+public final class CaseSpecifications {
+
+    private CaseSpecifications() {
+    }
+
+    public static Specification<InitialCaseEntity> hasStatus(CaseStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<InitialCaseEntity> hasCaseType(CaseType caseType) {
+        return caseType == null ? null : (root, query, cb) -> cb.equal(root.get("caseType"), caseType);
+    }
+
+    public static Specification<InitialCaseEntity> assignedTo(Long officerId) {
+        return officerId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("assignedOfficer").get("id"), officerId);
+    }
+
+    public static Specification<InitialCaseEntity> createdBy(Long supervisorId) {
+        return supervisorId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("createdSupervisor").get("id"), supervisorId);
+    }
+
+    public static Specification<InitialCaseEntity> createdOnOrAfter(LocalDateTime from) {
+        return from == null ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<InitialCaseEntity> createdBefore(LocalDateTime to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+
+    /**
+     * Keyset predicate for a (createdAt DESC, id DESC) ordering: only rows that
+     * sort strictly after the given cursor position.
+     */
+    public static Specification<InitialCaseEntity> after(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(
+                        cb.equal(root.get("createdAt"), createdAt),
+                        cb.lessThan(root.get("id"), id)));
+    }
+
+    /**
+     * Fetch-joins the users shown in list views so mapping a page does not issue
+     * one SELECT per row. Skipped for count queries, where fetches are illegal.
+     */
+    public static Specification<InitialCaseEntity> fetchListParticipants() {
+        return (root, query, cb) -> {
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("createdSupervisor", JoinType.INNER);
+                root.fetch("assignedOfficer", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
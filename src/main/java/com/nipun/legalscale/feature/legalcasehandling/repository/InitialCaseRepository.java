@@ -1,20 +1,77 @@
 package com.nipun.legalscale.feature.legalcasehandling.repository;
 
+import com.nipun.legalscale.feature.auth.enums.Role;
 import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
 import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.CaseStatusCount;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.CaseTypeCount;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.OfficerCaseCount;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.OfficerWorkloadRow;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface InitialCaseRepository extends JpaRepository<InitialCaseEntity, Long> {
+public interface InitialCaseRepository
+        extends JpaRepository<InitialCaseEntity, Long>, JpaSpecificationExecutor<InitialCaseEntity> {
 
     List<InitialCaseEntity> findByStatus(CaseStatus status);
 
+    @EntityGraph(InitialCaseEntity.GRAPH_PARTICIPANTS)
     List<InitialCaseEntity> findByStatusAndAssignedOfficerIsNull(CaseStatus status);
 
+    @EntityGraph(InitialCaseEntity.GRAPH_PARTICIPANTS)
     List<InitialCaseEntity> findByAssignedOfficerId(Long officerId);
 
+    @EntityGraph(InitialCaseEntity.GRAPH_PARTICIPANTS)
     List<InitialCaseEntity> findByCreatedSupervisorId(Long supervisorId);
 
+    /** Single-case read with participants and comment authors fetched up front */
+    @EntityGraph(InitialCaseEntity.GRAPH_DETAIL)
+    Optional<InitialCaseEntity> findDetailedById(Long id);
+
+    @EntityGraph(InitialCaseEntity.GRAPH_PARTICIPANTS)
+    List<InitialCaseEntity> findByIdIn(Collection<Long> ids);
+
     boolean existsByReferenceNumber(String referenceNumber);
+
+    // ─── Statistics (aggregated in the database, no entities hydrated) ──────────
+
+    @Query("SELECT c.status AS status, COUNT(c) AS total FROM InitialCaseEntity c GROUP BY c.status")
+    List<CaseStatusCount> countGroupedByStatus();
+
+    @Query("SELECT c.caseType AS caseType, COUNT(c) AS total FROM InitialCaseEntity c GROUP BY c.caseType")
+    List<CaseTypeCount> countGroupedByCaseType();
+
+    @Query("SELECT o.id AS officerId, o.fullName AS officerName, COUNT(c) AS total "
+            + "FROM InitialCaseEntity c JOIN c.assignedOfficer o "
+            + "GROUP BY o.id, o.fullName")
+    List<OfficerCaseCount> countGroupedByAssignedOfficer();
+
+    /**
+     * Officer x status case counts in a single round trip. Every user holding
+     * {@code officerRole} is returned, including those with no matching cases
+     * (null status, zero total). Cases are restricted to the given types and to
+     * createdAt in [from, to).
+     */
+    @Query("SELECT u.id AS officerId, u.fullName AS fullName, u.email AS email, u.isBanned AS banned, "
+            + "r.id AS roleId, r.roleName AS roleName, r.legalDepartmentMember AS legalDepartmentMember, "
+            + "c.status AS status, COUNT(c.id) AS total "
+            + "FROM UserEntity u JOIN u.role r "
+            + "LEFT JOIN InitialCaseEntity c ON c.assignedOfficer = u "
+            + "AND c.caseType IN :caseTypes AND c.createdAt >= :from AND c.createdAt < :to "
+            + "WHERE r.roleName = :officerRole "
+            + "GROUP BY u.id, u.fullName, u.email, u.isBanned, r.id, r.roleName, r.legalDepartmentMember, c.status "
+            + "ORDER BY u.fullName, u.id")
+    List<OfficerWorkloadRow> aggregateOfficerWorkload(@Param("officerRole") Role officerRole,
+            @Param("caseTypes") Collection<CaseType> caseTypes,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 }
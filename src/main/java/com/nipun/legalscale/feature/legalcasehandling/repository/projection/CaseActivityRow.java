@@ -0,0 +1,29 @@
+package com.nipun.legalscale.feature.legalcasehandling.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the supervisor activity feed: either a case comment or a
+ * closing remark.
+ */
+public interface CaseActivityRow {
+
+    String getType();
+
+    Long getCaseId();
+
+    String getReferenceNumber();
+
+    String getCaseTitle();
+
+    String getAuthorName();
+
+    String getAuthorEmail();
+
+    String getContent();
+
+    LocalDateTime getTimestamp();
+
+    /** Id of the comment, or of the case for a closing remark; breaks timestamp ties */
+    Long getEntryId();
+}
@@ -0,0 +1,13 @@
+package com.nipun.legalscale.feature.legalcasehandling.repository.projection;
+
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+
+/**
+ * One row of a GROUP BY status aggregate over initial_cases.
+ */
+public interface CaseStatusCount {
+
+    CaseStatus getStatus();
+
+    long getTotal();
+}
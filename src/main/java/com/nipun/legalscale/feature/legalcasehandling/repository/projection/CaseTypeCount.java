@@ -0,0 +1,13 @@
+package com.nipun.legalscale.feature.legalcasehandling.repository.projection;
+
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+
+/**
+ * One row of a GROUP BY case type aggregate over initial_cases.
+ */
+public interface CaseTypeCount {
+
+    CaseType getCaseType();
+
+    long getTotal();
+}
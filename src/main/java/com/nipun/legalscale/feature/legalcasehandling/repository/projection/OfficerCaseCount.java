@@ -0,0 +1,13 @@
+package com.nipun.legalscale.feature.legalcasehandling.repository.projection;
+
+/**
+ * One row of a GROUP BY assigned officer aggregate over initial_cases.
+ */
+public interface OfficerCaseCount {
+
+    Long getOfficerId();
+
+    String getOfficerName();
+
+    long getTotal();
+}
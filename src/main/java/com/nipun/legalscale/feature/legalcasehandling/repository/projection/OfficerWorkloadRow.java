@@ -0,0 +1,30 @@
+package com.nipun.legalscale.feature.legalcasehandling.repository.projection;
+
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+
+/**
+ * One (officer, case status) cell of the officer workload aggregate.
+ * Officers without any matching case appear once with a null status and a
+ * zero total.
+ */
+public interface OfficerWorkloadRow {
+
+    Long getOfficerId();
+
+    String getFullName();
+
+    String getEmail();
+
+    boolean isBanned();
+
+    Long getRoleId();
+
+    Role getRoleName();
+
+    boolean isLegalDepartmentMember();
+
+    CaseStatus getStatus();
+
+    long getTotal();
+}
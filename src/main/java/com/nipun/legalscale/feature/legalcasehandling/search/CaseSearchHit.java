@@ -0,0 +1,11 @@
+package com.nipun.legalscale.feature.legalcasehandling.search;
+
+/**
+ * One ranked match from {@link CaseSearchIndex}. {@code headline} is an
+ * excerpt of the summary of facts with matched terms wrapped in **.
+ */
+public record CaseSearchHit(
+        Long caseId,
+        double rank,
+        String headline
+) {}
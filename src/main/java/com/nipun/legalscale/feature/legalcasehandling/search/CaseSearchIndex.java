@@ -0,0 +1,216 @@
+package com.nipun.legalscale.feature.legalcasehandling.search;
+
+import com.nipun.legalscale.core.schema.PostgresSchemaContributor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PostgreSQL full-text index over case text: case fields, comments, inquiry
+ * findings and criminal charges, folded into one weighted {@code tsvector}
+ * per case in {@code case_search_index} with a GIN index on it.
+ *
+ * Rows are rebuilt inside the transaction that changed the underlying text
+ * (see {@link CaseSearchListener}), so the index is never behind a committed
+ * write. Hibernate manages the rest of the schema, but it cannot express
+ * tsvector or GIN, so the table is created here once the app is up; cases
+ * that have no row yet are backfilled at the same time.
+ *
+ * On other databases the index is disabled and search reports so.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaseSearchIndex implements PostgresSchemaContributor {
+
+    /* to_tsvector input per section is capped; a tsvector may not exceed 1 MB */
+    private static final int MAX_SECTION_CHARS = 200_000;
+
+    private static final int BACKFILL_BATCH = 1000;
+
+    /*
+     * Weights: A identifies the case, B describes it, C is the narrative and
+     * D the comment thread. Reference numbers use the 'simple' configuration
+     * so they are matched verbatim rather than stemmed.
+     */
+    private static final String DOCUMENT_EXPRESSION = """
+            setweight(to_tsvector('simple', coalesce(c.reference_number, '')), 'A')
+            || setweight(to_tsvector('english', coalesce(c.case_title, '')), 'A')
+            || setweight(to_tsvector('english',
+                    concat_ws(' ', c.parties_involved, c.nature_of_case, c.court_or_authority)), 'B')
+            || setweight(to_tsvector('english', coalesce(
+                    (SELECT left(string_agg(concat_ws(' ', f.finding_title, f.finding_description,
+                            f.recommendation), ' '), :maxChars)
+                     FROM inquiry_findings f JOIN inquiry_details d ON d.id = f.inquiry_detail_id
+                     WHERE d.case_id = c.id), '')), 'B')
+            || setweight(to_tsvector('english', coalesce(
+                    (SELECT left(string_agg(concat_ws(' ', ch.statute, ch.section, ch.offence_name,
+                            ch.offence_description, ch.outcome_details), ' '), :maxChars)
+                     FROM criminal_charges ch JOIN criminal_case_details d ON d.id = ch.criminal_case_detail_id
+                     WHERE d.case_id = c.id), '')), 'B')
+            || setweight(to_tsvector('english',
+                    left(concat_ws(' ', c.summary_of_facts, c.closing_remarks), :maxChars)), 'C')
+            || setweight(to_tsvector('english', coalesce(
+                    (SELECT left(string_agg(cc.comment, ' '), :maxChars)
+                     FROM case_comments cc WHERE cc.case_id = c.id), '')), 'D')
+            """;
+
+    private static final String UPSERT = """
+            INSERT INTO case_search_index (case_id, document, indexed_at)
+            SELECT c.id, %s, now()
+            FROM initial_cases c
+            WHERE %s
+            ON CONFLICT (case_id) DO UPDATE SET document = EXCLUDED.document, indexed_at = EXCLUDED.indexed_at
+            """;
+
+    private static final String SEARCH = """
+            SELECT hit.case_id, hit.rank,
+                   ts_headline('english', c.summary_of_facts, hit.query,
+                           'MaxFragments=2, MinWords=8, MaxWords=20, StartSel=**, StopSel=**') AS headline
+            FROM (SELECT s.case_id, ts_rank_cd(s.document, q) AS rank, q AS query
+                  FROM case_search_index s, websearch_to_tsquery('english', :query) q
+                  WHERE s.document @@ q
+                  ORDER BY rank DESC, s.case_id DESC
+                  LIMIT :limit OFFSET :offset) hit
+            JOIN initial_cases c ON c.id = hit.case_id
+            ORDER BY hit.rank DESC, hit.case_id DESC
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile boolean enabled;
+
+    @Override
+    public String description() {
+        return "Case search index";
+    }
+
+    @Override
+    public List<String> statements() {
+        return List.of(
+                "CREATE TABLE IF NOT EXISTS case_search_index ("
+                        + "case_id BIGINT PRIMARY KEY REFERENCES initial_cases (id) ON DELETE CASCADE, "
+                        + "document TSVECTOR NOT NULL, "
+                        + "indexed_at TIMESTAMP NOT NULL)",
+                "CREATE INDEX IF NOT EXISTS idx_case_search_index_document "
+                        + "ON case_search_index USING GIN (document)");
+    }
+
+    /** Enables indexing and backfills cases that have no row yet. */
+    @Override
+    public void schemaReady() {
+        enabled = true;
+
+        // Walk the primary key in fixed ranges so each batch is an index range scan
+        Long maxId = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT max(id) FROM initial_cases", Long.class);
+        int total = 0;
+        for (long from = 0; maxId != null && from < maxId; from += BACKFILL_BATCH) {
+            total += jdbcTemplate.update(UPSERT.formatted(DOCUMENT_EXPRESSION,
+                    "c.id > :from AND c.id <= :to AND NOT EXISTS "
+                            + "(SELECT 1 FROM case_search_index s WHERE s.case_id = c.id)"),
+                    new MapSqlParameterSource("maxChars", MAX_SECTION_CHARS)
+                            .addValue("from", from)
+                            .addValue("to", from + BACKFILL_BATCH));
+        }
+        log.info("Case search index ready ({} cases backfilled)", total);
+    }
+
+    /**
+     * Ranked matches for a web-style query ("quoted phrases", -exclusions, or).
+     */
+    public List<CaseSearchHit> search(String query, int limit, long offset) {
+        if (!enabled) {
+            throw new IllegalStateException("Full-text case search is only available on PostgreSQL");
+        }
+        return jdbcTemplate.query(SEARCH,
+                new MapSqlParameterSource("query", query).addValue("limit", limit).addValue("offset", offset),
+                (rs, i) -> new CaseSearchHit(rs.getLong("case_id"), rs.getDouble("rank"), rs.getString("headline")));
+    }
+
+    // ─── Incremental updates
+    // ──────────────────────────────────────────────────────
+
+    void caseChanged(Long caseId) {
+        pending().caseIds.add(caseId);
+    }
+
+    void inquiryChanged(Long inquiryDetailId) {
+        pending().inquiryDetailIds.add(inquiryDetailId);
+    }
+
+    void criminalCaseChanged(Long criminalCaseDetailId) {
+        pending().criminalCaseDetailIds.add(criminalCaseDetailId);
+    }
+
+    /**
+     * Changes are collected per transaction and applied in one statement just
+     * before commit. The statement is queued on the Hibernate session rather
+     * than as a Spring beforeCommit callback: an update-only transaction first
+     * reaches the entity listener in the flush inside commit, after Spring's
+     * callbacks have run, whereas Hibernate runs its before-completion
+     * processes after that flush. Outside a transaction (or with the index
+     * disabled) there is nothing to keep consistent with, so changes are dropped.
+     */
+    private PendingChanges pending() {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingChanges();
+        }
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            PendingChanges created = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, created);
+            entityManager.unwrap(SessionImplementor.class).getActionQueue()
+                    .registerProcess((BeforeTransactionCompletionProcess) session -> reindex(created));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CaseSearchIndex.this);
+                }
+            });
+            changes = created;
+        }
+        return changes;
+    }
+
+    private void reindex(PendingChanges changes) {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource("maxChars", MAX_SECTION_CHARS);
+        if (!changes.caseIds.isEmpty()) {
+            conditions.add("c.id IN (:caseIds)");
+            params.addValue("caseIds", changes.caseIds);
+        }
+        if (!changes.inquiryDetailIds.isEmpty()) {
+            conditions.add("c.id IN (SELECT d.case_id FROM inquiry_details d WHERE d.id IN (:inquiryIds))");
+            params.addValue("inquiryIds", changes.inquiryDetailIds);
+        }
+        if (!changes.criminalCaseDetailIds.isEmpty()) {
+            conditions.add("c.id IN (SELECT d.case_id FROM criminal_case_details d WHERE d.id IN (:criminalIds))");
+            params.addValue("criminalIds", changes.criminalCaseDetailIds);
+        }
+        if (!conditions.isEmpty()) {
+            jdbcTemplate.update(UPSERT.formatted(DOCUMENT_EXPRESSION, String.join(" OR ", conditions)), params);
+        }
+    }
+
+    private static final class PendingChanges {
+        final Set<Long> caseIds = new HashSet<>();
+        final Set<Long> inquiryDetailIds = new HashSet<>();
+        final Set<Long> criminalCaseDetailIds = new HashSet<>();
+    }
+}
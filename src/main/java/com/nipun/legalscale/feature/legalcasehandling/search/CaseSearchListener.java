@@ -0,0 +1,42 @@
+package com.nipun.legalscale.feature.legalcasehandling.search;
+
+import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.entity.CriminalCharge;
+import com.nipun.legalscale.feature.legalcasehandling.casedetail.inquiry.entity.InquiryFinding;
+import com.nipun.legalscale.feature.legalcasehandling.entity.CaseCommentEntity;
+import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Marks the owning case for re-indexing whenever searchable text is written.
+ * Only ids are read here (proxies return them without a load), so nothing
+ * touches the session while Hibernate is flushing.
+ */
+public class CaseSearchListener {
+
+    private final ObjectProvider<CaseSearchIndex> index;
+
+    public CaseSearchListener(ObjectProvider<CaseSearchIndex> index) {
+        this.index = index;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        CaseSearchIndex searchIndex = index.getIfAvailable();
+        if (searchIndex == null) {
+            return;
+        }
+        switch (entity) {
+            case InitialCaseEntity c -> searchIndex.caseChanged(c.getId());
+            case CaseCommentEntity c -> searchIndex.caseChanged(c.getInitialCase().getId());
+            case InquiryFinding f -> searchIndex.inquiryChanged(f.getInquiryDetail().getId());
+            case CriminalCharge c -> searchIndex.criminalCaseChanged(c.getCriminalCaseDetail().getId());
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.nipun.legalscale.feature.legalcasehandling.statistics;
+
+import com.nipun.legalscale.core.counter.CounterScope;
+import com.nipun.legalscale.core.counter.DashboardCounterSource;
+import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.CaseStatusCount;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.CaseTypeCount;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.OfficerCaseCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Case tallies recomputed from initial_cases.
+ */
+@Component
+@RequiredArgsConstructor
+public class CaseCounterSource implements DashboardCounterSource {
+
+    private final InitialCaseRepository initialCaseRepository;
+
+    @Override
+    public Set<CounterScope> scopes() {
+        return EnumSet.of(CounterScope.CASE_STATUS, CounterScope.CASE_TYPE, CounterScope.CASE_OFFICER);
+    }
+
+    @Override
+    public Map<String, Long> recount(CounterScope scope) {
+        return switch (scope) {
+            case CASE_STATUS -> initialCaseRepository.countGroupedByStatus().stream()
+                    .collect(Collectors.toMap(row -> row.getStatus().name(), CaseStatusCount::getTotal));
+            case CASE_TYPE -> initialCaseRepository.countGroupedByCaseType().stream()
+                    .collect(Collectors.toMap(row -> row.getCaseType().name(), CaseTypeCount::getTotal));
+            // Keyed by display name; officers sharing a name are summed
+            case CASE_OFFICER -> initialCaseRepository.countGroupedByAssignedOfficer().stream()
+                    .collect(Collectors.toMap(OfficerCaseCount::getOfficerName,
+                            OfficerCaseCount::getTotal, Long::sum));
+            default -> throw new IllegalArgumentException("Not a case counter: " + scope);
+        };
+    }
+}
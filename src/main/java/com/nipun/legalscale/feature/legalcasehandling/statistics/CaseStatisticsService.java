@@ -0,0 +1,22 @@
+package com.nipun.legalscale.feature.legalcasehandling.statistics;
+
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import com.nipun.legalscale.feature.supervisor.dto.OfficerStatsResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read-only aggregates over cases, computed in the database.
+ */
+public interface CaseStatisticsService {
+
+    /**
+     * Every legal officer with their assigned case counts per status.
+     *
+     * @param caseType    optional; restrict counts to one case type
+     * @param createdFrom optional inclusive lower bound on case creation date
+     * @param createdTo   optional inclusive upper bound on case creation date
+     */
+    List<OfficerStatsResponse> getOfficerWorkload(CaseType caseType, LocalDate createdFrom, LocalDate createdTo);
+}
@@ -0,0 +1,77 @@
+package com.nipun.legalscale.feature.legalcasehandling.statistics;
+
+import com.nipun.legalscale.feature.admin.dto.UserDetailsResponse;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
+import com.nipun.legalscale.feature.legalcasehandling.repository.projection.OfficerWorkloadRow;
+import com.nipun.legalscale.feature.supervisor.dto.OfficerStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class CaseStatisticsServiceImpl implements CaseStatisticsService {
+
+    /*
+     * Open-ended filters are expressed as full ranges rather than nullable
+     * parameters so the query keeps a single, index-friendly shape.
+     */
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final InitialCaseRepository initialCaseRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OfficerStatsResponse> getOfficerWorkload(CaseType caseType, LocalDate createdFrom,
+            LocalDate createdTo) {
+        if (createdFrom != null && createdTo != null && createdTo.isBefore(createdFrom)) {
+            throw new IllegalArgumentException("createdTo must not be before createdFrom");
+        }
+
+        Set<CaseType> caseTypes = caseType != null ? EnumSet.of(caseType) : EnumSet.allOf(CaseType.class);
+        LocalDateTime from = createdFrom != null ? createdFrom.atStartOfDay() : EARLIEST;
+        LocalDateTime to = createdTo != null ? createdTo.plusDays(1).atStartOfDay() : LATEST;
+
+        List<OfficerWorkloadRow> rows = initialCaseRepository.aggregateOfficerWorkload(
+                Role.LEGAL_OFFICER, caseTypes, from, to);
+
+        // Rows arrive ordered by officer; fold each officer's status cells together
+        Map<Long, OfficerStatsResponse> byOfficer = new LinkedHashMap<>();
+        for (OfficerWorkloadRow row : rows) {
+            OfficerStatsResponse stats = byOfficer.computeIfAbsent(row.getOfficerId(), id -> OfficerStatsResponse
+                    .builder()
+                    .officerDetails(UserDetailsResponse.builder()
+                            .id(row.getOfficerId())
+                            .fullName(row.getFullName())
+                            .email(row.getEmail())
+                            .isBanned(row.isBanned())
+                            .roleId(row.getRoleId())
+                            .roleName(row.getRoleName())
+                            .legalDepartmentMember(row.isLegalDepartmentMember())
+                            .build())
+                    .caseCountsByStatus(new EnumMap<>(CaseStatus.class))
+                    .build());
+
+            if (row.getStatus() != null) {
+                stats.getCaseCountsByStatus().put(row.getStatus(), row.getTotal());
+                stats.setTotalAssignedCases(stats.getTotalAssignedCases() + row.getTotal());
+            }
+        }
+
+        return new ArrayList<>(byOfficer.values());
+    }
+}
@@ -3,6 +3,7 @@ package com.nipun.legalscale.feature.officer;
 import com.nipun.legalscale.feature.legalcasehandling.CaseService;
 import com.nipun.legalscale.feature.legalcasehandling.dto.*;
 import com.nipun.legalscale.feature.agreementapproval.dto.AgreementResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementSummaryResponse;
 import com.nipun.legalscale.feature.agreementapproval.dto.ReviewAgreementRequest;
 import com.nipun.legalscale.feature.agreementapproval.service.AgreementService;
 import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
@@ -98,7 +99,7 @@ public class OfficerController {
     }
 
     @GetMapping("/agreements/pending")
-    public ResponseEntity<List<AgreementResponse>> getAgreementsForReview() {
+    public ResponseEntity<List<AgreementSummaryResponse>> getAgreementsForReview() {
         return ResponseEntity.ok(agreementService.getAgreementsForReview());
     }
 
@@ -3,6 +3,7 @@ package com.nipun.legalscale.feature.supervisor;
 import com.nipun.legalscale.feature.legalcasehandling.CaseService;
 import com.nipun.legalscale.feature.legalcasehandling.dto.*;
 import com.nipun.legalscale.feature.agreementapproval.dto.AgreementResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementSummaryResponse;
 import com.nipun.legalscale.feature.agreementapproval.dto.ReviewAgreementRequest;
 import com.nipun.legalscale.feature.agreementapproval.service.AgreementService;
 import jakarta.validation.Valid;
@@ -18,20 +19,20 @@ import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.multipart.MultipartFile;
-import com.nipun.legalscale.feature.user.UserService;
-import com.nipun.legalscale.feature.admin.dto.UserDetailsResponse;
-import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
-import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
-import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import com.nipun.legalscale.feature.legalcasehandling.statistics.CaseStatisticsService;
+import org.springframework.format.annotation.DateTimeFormat;
 import com.nipun.legalscale.feature.supervisor.dto.OfficerStatsResponse;
-import com.nipun.legalscale.feature.supervisor.dto.CaseActivityResponse;
+import com.nipun.legalscale.feature.supervisor.dto.CaseActivityPageResponse;
+import com.nipun.legalscale.feature.admin.dto.UserPageResponse;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.user.UserService;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Set;
 import java.util.List;
-import java.util.Map;
-import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 /**
  * Supervisor-only endpoints.
@@ -44,11 +45,11 @@ import java.util.stream.Collectors;
 public class SupervisorController {
 
     private final CaseService caseService;
-    private final UserService userService;
-    private final InitialCaseRepository initialCaseRepository;
+    private final CaseStatisticsService caseStatisticsService;
     private final ObjectMapper objectMapper;
     private final Validator validator;
     private final AgreementService agreementService;
+    private final UserService userService;
 
     /**
      * POST /api/supervisor/cases
@@ -104,83 +105,58 @@ public class SupervisorController {
 
     /**
      * GET /api/supervisor/cases/activities
-     * Aggregates comments and remarks for cases created by the current supervisor.
+     * Comments and closing remarks for cases created by the current supervisor,
+     * newest first. Use cursor (the previous page's nextCursor) to scroll back and
+     * since to poll for entries newer than the latest one already shown.
      */
     @GetMapping("/cases/activities")
-    public ResponseEntity<List<CaseActivityResponse>> getMyCaseActivities() {
-        List<CaseResponse> cases = caseService.getCasesCreatedByCurrentSupervisor();
-        List<CaseActivityResponse> activities = new ArrayList<>();
-
-        for (CaseResponse c : cases) {
-            // Process Comments
-            if (c.getComments() != null) {
-                for (CaseCommentResponse comment : c.getComments()) {
-                    activities.add(CaseActivityResponse.builder()
-                            .type("COMMENT")
-                            .caseId(c.getId())
-                            .caseTitle(c.getCaseTitle())
-                            .referenceNumber(c.getReferenceNumber())
-                            .authorName(comment.getCommentedByName())
-                            .authorEmail(comment.getCommentedByEmail())
-                            .content(comment.getComment())
-                            .timestamp(comment.getCommentedAt())
-                            .build());
-                }
-            }
-
-            // Process Closing Remarks
-            if (c.getClosingRemarks() != null && !c.getClosingRemarks().isBlank()) {
-                activities.add(CaseActivityResponse.builder()
-                        .type("CLOSING_REMARK")
-                        .caseId(c.getId())
-                        .caseTitle(c.getCaseTitle())
-                        .referenceNumber(c.getReferenceNumber())
-                        .authorName(c.getClosedByName())
-                        .authorEmail(c.getClosedByEmail())
-                        .content(c.getClosingRemarks())
-                        .timestamp(c.getClosedAt())
-                        .build());
-            }
-        }
-
-        // Sort dynamically using Java 8 comparators (lambda expression) to avoid syntax
-        // restrictions
-        activities.sort((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()));
-
-        return ResponseEntity.ok(activities);
+    public ResponseEntity<CaseActivityPageResponse> getMyCaseActivities(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(caseService.getActivityFeedForCurrentSupervisor(cursor, since, limit));
     }
 
     /**
      * GET /api/supervisor/cases/officers
      * Retrieve a list of all legal officers along with assigned case stats.
+     * Optional filters: caseType, createdFrom / createdTo (ISO dates, inclusive).
      */
     @GetMapping("/cases/officers")
-    public ResponseEntity<List<OfficerStatsResponse>> getAllOfficersWithStats() {
-        List<UserDetailsResponse> officers = userService.getAllOfficers();
-
-        List<OfficerStatsResponse> response = officers.stream().map(officer -> {
-            List<InitialCaseEntity> assignedCases = initialCaseRepository.findByAssignedOfficerId(officer.getId());
-
-            Map<CaseStatus, Long> countsByStatus = assignedCases.stream()
-                    .collect(Collectors.groupingBy(InitialCaseEntity::getStatus, Collectors.counting()));
-
-            return OfficerStatsResponse.builder()
-                    .officerDetails(officer)
-                    .totalAssignedCases(assignedCases.size())
-                    .caseCountsByStatus(countsByStatus)
-                    .build();
-        }).collect(Collectors.toList());
+    public ResponseEntity<List<OfficerStatsResponse>> getAllOfficersWithStats(
+            @RequestParam(required = false) CaseType caseType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo) {
+        return ResponseEntity.ok(caseStatisticsService.getOfficerWorkload(caseType, createdFrom, createdTo));
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * GET /api/supervisor/officers
+     * Officer picker for case assignment: legal officers ordered by name,
+     * optionally narrowed by a name or email prefix (q). Keyset-paginated;
+     * pass the previous page's nextCursor as cursor.
+     */
+    @GetMapping("/officers")
+    public ResponseEntity<UserPageResponse> getOfficers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "25") int size) {
+        return ResponseEntity.ok(userService.getUserDirectory(Role.LEGAL_OFFICER, q, cursor, size));
     }
 
     /**
      * GET /api/supervisor/cases
-     * View all cases regardless of status.
+     * Keyset-paginated listing of all cases, newest first.
+     * Optional filters: status, caseType, assignedOfficerId, createdSupervisorId,
+     * createdFrom / createdTo (ISO dates, inclusive).
+     * Pass the previous page's nextCursor as cursor to continue scrolling.
      */
     @GetMapping("/cases")
-    public ResponseEntity<List<CaseResponse>> getAllCases() {
-        return ResponseEntity.ok(caseService.getAllCases());
+    public ResponseEntity<CasePageResponse> getAllCases(
+            @ModelAttribute CaseListFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "25") int size) {
+        return ResponseEntity.ok(caseService.getCasesPage(filter, cursor, size));
     }
 
     /**
@@ -218,6 +194,28 @@ public class SupervisorController {
         return ResponseEntity.ok(caseService.supervisorUpdateStatus(id, request));
     }
 
+    /**
+     * POST /api/supervisor/cases/bulk-assign
+     * Assign many cases at once, e.g. after an intake drive. Invalid items are
+     * skipped and reported per case; the rest are applied together.
+     */
+    @PostMapping("/cases/bulk-assign")
+    public ResponseEntity<BulkCaseActionResponse> bulkAssignCases(
+            @Valid @RequestBody BulkAssignCasesRequest request) {
+        return ResponseEntity.ok(caseService.bulkAssignCases(request));
+    }
+
+    /**
+     * POST /api/supervisor/cases/bulk-status
+     * Change the status of many cases at once, with the same rules as the
+     * single-case endpoint. Invalid items are skipped and reported per case.
+     */
+    @PostMapping("/cases/bulk-status")
+    public ResponseEntity<BulkCaseActionResponse> bulkUpdateStatus(
+            @Valid @RequestBody BulkUpdateCaseStatusRequest request) {
+        return ResponseEntity.ok(caseService.bulkUpdateStatus(request));
+    }
+
     /**
      * POST /api/supervisor/cases/{id}/comments
      * Add a comment to a case.
@@ -239,7 +237,7 @@ public class SupervisorController {
     }
 
     @GetMapping("/agreements/pending")
-    public ResponseEntity<List<AgreementResponse>> getAgreementsForApproval() {
+    public ResponseEntity<List<AgreementSummaryResponse>> getAgreementsForApproval() {
         return ResponseEntity.ok(agreementService.getAgreementsForApproval());
     }
 
@@ -0,0 +1,22 @@
+package com.nipun.legalscale.feature.supervisor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the supervisor activity feed, newest first.
+ * Pass {@code nextCursor} back as {@code cursor} to load older entries; it is
+ * null when there is nothing older.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaseActivityPageResponse {
+    private List<CaseActivityResponse> items;
+    private String nextCursor;
+}
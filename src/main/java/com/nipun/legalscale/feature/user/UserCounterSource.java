@@ -0,0 +1,41 @@
+package com.nipun.legalscale.feature.user;
+
+import com.nipun.legalscale.core.counter.CounterScope;
+import com.nipun.legalscale.core.counter.DashboardCounterSource;
+import com.nipun.legalscale.feature.user.repository.UserRepository;
+import com.nipun.legalscale.feature.user.repository.projection.ApproverLevelCount;
+import com.nipun.legalscale.feature.user.repository.projection.RoleCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * User tallies recomputed from users.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCounterSource implements DashboardCounterSource {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Set<CounterScope> scopes() {
+        return EnumSet.of(CounterScope.USER_ROLE, CounterScope.USER_APPROVER_LEVEL);
+    }
+
+    @Override
+    public Map<String, Long> recount(CounterScope scope) {
+        return switch (scope) {
+            case USER_ROLE -> userRepository.countGroupedByRole().stream()
+                    .collect(Collectors.toMap(row -> row.getRole().name(), RoleCount::getTotal));
+            case USER_APPROVER_LEVEL -> userRepository.countGroupedByApproverLevel().stream()
+                    .collect(Collectors.toMap(row -> row.getApproverLevel().toString(),
+                            ApproverLevelCount::getTotal));
+            default -> throw new IllegalArgumentException("Not a user counter: " + scope);
+        };
+    }
+}
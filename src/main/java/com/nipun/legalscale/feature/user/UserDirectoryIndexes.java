@@ -0,0 +1,29 @@
+package com.nipun.legalscale.feature.user;
+
+import com.nipun.legalscale.core.schema.PostgresSchemaContributor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Prefix-search indexes for the user directory. Name and email lookups match
+ * {@code lower(column) LIKE 'prefix%'}, which PostgreSQL can only answer from
+ * an expression index with {@code text_pattern_ops}; Hibernate cannot declare
+ * those, so they are created once the app is up. Elsewhere the search still
+ * works, it just scans.
+ */
+@Component
+public class UserDirectoryIndexes implements PostgresSchemaContributor {
+
+    @Override
+    public String description() {
+        return "User directory prefix indexes";
+    }
+
+    @Override
+    public List<String> statements() {
+        return List.of(
+                "CREATE INDEX IF NOT EXISTS idx_users_full_name_prefix ON users (lower(full_name) text_pattern_ops)",
+                "CREATE INDEX IF NOT EXISTS idx_users_email_prefix ON users (lower(email) text_pattern_ops)");
+    }
+}
@@ -1,12 +1,19 @@
 package com.nipun.legalscale.feature.user;
 
 import com.nipun.legalscale.feature.admin.dto.ChangeRoleRequest;
-import com.nipun.legalscale.feature.admin.dto.UserDetailsResponse;
-
-import java.util.List;
+import com.nipun.legalscale.feature.admin.dto.UserPageResponse;
+import com.nipun.legalscale.feature.auth.enums.Role;
 
 public interface UserService {
-    List<UserDetailsResponse> getAllUsers();
+    /**
+     * Keyset-paginated user directory ordered by full name. System admins are
+     * never listed.
+     *
+     * @param role   optional; only users holding this role
+     * @param query  optional; case-insensitive prefix of the full name or email
+     * @param cursor optional; nextCursor of the previous page
+     */
+    UserPageResponse getUserDirectory(Role role, String query, String cursor, int size);
 
     void banUser(String email);
 
@@ -15,6 +22,4 @@ public interface UserService {
     void changeUserRole(ChangeRoleRequest request);
 
     java.util.Map<String, Object> getRoleCounts();
-
-    List<UserDetailsResponse> getAllOfficers();
 }
@@ -1,17 +1,30 @@
 package com.nipun.legalscale.feature.user;
 
+import com.nipun.legalscale.core.counter.CounterScope;
+import com.nipun.legalscale.core.counter.DashboardCounters;
+import com.nipun.legalscale.core.security.PrincipalCache;
+import com.nipun.legalscale.core.transaction.AfterCommit;
 import com.nipun.legalscale.feature.admin.dto.ChangeRoleRequest;
 import com.nipun.legalscale.feature.admin.dto.UserDetailsResponse;
+import com.nipun.legalscale.feature.admin.dto.UserPageResponse;
 import com.nipun.legalscale.feature.auth.enums.Role;
 import com.nipun.legalscale.feature.user.entity.RoleEntity;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
 import com.nipun.legalscale.feature.user.repository.RoleRepository;
 import com.nipun.legalscale.feature.user.repository.UserRepository;
+import com.nipun.legalscale.feature.user.repository.projection.UserDirectoryRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,58 +33,103 @@ public class UserServiceImpl implements UserService {
 
         private final UserRepository userRepository;
         private final RoleRepository roleRepository;
+        private final PrincipalCache principalCache;
+        private final DashboardCounters dashboardCounters;
+
+        private static final int MAX_PAGE_SIZE = 100;
 
         @Override
-        public List<UserDetailsResponse> getAllUsers() {
-                return userRepository.findAll().stream()
-                                .filter(user -> user.getRole() == null
-                                                || user.getRole().getRoleName() != Role.SYSTEM_ADMIN)
-                                .map(user -> UserDetailsResponse.builder()
-                                                .id(user.getId())
-                                                .fullName(user.getFullName())
-                                                .email(user.getEmail())
-                                                .isBanned(user.isBanned())
-                                                .roleId(user.getRole().getId())
-                                                .roleName(user.getRole().getRoleName())
-                                                .legalDepartmentMember(user.getRole().isLegalDepartmentMember())
-                                                .build())
-                                .collect(Collectors.toList());
+        @Transactional(readOnly = true)
+        public UserPageResponse getUserDirectory(Role role, String query, String cursor, int size) {
+                int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+                Set<Role> roles = EnumSet.complementOf(EnumSet.of(Role.SYSTEM_ADMIN));
+                if (role != null) {
+                        roles.retainAll(EnumSet.of(role));
+                }
+                if (roles.isEmpty()) {
+                        return UserPageResponse.builder().items(List.of()).build();
+                }
+
+                String afterName = "";
+                long afterId = 0;
+                if (cursor != null && !cursor.isBlank()) {
+                        try {
+                                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                                int sep = raw.lastIndexOf('|');
+                                afterName = raw.substring(0, sep);
+                                afterId = Long.parseLong(raw.substring(sep + 1));
+                        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                        }
+                }
+
+                // Fetch one extra row to learn whether another page exists without a COUNT
+                PageRequest limit = PageRequest.of(0, pageSize + 1);
+                List<UserDirectoryRow> rows = query == null || query.isBlank()
+                                ? userRepository.findDirectoryPage(roles, afterName, afterId, limit)
+                                : userRepository.searchDirectoryPage(roles, likePrefix(query), afterName, afterId,
+                                                limit);
+
+                boolean hasMore = rows.size() > pageSize;
+                List<UserDirectoryRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+                return UserPageResponse.builder()
+                                .items(page.stream()
+                                                .map(row -> UserDetailsResponse.builder()
+                                                                .id(row.getId())
+                                                                .fullName(row.getFullName())
+                                                                .email(row.getEmail())
+                                                                .isBanned(row.isBanned())
+                                                                .roleId(row.getRoleId())
+                                                                .roleName(row.getRoleName())
+                                                                .legalDepartmentMember(row.isLegalDepartmentMember())
+                                                                .build())
+                                                .collect(Collectors.toList()))
+                                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1)) : null)
+                                .build();
         }
 
-        @Override
-        public List<UserDetailsResponse> getAllOfficers() {
-                return userRepository.findAll().stream()
-                                .filter(user -> user.getRole() != null
-                                                && user.getRole().getRoleName() == Role.LEGAL_OFFICER)
-                                .map(user -> UserDetailsResponse.builder()
-                                                .id(user.getId())
-                                                .fullName(user.getFullName())
-                                                .email(user.getEmail())
-                                                .isBanned(user.isBanned())
-                                                .roleId(user.getRole().getId())
-                                                .roleName(user.getRole().getRoleName())
-                                                .legalDepartmentMember(user.getRole().isLegalDepartmentMember())
-                                                .build())
-                                .collect(Collectors.toList());
+        /**
+         * Cursor format: URL-safe Base64 of "{fullName}|{id}" for the last row of
+         * the previous page. Opaque to clients.
+         */
+        private String encodeCursor(UserDirectoryRow last) {
+                String raw = last.getFullName() + "|" + last.getId();
+                return Base64.getUrlEncoder().withoutPadding()
+                                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /** Lower-cased LIKE prefix pattern with the wildcards in the user's input escaped */
+        private String likePrefix(String query) {
+                return query.strip().toLowerCase(Locale.ROOT)
+                                .replace("\\", "\\\\")
+                                .replace("%", "\\%")
+                                .replace("_", "\\_") + "%";
         }
 
         @Override
+        @Transactional
         public void banUser(String email) {
                 UserEntity user = userRepository.findByEmail(email)
                                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
                 user.setBanned(true);
                 userRepository.save(user);
+                AfterCommit.run(() -> principalCache.invalidate(email));
         }
 
         @Override
+        @Transactional
         public void unbanUser(String email) {
                 UserEntity user = userRepository.findByEmail(email)
                                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
                 user.setBanned(false);
                 userRepository.save(user);
+                AfterCommit.run(() -> principalCache.invalidate(email));
         }
 
         @Override
+        @Transactional
         public void changeUserRole(ChangeRoleRequest request) {
                 UserEntity user = userRepository.findByEmail(request.getEmail())
                                 .orElseThrow(() -> new UsernameNotFoundException(
@@ -87,14 +145,22 @@ public class UserServiceImpl implements UserService {
                                                                         .legalDepartmentMember(isLegalDeptMember)
                                                                         .build()));
 
+                        dashboardCounters.move(CounterScope.USER_ROLE, user.getRole().getRoleName().name(),
+                                        role.getRoleName().name());
                         user.setRole(role);
                 }
 
                 if (request.getApproverLevel() != null) {
+                        dashboardCounters.move(CounterScope.USER_APPROVER_LEVEL,
+                                        user.getApproverLevel() != null ? user.getApproverLevel().toString() : null,
+                                        request.getApproverLevel().toString());
                         user.setApproverLevel(request.getApproverLevel());
                 }
 
                 userRepository.save(user);
+                // Evicting before commit would let a concurrent request re-cache the old role
+                String email = user.getEmail();
+                AfterCommit.run(() -> principalCache.invalidate(email));
         }
 
         private boolean isLegalDepartmentRole(Role role) {
@@ -106,43 +172,18 @@ public class UserServiceImpl implements UserService {
 
         @Override
         public java.util.Map<String, Object> getRoleCounts() {
-                List<UserEntity> allUsers = userRepository.findAll();
+                java.util.Map<String, Long> roleCounts = dashboardCounters.read(CounterScope.USER_ROLE);
 
                 java.util.Map<String, Object> response = new java.util.HashMap<>();
+                for (Role role : List.of(Role.LEGAL_OFFICER, Role.LEGAL_SUPERVISOR, Role.AGREEMENT_REVIEWER,
+                                Role.AGREEMENT_APPROVER, Role.MANAGEMENT, Role.USER)) {
+                        response.put(role.name(), roleCounts.getOrDefault(role.name(), 0L));
+                }
 
-                response.put("LEGAL_OFFICER",
-                                allUsers.stream()
-                                                .filter(u -> u.getRole() != null
-                                                                && u.getRole().getRoleName() == Role.LEGAL_OFFICER)
-                                                .count());
-                response.put("LEGAL_SUPERVISOR",
-                                allUsers.stream()
-                                                .filter(u -> u.getRole() != null
-                                                                && u.getRole().getRoleName() == Role.LEGAL_SUPERVISOR)
-                                                .count());
-                response.put("AGREEMENT_REVIEWER",
-                                allUsers.stream()
-                                                .filter(u -> u.getRole() != null
-                                                                && u.getRole().getRoleName() == Role.AGREEMENT_REVIEWER)
-                                                .count());
-                response.put("AGREEMENT_APPROVER",
-                                allUsers.stream()
-                                                .filter(u -> u.getRole() != null
-                                                                && u.getRole().getRoleName() == Role.AGREEMENT_APPROVER)
-                                                .count());
-                response.put("MANAGEMENT",
-                                allUsers.stream()
-                                                .filter(u -> u.getRole() != null
-                                                                && u.getRole().getRoleName() == Role.MANAGEMENT)
-                                                .count());
-                response.put("USER",
-                                allUsers.stream().filter(
-                                                u -> u.getRole() != null && u.getRole().getRoleName() == Role.USER)
-                                                .count());
-
-                java.util.Map<Integer, Long> approverLevelCounts = allUsers.stream()
-                                .filter(u -> u.getApproverLevel() != null)
-                                .collect(Collectors.groupingBy(UserEntity::getApproverLevel, Collectors.counting()));
+                java.util.Map<Integer, Long> approverLevelCounts = dashboardCounters
+                                .read(CounterScope.USER_APPROVER_LEVEL).entrySet().stream()
+                                .collect(Collectors.toMap(e -> Integer.valueOf(e.getKey()),
+                                                java.util.Map.Entry::getValue));
 
                 response.put("approverLevels", approverLevelCounts);
 
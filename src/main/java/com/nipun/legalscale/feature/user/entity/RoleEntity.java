@@ -3,9 +3,11 @@ package com.nipun.legalscale.feature.user.entity;
 import com.nipun.legalscale.feature.auth.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
 @Table(name = "roles")
+@BatchSize(size = 50)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -2,6 +2,7 @@ package com.nipun.legalscale.feature.user.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,7 +11,12 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Keyset order of the user directory, overall and per role
+        @Index(name = "idx_users_full_name_id", columnList = "full_name, id"),
+        @Index(name = "idx_users_role_full_name_id", columnList = "role_id, full_name, id")
+})
+@BatchSize(size = 50)
 @Getter
 @Setter
 @NoArgsConstructor
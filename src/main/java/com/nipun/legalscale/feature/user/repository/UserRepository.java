@@ -1,11 +1,59 @@
 package com.nipun.legalscale.feature.user.repository;
 
+import com.nipun.legalscale.feature.auth.enums.Role;
 import com.nipun.legalscale.feature.user.entity.UserEntity;
+import com.nipun.legalscale.feature.user.repository.projection.ApproverLevelCount;
+import com.nipun.legalscale.feature.user.repository.projection.RoleCount;
+import com.nipun.legalscale.feature.user.repository.projection.UserDirectoryRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT r.roleName AS role, COUNT(u) AS total FROM UserEntity u JOIN u.role r GROUP BY r.roleName")
+    List<RoleCount> countGroupedByRole();
+
+    @Query("SELECT u.approverLevel AS approverLevel, COUNT(u) AS total FROM UserEntity u "
+            + "WHERE u.approverLevel IS NOT NULL GROUP BY u.approverLevel")
+    List<ApproverLevelCount> countGroupedByApproverLevel();
+
+    // ─── Directory (slim rows, keyset-paginated by (fullName, id)) ──────────────
+
+    /**
+     * Users holding one of {@code roles} whose (fullName, id) sorts after the
+     * cursor. The first page passes an empty name and id 0. The leading
+     * {@code fullName >=} bound lets the scan start at the cursor in the
+     * (full_name, id) indexes instead of skipping earlier rows.
+     */
+    @Query("SELECT u.id AS id, u.fullName AS fullName, u.email AS email, u.isBanned AS banned, "
+            + "r.id AS roleId, r.roleName AS roleName, r.legalDepartmentMember AS legalDepartmentMember "
+            + "FROM UserEntity u JOIN u.role r "
+            + "WHERE r.roleName IN :roles "
+            + "AND u.fullName >= :afterName AND (u.fullName > :afterName OR u.id > :afterId) "
+            + "ORDER BY u.fullName, u.id")
+    List<UserDirectoryRow> findDirectoryPage(@Param("roles") Collection<Role> roles,
+            @Param("afterName") String afterName, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * As {@link #findDirectoryPage}, restricted to users whose lower-cased name
+     * or email starts with {@code prefix} (a LIKE pattern escaped with '\').
+     */
+    @Query("SELECT u.id AS id, u.fullName AS fullName, u.email AS email, u.isBanned AS banned, "
+            + "r.id AS roleId, r.roleName AS roleName, r.legalDepartmentMember AS legalDepartmentMember "
+            + "FROM UserEntity u JOIN u.role r "
+            + "WHERE r.roleName IN :roles "
+            + "AND (LOWER(u.fullName) LIKE :prefix ESCAPE '\\' OR LOWER(u.email) LIKE :prefix ESCAPE '\\') "
+            + "AND u.fullName >= :afterName AND (u.fullName > :afterName OR u.id > :afterId) "
+            + "ORDER BY u.fullName, u.id")
+    List<UserDirectoryRow> searchDirectoryPage(@Param("roles") Collection<Role> roles,
+            @Param("prefix") String prefix, @Param("afterName") String afterName, @Param("afterId") Long afterId,
+            Pageable pageable);
 }
@@ -0,0 +1,11 @@
+package com.nipun.legalscale.feature.user.repository.projection;
+
+/**
+ * One row of a GROUP BY approver level aggregate over users.
+ */
+public interface ApproverLevelCount {
+
+    Integer getApproverLevel();
+
+    long getTotal();
+}
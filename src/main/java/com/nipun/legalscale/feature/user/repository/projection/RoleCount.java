@@ -0,0 +1,13 @@
+package com.nipun.legalscale.feature.user.repository.projection;
+
+import com.nipun.legalscale.feature.auth.enums.Role;
+
+/**
+ * One row of a GROUP BY role aggregate over users.
+ */
+public interface RoleCount {
+
+    Role getRole();
+
+    long getTotal();
+}
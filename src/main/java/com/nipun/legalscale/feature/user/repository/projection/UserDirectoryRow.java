@@ -0,0 +1,24 @@
+package com.nipun.legalscale.feature.user.repository.projection;
+
+import com.nipun.legalscale.feature.auth.enums.Role;
+
+/**
+ * One user in the directory listing: the columns the admin list and the
+ * officer picker show, without the password hash or anything else on users.
+ */
+public interface UserDirectoryRow {
+
+    Long getId();
+
+    String getFullName();
+
+    String getEmail();
+
+    boolean isBanned();
+
+    Long getRoleId();
+
+    Role getRoleName();
+
+    boolean isLegalDepartmentMember();
+}
@@ -0,0 +1,130 @@
+package com.nipun.legalscale.core.counter;
+
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.user.UserCounterSource;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import com.nipun.legalscale.feature.user.repository.RoleRepository;
+import com.nipun.legalscale.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Deltas land with the commit and vanish with a rollback, and reconciliation
+ * puts drifted counters back. Runs against real commits, so it is skipped on
+ * databases where counters are disabled.
+ */
+@SpringBootTest
+class DashboardCountersTests {
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserCounterSource userCounterSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private TransactionTemplate tx;
+
+    /* A counter key no real status or role will ever have */
+    private String key;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        assumeTrue("PostgreSQL".equals(product), "dashboard counters need PostgreSQL");
+
+        tx = new TransactionTemplate(transactionManager);
+        key = "test-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (key != null && tx != null) {
+            jdbcTemplate.update("DELETE FROM dashboard_counters WHERE counter_key = ?", key);
+        }
+        if (userId != null) {
+            userRepository.deleteById(userId);
+            // Leave the counters as the next test expects them
+            dashboardCounters.reconcile();
+        }
+    }
+
+    @Test
+    void committedDeltasAreApplied() {
+        tx.executeWithoutResult(status -> {
+            dashboardCounters.increment(CounterScope.CASE_STATUS, key);
+            dashboardCounters.increment(CounterScope.CASE_STATUS, key);
+            // Not visible until the transaction commits
+            assertThat(dashboardCounters.read(CounterScope.CASE_STATUS)).doesNotContainKey(key);
+        });
+
+        assertThat(dashboardCounters.read(CounterScope.CASE_STATUS)).containsEntry(key, 2L);
+    }
+
+    @Test
+    void rolledBackDeltasAreDropped() {
+        tx.executeWithoutResult(status -> dashboardCounters.increment(CounterScope.CASE_STATUS, key));
+
+        tx.executeWithoutResult(status -> {
+            dashboardCounters.move(CounterScope.CASE_STATUS, key, null);
+            status.setRollbackOnly();
+        });
+
+        assertThat(dashboardCounters.read(CounterScope.CASE_STATUS)).containsEntry(key, 1L);
+    }
+
+    @Test
+    void reconcileCorrectsInjectedDrift() {
+        // A user saved behind the services' back, counters off by five and one with nothing behind it
+        UserEntity user = userRepository.save(UserEntity.builder()
+                .fullName(key)
+                .email(key + "@example.com")
+                .password("unused")
+                .role(role(Role.LEGAL_OFFICER))
+                .build());
+        userId = user.getId();
+        jdbcTemplate.update("UPDATE dashboard_counters SET counter_value = counter_value + 5 "
+                + "WHERE scope = 'USER_ROLE'");
+        jdbcTemplate.update("INSERT INTO dashboard_counters (scope, counter_key, counter_value, updated_at) "
+                + "VALUES ('USER_ROLE', ?, 3, now())", key);
+
+        dashboardCounters.reconcile();
+
+        Map<String, Long> expected = userCounterSource.recount(CounterScope.USER_ROLE);
+        assertThat(expected).containsKey(Role.LEGAL_OFFICER.name());
+        assertThat(dashboardCounters.read(CounterScope.USER_ROLE)).isEqualTo(expected);
+    }
+
+    private RoleEntity role(Role name) {
+        return roleRepository.findByRoleName(name)
+                .orElseGet(() -> roleRepository.save(RoleEntity.builder().roleName(name).build()));
+    }
+}
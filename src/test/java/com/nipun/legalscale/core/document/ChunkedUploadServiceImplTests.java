@@ -0,0 +1,113 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.entity.UploadSession;
+import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.document.repository.UploadSessionRepository;
+import com.nipun.legalscale.core.document.storage.DocumentStorage;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Expiry of resumable upload sessions, with the repositories and storage
+ * mocked out.
+ */
+class ChunkedUploadServiceImplTests {
+
+    private static final long USER_ID = 3L;
+
+    private UploadSessionRepository sessionRepository;
+    private DocumentStorage storage;
+    private ChunkedUploadServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository = mock(UploadSessionRepository.class);
+        storage = mock(DocumentStorage.class);
+        CurrentUserProvider currentUserProvider = mock(CurrentUserProvider.class);
+        when(currentUserProvider.getCurrentUser()).thenReturn(UserEntity.builder().id(USER_ID).build());
+        service = new ChunkedUploadServiceImpl(sessionRepository, mock(DocumentRepository.class),
+                currentUserProvider, mock(TransactionTemplate.class), storage);
+        ReflectionTestUtils.setField(service, "partSize", DataSize.ofMegabytes(8));
+        ReflectionTestUtils.setField(service, "sessionTtl", Duration.ofHours(1));
+    }
+
+    @Test
+    void eachPartPushesTheExpiryBack() {
+        UploadSession session = session(LocalDateTime.now().plusMinutes(5));
+        when(storage.uploadPart(any(), any(), anyInt(), any(), anyLong())).thenReturn("\"etag\"");
+
+        service.uploadPart(session.getId(), 1, new ByteArrayInputStream(new byte[3]), 3);
+
+        verify(sessionRepository).extendExpiry(eq(session.getId()), any(LocalDateTime.class));
+    }
+
+    @Test
+    void expiredSessionRefusesParts() {
+        UploadSession session = session(LocalDateTime.now().minusMinutes(1));
+
+        assertThatThrownBy(() -> service.uploadPart(session.getId(), 1, new ByteArrayInputStream(new byte[3]), 3))
+                .isInstanceOf(IllegalStateException.class);
+        verify(storage, never()).uploadPart(any(), any(), anyInt(), any(), anyLong());
+    }
+
+    @Test
+    void sessionWithoutExpiryFallsBackToWhenItWasOpened() {
+        UploadSession session = session(null);
+        session.setCreatedAt(LocalDateTime.now().minusHours(2));
+
+        assertThatThrownBy(() -> service.complete(session.getId())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void sweepAbortsExpiredSessionsAndKeepsOnesItCouldNotAbort() {
+        UploadSession stale = session(LocalDateTime.now().minusMinutes(1));
+        UploadSession unreachable = session(LocalDateTime.now().minusMinutes(1));
+        when(sessionRepository.findExpired(any(), any(), any())).thenReturn(List.of(stale, unreachable));
+        doThrow(new IllegalStateException("storage down"))
+                .when(storage).abortMultipart(unreachable.getObjectKey(), unreachable.getStorageUploadId());
+
+        service.abortExpiredSessions();
+
+        verify(storage).abortMultipart(stale.getObjectKey(), stale.getStorageUploadId());
+        verify(sessionRepository).delete(stale);
+        verify(sessionRepository, never()).delete(unreachable);
+    }
+
+    private UploadSession session(LocalDateTime expiresAt) {
+        UUID id = UUID.randomUUID();
+        UploadSession session = UploadSession.builder()
+                .id(id)
+                .storageUploadId("upload-" + id)
+                .objectKey("documents/" + id)
+                .fileName("big.bin")
+                .fileType("application/octet-stream")
+                .uploadedByUserId(USER_ID)
+                .expiresAt(expiresAt)
+                .build();
+        when(sessionRepository.findById(id)).thenReturn(Optional.of(session));
+        return session;
+    }
+}
@@ -0,0 +1,214 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.dto.DocumentResponse;
+import com.nipun.legalscale.core.document.storage.DocumentStorage;
+import com.nipun.legalscale.core.security.JwtService;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import com.nipun.legalscale.feature.user.repository.RoleRepository;
+import com.nipun.legalscale.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Reference counting of content-addressed blobs against the local storage
+ * backend: identical uploads share one object, which is deleted only once
+ * the last document using it is deleted and that delete commits. Only the
+ * uploader or an administrator may delete, and renditions of documents
+ * removed some other way are swept up.
+ */
+@SpringBootTest(properties = {
+        "app.document.storage=local",
+        "app.document.rendition.enabled=false"
+})
+@AutoConfigureMockMvc
+class DocumentBlobTests {
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void storageRoot(DynamicPropertyRegistry registry) {
+        registry.add("app.document.upload-dir", () -> uploadDir.toString());
+    }
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentStorage storage;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private DocumentRenditionPipeline renditionPipeline;
+
+    private UserEntity uploader;
+
+    @BeforeEach
+    void signIn() {
+        uploader = user(Role.LEGAL_SUPERVISOR);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(uploader, null, uploader.getAuthorities()));
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void identicalUploadsShareOneBlobUntilTheLastDelete() {
+        byte[] content = uniqueContent();
+        DocumentResponse first = documentService.upload(file("a.txt", content), uploader.getId());
+        DocumentResponse second = documentService.upload(file("b.txt", content), uploader.getId());
+
+        assertThat(second.fileUrl()).isEqualTo(first.fileUrl());
+        assertThat(refCount(first.fileUrl())).containsExactly(2);
+
+        documentService.delete(first.id());
+        assertThat(refCount(first.fileUrl())).containsExactly(1);
+        assertThat(storage.head(first.fileUrl())).isPresent();
+
+        documentService.delete(second.id());
+        assertThat(refCount(first.fileUrl())).isEmpty();
+        assertThat(storage.head(first.fileUrl())).isEmpty();
+    }
+
+    @Test
+    void rolledBackDeleteKeepsTheObject() {
+        DocumentResponse doc = documentService.upload(file("a.txt", uniqueContent()), uploader.getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            documentService.delete(doc.id());
+            status.setRollbackOnly();
+        });
+
+        assertThat(refCount(doc.fileUrl())).containsExactly(1);
+        assertThat(storage.head(doc.fileUrl())).isPresent();
+        documentService.delete(doc.id());
+    }
+
+    @Test
+    void reuploadAfterLastDeleteIsStoredUnderANewKey() {
+        byte[] content = uniqueContent();
+        DocumentResponse original = documentService.upload(file("a.txt", content), uploader.getId());
+        documentService.delete(original.id());
+
+        DocumentResponse again = documentService.upload(file("a.txt", content), uploader.getId());
+
+        // A fresh generation, so an earlier generation's pending delete can never hit it
+        assertThat(again.fileUrl()).isNotEqualTo(original.fileUrl());
+        assertThat(storage.head(again.fileUrl())).isPresent();
+        assertThat(storage.head(original.fileUrl())).isEmpty();
+        documentService.delete(again.id());
+    }
+
+    @Test
+    void onlyTheUploaderOrAnAdministratorCanDelete() throws Exception {
+        DocumentResponse doc = documentService.upload(file("a.txt", uniqueContent()), uploader.getId());
+        DocumentResponse other = documentService.upload(file("b.txt", uniqueContent()), uploader.getId());
+
+        mvc.perform(delete("/api/documents/{id}", doc.id()).header(HttpHeaders.AUTHORIZATION,
+                        bearer(user(Role.LEGAL_OFFICER))))
+                .andExpect(status().isForbidden());
+        assertThat(refCount(doc.fileUrl())).containsExactly(1);
+        assertThat(storage.head(doc.fileUrl())).isPresent();
+
+        mvc.perform(delete("/api/documents/{id}", doc.id()).header(HttpHeaders.AUTHORIZATION, bearer(uploader)))
+                .andExpect(status().isNoContent());
+        mvc.perform(delete("/api/documents/{id}", other.id()).header(HttpHeaders.AUTHORIZATION,
+                        bearer(user(Role.SYSTEM_ADMIN))))
+                .andExpect(status().isNoContent());
+        assertThat(refCount(doc.fileUrl())).isEmpty();
+        assertThat(refCount(other.fileUrl())).isEmpty();
+    }
+
+    @Test
+    void renditionOfADocumentRemovedBehindTheServiceIsSwept() {
+        DocumentResponse doc = documentService.upload(file("a.txt", uniqueContent()), uploader.getId());
+        String previewKey = StoredObjects.keyForPreview(doc.id());
+        byte[] png = { 1, 2, 3 };
+        storage.put(previewKey, "image/png", new ByteArrayInputStream(png), png.length, null);
+        jdbcTemplate.update("INSERT INTO document_renditions (document_id, status, preview_key, text_truncated, "
+                + "processed_at) VALUES (?, 'READY', ?, false, CURRENT_TIMESTAMP)", doc.id(), previewKey);
+        jdbcTemplate.update("DELETE FROM documents WHERE id = ?", doc.id());
+
+        renditionPipeline.sweepOrphans();
+
+        assertThat(jdbcTemplate.queryForList("SELECT document_id FROM document_renditions WHERE document_id = ?",
+                Long.class, doc.id())).isEmpty();
+        assertThat(storage.head(previewKey)).isEmpty();
+    }
+
+    private UserEntity user(Role roleName) {
+        RoleEntity role = roleRepository.findByRoleName(roleName)
+                .orElseGet(() -> roleRepository.save(RoleEntity.builder().roleName(roleName).build()));
+        String name = roleName.name().toLowerCase() + "-" + UUID.randomUUID();
+        return userRepository.save(UserEntity.builder()
+                .fullName(name)
+                .email(name + "@example.com")
+                .password("unused")
+                .role(role)
+                .build());
+    }
+
+    private String bearer(UserEntity user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+
+    private List<Integer> refCount(String objectKey) {
+        return jdbcTemplate.queryForList("SELECT ref_count FROM document_blobs WHERE object_key = ?",
+                Integer.class, objectKey);
+    }
+
+    private static MockMultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("file", name, "text/plain", content);
+    }
+
+    private static byte[] uniqueContent() {
+        return ("blob " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,145 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.dto.DocumentObjectInfo;
+import com.nipun.legalscale.core.document.dto.DocumentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Range and If-Range handling of the download endpoint: a single satisfiable
+ * range is a 206, anything the controller declines to serve partially is a
+ * full 200, never a 416 from Spring's own Range support.
+ */
+class DocumentControllerRangeTests {
+
+    private static final byte[] BODY = "0123456789".getBytes(StandardCharsets.US_ASCII);
+    private static final String ETAG = "\"v1\"";
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-03-01T10:15:30Z");
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        DocumentService documentService = mock(DocumentService.class);
+        DocumentResponse doc = new DocumentResponse(1L, "a.txt", "text/plain", "key", LocalDateTime.now(), 1L);
+        when(documentService.describe(1L)).thenReturn(new DocumentObjectInfo(doc, BODY.length, ETAG, LAST_MODIFIED));
+        when(documentService.download(1L)).thenReturn(new ByteArrayResource(BODY));
+        when(documentService.download(eq(1L), anyLong(), anyLong())).thenAnswer(call -> {
+            int start = (int) (long) call.getArgument(1);
+            int end = (int) (long) call.getArgument(2);
+            return new ByteArrayResource(Arrays.copyOfRange(BODY, start, end + 1));
+        });
+        mvc = MockMvcBuilders.standaloneSetup(
+                new DocumentController(documentService, mock(ChunkedUploadService.class), Optional.empty()))
+                .build();
+    }
+
+    @Test
+    void singleRangeIsPartial() throws Exception {
+        MvcResult result = perform(get("/api/documents/1/download").header(HttpHeaders.RANGE, "bytes=2-5"));
+        status().isPartialContent().match(result);
+        header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10").match(result);
+        content().string("2345").match(result);
+    }
+
+    @Test
+    void suffixRangeIsPartial() throws Exception {
+        MvcResult result = perform(get("/api/documents/1/download").header(HttpHeaders.RANGE, "bytes=-3"));
+        status().isPartialContent().match(result);
+        header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10").match(result);
+        content().string("789").match(result);
+    }
+
+    @Test
+    void multipleRangesFallBackToFullBody() throws Exception {
+        MvcResult result = perform(get("/api/documents/1/download").header(HttpHeaders.RANGE, "bytes=0-1,4-5"));
+        status().isOk().match(result);
+        header().doesNotExist(HttpHeaders.CONTENT_RANGE).match(result);
+        content().string("0123456789").match(result);
+    }
+
+    @Test
+    void malformedRangeFallsBackToFullBody() throws Exception {
+        MvcResult result = perform(get("/api/documents/1/download").header(HttpHeaders.RANGE, "pages=1-2"));
+        status().isOk().match(result);
+        content().string("0123456789").match(result);
+    }
+
+    @Test
+    void unsatisfiableRangeIs416() throws Exception {
+        mvc.perform(get("/api/documents/1/download").header(HttpHeaders.RANGE, "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    void matchingIfRangeEtagIsPartial() throws Exception {
+        MvcResult result = perform(get("/api/documents/1/download")
+                .header(HttpHeaders.RANGE, "bytes=0-0")
+                .header(HttpHeaders.IF_RANGE, ETAG));
+        status().isPartialContent().match(result);
+        content().string("0").match(result);
+    }
+
+    @Test
+    void staleIfRangeEtagFallsBackToFullBody() throws Exception {
+        MvcResult result = perform(get("/api/documents/1/download")
+                .header(HttpHeaders.RANGE, "bytes=0-0")
+                .header(HttpHeaders.IF_RANGE, "\"v0\""));
+        status().isOk().match(result);
+        content().string("0123456789").match(result);
+    }
+
+    @Test
+    void ifRangeDateIsComparedToTheSecond() throws Exception {
+        String current = DateTimeFormatter.RFC_1123_DATE_TIME.format(LAST_MODIFIED.atOffset(ZoneOffset.UTC));
+        String stale = DateTimeFormatter.RFC_1123_DATE_TIME.format(LAST_MODIFIED.minusSeconds(60).atOffset(ZoneOffset.UTC));
+
+        MvcResult partial = perform(get("/api/documents/1/download")
+                .header(HttpHeaders.RANGE, "bytes=1-2")
+                .header(HttpHeaders.IF_RANGE, current));
+        status().isPartialContent().match(partial);
+
+        MvcResult full = perform(get("/api/documents/1/download")
+                .header(HttpHeaders.RANGE, "bytes=1-2")
+                .header(HttpHeaders.IF_RANGE, stale));
+        status().isOk().match(full);
+        content().string("0123456789").match(full);
+    }
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws Exception {
+        mvc.perform(get("/api/documents/1/download").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified());
+    }
+
+    /** Bodies are StreamingResponseBody, so the response is completed by an async dispatch */
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult started = mvc.perform(request).andReturn();
+        return mvc.perform(asyncDispatch(started)).andReturn();
+    }
+}
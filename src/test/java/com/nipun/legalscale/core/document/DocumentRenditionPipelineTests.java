@@ -0,0 +1,123 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.entity.Document;
+import com.nipun.legalscale.core.document.entity.DocumentRendition;
+import com.nipun.legalscale.core.document.rendition.DocumentRenderer;
+import com.nipun.legalscale.core.document.rendition.RenderedDocument;
+import com.nipun.legalscale.core.document.repository.DocumentRenditionRepository;
+import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.document.storage.DocumentStorage;
+import com.nipun.legalscale.core.document.storage.StoredObjectContent;
+import com.nipun.legalscale.core.document.storage.StoredObjectMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Renditions of documents that disappear during or after rendering, with
+ * storage and the repositories mocked out.
+ */
+class DocumentRenditionPipelineTests {
+
+    private static final Long DOCUMENT_ID = 7L;
+    private static final String PREVIEW_KEY = StoredObjects.keyForPreview(DOCUMENT_ID);
+
+    private DocumentRepository documentRepository;
+    private DocumentRenditionRepository renditionRepository;
+    private DocumentStorage storage;
+    private DocumentRenditionPipeline pipeline;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        documentRepository = mock(DocumentRepository.class);
+        renditionRepository = mock(DocumentRenditionRepository.class);
+        storage = mock(DocumentStorage.class);
+        DocumentRenderer renderer = mock(DocumentRenderer.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                call -> call.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+
+        when(documentRepository.findById(DOCUMENT_ID)).thenReturn(Optional.of(Document.builder()
+                .id(DOCUMENT_ID).fileName("a.png").fileType("image/png").fileUrl("documents/a.png")
+                .uploadedByUserId(1L).build()));
+        when(storage.head("documents/a.png"))
+                .thenReturn(Optional.of(new StoredObjectMetadata(3, "\"e\"", Instant.now())));
+        when(storage.get("documents/a.png")).thenReturn(new StoredObjectContent(
+                new ByteArrayResource(new byte[] { 1, 2, 3 }), new StoredObjectMetadata(3, "\"e\"", Instant.now())));
+        when(renderer.supports(any())).thenReturn(true);
+        when(renderer.render(any(), any())).thenReturn(new RenderedDocument(new byte[] { 9 }, "text", false));
+
+        pipeline = new DocumentRenditionPipeline(documentRepository, renditionRepository, storage, renderer,
+                transactionTemplate);
+        ReflectionTestUtils.setField(pipeline, "maxSourceSize", DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    void storesTheRenditionWhileTheDocumentExists() {
+        when(documentRepository.existsById(DOCUMENT_ID)).thenReturn(true);
+
+        ReflectionTestUtils.invokeMethod(pipeline, "process", DOCUMENT_ID);
+
+        verify(renditionRepository).save(any(DocumentRendition.class));
+        verify(storage, never()).delete(PREVIEW_KEY);
+    }
+
+    @Test
+    void documentDeletedWhileRenderingGetsNoRowAndLosesItsPreview() {
+        when(documentRepository.existsById(DOCUMENT_ID)).thenReturn(false);
+
+        ReflectionTestUtils.invokeMethod(pipeline, "process", DOCUMENT_ID);
+
+        verify(renditionRepository, never()).save(any(DocumentRendition.class));
+        verify(storage).delete(PREVIEW_KEY);
+    }
+
+    @Test
+    void orphanSweepDeletesThePreviewBeforeTheRow() {
+        DocumentRendition orphan = orphan();
+        when(renditionRepository.findOrphans(any(Pageable.class))).thenReturn(List.of(orphan));
+
+        pipeline.sweepOrphans();
+
+        var order = inOrder(storage, renditionRepository);
+        order.verify(storage).delete(PREVIEW_KEY);
+        order.verify(renditionRepository).delete(orphan);
+    }
+
+    @Test
+    void orphanSweepKeepsTheRowWhenThePreviewCannotBeDeleted() {
+        DocumentRendition orphan = orphan();
+        when(renditionRepository.findOrphans(any(Pageable.class))).thenReturn(List.of(orphan));
+        doThrow(new IllegalStateException("storage down")).when(storage).delete(PREVIEW_KEY);
+
+        pipeline.sweepOrphans();
+
+        verify(renditionRepository, never()).delete(orphan);
+    }
+
+    private static DocumentRendition orphan() {
+        return DocumentRendition.builder()
+                .documentId(DOCUMENT_ID)
+                .status(RenditionStatus.READY)
+                .previewKey(PREVIEW_KEY)
+                .build();
+    }
+}
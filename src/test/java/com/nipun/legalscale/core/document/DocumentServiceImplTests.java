@@ -0,0 +1,140 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.cache.DocumentDiskCache;
+import com.nipun.legalscale.core.document.cache.DocumentCacheStats;
+import com.nipun.legalscale.core.document.entity.Document;
+import com.nipun.legalscale.core.document.repository.DocumentRenditionRepository;
+import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.document.storage.DocumentStorage;
+import com.nipun.legalscale.core.document.storage.StoredObjectContent;
+import com.nipun.legalscale.core.document.storage.StoredObjectMetadata;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Read-through caching of full downloads, with storage mocked out and a real
+ * disk cache underneath.
+ */
+class DocumentServiceImplTests {
+
+    private static final String KEY = "documents/a.txt";
+    private static final byte[] BODY = "0123456789".getBytes(StandardCharsets.US_ASCII);
+    private static final StoredObjectMetadata METADATA =
+            new StoredObjectMetadata(BODY.length, "\"v1\"", Instant.parse("2024-03-01T10:15:30Z"));
+
+    @TempDir
+    Path dir;
+
+    private DocumentStorage storage;
+    private DocumentDiskCache diskCache;
+    private DocumentServiceImpl service;
+
+    /* Released to let a background fill read its copy of the object */
+    private final CountDownLatch fillMayRead = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        diskCache = new DocumentDiskCache();
+        ReflectionTestUtils.setField(diskCache, "enabled", true);
+        ReflectionTestUtils.setField(diskCache, "dir", dir);
+        ReflectionTestUtils.setField(diskCache, "maxSize", DataSize.ofKilobytes(1));
+        ReflectionTestUtils.setField(diskCache, "maxObjectSize", DataSize.ofKilobytes(1));
+        diskCache.init();
+
+        storage = mock(DocumentStorage.class);
+        when(storage.isLocal()).thenReturn(false);
+        when(storage.head(KEY)).thenReturn(Optional.of(METADATA));
+        // The request's own read returns at once; the fill's read waits for the latch
+        when(storage.get(KEY)).thenReturn(
+                new StoredObjectContent(new ByteArrayResource(BODY), METADATA),
+                new StoredObjectContent(new GatedResource(), METADATA));
+
+        DocumentRepository documentRepository = mock(DocumentRepository.class);
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(Document.builder()
+                .id(1L).fileName("a.txt").fileType("text/plain").fileUrl(KEY).uploadedByUserId(1L).build()));
+
+        service = new DocumentServiceImpl(documentRepository, mock(DocumentRenditionRepository.class),
+                mock(DocumentBlobRegistry.class), diskCache, storage, mock(CurrentUserProvider.class));
+    }
+
+    @Test
+    void aMissIsServedFromStorageWithoutWaitingForTheFill() throws IOException {
+        Resource first = service.download(1L);
+
+        // The fill is still blocked, yet the response is already readable
+        assertThat(first.getContentAsByteArray()).isEqualTo(BODY);
+        assertThat(diskCache.peek(KEY)).isEmpty();
+
+        fillMayRead.countDown();
+        service.shutdown();
+
+        assertThat(diskCache.peek(KEY)).isPresent();
+        assertThat(diskCache.stats().fills()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentMissesFillOnce() {
+        service.download(1L);
+        service.download(1L);
+
+        fillMayRead.countDown();
+        service.shutdown();
+
+        // Two request reads and a single fill
+        verify(storage, times(3)).get(KEY);
+        assertThat(diskCache.stats().fills()).isEqualTo(1);
+    }
+
+    @Test
+    void describeThenDownloadCountsOneLookup() throws IOException {
+        service.describe(1L);
+        service.download(1L);
+        fillMayRead.countDown();
+        service.shutdown();
+
+        service.describe(1L);
+        assertThat(service.download(1L).getContentAsByteArray()).isEqualTo(BODY);
+
+        DocumentCacheStats stats = diskCache.stats();
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hits()).isEqualTo(1);
+    }
+
+    private class GatedResource extends ByteArrayResource {
+
+        GatedResource() {
+            super(BODY);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                fillMayRead.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            return super.getInputStream();
+        }
+    }
+}
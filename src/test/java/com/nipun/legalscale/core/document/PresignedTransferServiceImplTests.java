@@ -0,0 +1,92 @@
+package com.nipun.legalscale.core.document;
+
+import com.nipun.legalscale.core.document.entity.DirectUpload;
+import com.nipun.legalscale.core.document.repository.DirectUploadRepository;
+import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Expiry of presigned uploads, with the repositories and S3 mocked out.
+ */
+class PresignedTransferServiceImplTests {
+
+    private static final long USER_ID = 3L;
+
+    private DirectUploadRepository directUploadRepository;
+    private S3Client s3Client;
+    private PresignedTransferServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        directUploadRepository = mock(DirectUploadRepository.class);
+        s3Client = mock(S3Client.class);
+        CurrentUserProvider currentUserProvider = mock(CurrentUserProvider.class);
+        when(currentUserProvider.getCurrentUser()).thenReturn(UserEntity.builder().id(USER_ID).build());
+        service = new PresignedTransferServiceImpl(directUploadRepository, mock(DocumentRepository.class),
+                currentUserProvider, mock(TransactionTemplate.class), s3Client, mock(S3Presigner.class));
+        ReflectionTestUtils.setField(service, "bucketName", "bucket");
+        ReflectionTestUtils.setField(service, "ttl", Duration.ofMinutes(10));
+    }
+
+    @Test
+    void finalizeAfterExpiryIsRejected() {
+        DirectUpload upload = upload(LocalDateTime.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> service.finalizeUpload(upload.getId())).isInstanceOf(IllegalStateException.class);
+        verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void sweepDeletesTheObjectBeforeTheRow() {
+        DirectUpload stale = upload(LocalDateTime.now().minusHours(1));
+        DirectUpload unreachable = upload(LocalDateTime.now().minusHours(1));
+        when(directUploadRepository.findByExpiresAtBeforeOrderByExpiresAt(any(), any()))
+                .thenReturn(List.of(stale, unreachable));
+        when(s3Client.deleteObject(DeleteObjectRequest.builder().bucket("bucket").key(unreachable.getObjectKey())
+                .build())).thenThrow(SdkClientException.create("connection refused"));
+
+        service.sweepExpiredUploads();
+
+        verify(s3Client).deleteObject(DeleteObjectRequest.builder().bucket("bucket").key(stale.getObjectKey())
+                .build());
+        verify(directUploadRepository).delete(stale);
+        verify(directUploadRepository, never()).delete(unreachable);
+    }
+
+    private DirectUpload upload(LocalDateTime expiresAt) {
+        UUID id = UUID.randomUUID();
+        DirectUpload upload = DirectUpload.builder()
+                .id(id)
+                .objectKey(id + "_contract.pdf")
+                .fileName("contract.pdf")
+                .fileType("application/pdf")
+                .uploadedByUserId(USER_ID)
+                .expiresAt(expiresAt)
+                .build();
+        when(directUploadRepository.findById(id)).thenReturn(Optional.of(upload));
+        return upload;
+    }
+}
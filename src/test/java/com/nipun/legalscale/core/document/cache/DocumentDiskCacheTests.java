@@ -0,0 +1,155 @@
+package com.nipun.legalscale.core.document.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Size-bounded LRU eviction, fill verification and the open-before-serve
+ * contract of the document disk cache.
+ */
+class DocumentDiskCacheTests {
+
+    @TempDir
+    Path dir;
+
+    private DocumentDiskCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new DocumentDiskCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "dir", dir);
+        ReflectionTestUtils.setField(cache, "maxSize", DataSize.ofBytes(20));
+        ReflectionTestUtils.setField(cache, "maxObjectSize", DataSize.ofBytes(10));
+        cache.init();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOnceOverSize() throws IOException {
+        fill("a", "aaaaaaaaaa");
+        fill("b", "bbbbbbbbbb");
+        // Touch a, so b is now the eldest
+        assertThat(cache.get("a")).isPresent();
+
+        fill("c", "cccccccccc");
+
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).isPresent();
+        DocumentCacheStats stats = cache.stats();
+        assertThat(stats.entries()).isEqualTo(2);
+        assertThat(stats.sizeBytes()).isEqualTo(20);
+        assertThat(stats.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void acceptsOnlyObjectsWithinTheObjectLimit() {
+        assertThat(cache.accepts(10)).isTrue();
+        assertThat(cache.accepts(11)).isFalse();
+    }
+
+    @Test
+    void rejectsAFillWithTheWrongLength() {
+        assertThatThrownBy(() -> cache.fill("short", 10, "\"e\"", Instant.now(), stream("abc")))
+                .isInstanceOf(IOException.class);
+
+        assertThat(cache.get("short")).isEmpty();
+        assertThat(cache.stats().integrityFailures()).isEqualTo(1);
+        assertThat(cacheFiles()).isZero();
+    }
+
+    @Test
+    void verifiesTheDigestOfContentAddressedKeys() throws Exception {
+        String content = "hello";
+        String key = "sha256/" + sha256(content) + "/generation";
+        assertThat(cache.fill(key, 5, "\"e\"", Instant.now(), stream(content)).size()).isEqualTo(5);
+
+        String forged = "sha256/" + sha256("other") + "/generation";
+        assertThatThrownBy(() -> cache.fill(forged, 5, "\"e\"", Instant.now(), stream(content)))
+                .isInstanceOf(IOException.class);
+        assertThat(cache.get(forged)).isEmpty();
+    }
+
+    @Test
+    void dropsAnEntryWhoseFileWasTruncated() throws IOException {
+        CachedObject cached = fill("a", "aaaaaaaaaa");
+        Files.writeString(cached.path(), "aaa");
+
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.stats().integrityFailures()).isEqualTo(1);
+        assertThat(cache.stats().entries()).isZero();
+    }
+
+    @Test
+    void peekCountsNothing() throws IOException {
+        fill("a", "aaaaaaaaaa");
+
+        assertThat(cache.peek("a")).isPresent();
+        assertThat(cache.peek("b")).isEmpty();
+
+        DocumentCacheStats stats = cache.stats();
+        assertThat(stats.hits()).isZero();
+        assertThat(stats.misses()).isZero();
+    }
+
+    @Test
+    void openedRegionSurvivesEviction() throws IOException {
+        CachedObject cached = fill("a", "0123456789");
+        FileRegionResource region = cache.open(cached, 2, 5).orElseThrow();
+
+        cache.evict("a");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        region.transferTo(out);
+        assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo("2345");
+        assertThat(cache.stats().bytesServed()).isEqualTo(4);
+    }
+
+    @Test
+    void openAfterTheFileWentAwayIsAMiss() throws IOException {
+        CachedObject cached = fill("a", "0123456789");
+        Files.delete(cached.path());
+
+        assertThat(cache.open(cached, 0, 9)).isEmpty();
+        assertThat(cache.stats().entries()).isZero();
+        assertThat(cache.stats().sizeBytes()).isZero();
+    }
+
+    private CachedObject fill(String key, String content) throws IOException {
+        return cache.fill(key, content.length(), "\"" + key + "\"", Instant.now(), stream(content));
+    }
+
+    private long cacheFiles() {
+        try (var files = Files.list(dir)) {
+            return files.count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String sha256(String content) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.nipun.legalscale.core.document.rendition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Image previews: subsampled decoding down to the preview size and the pixel
+ * limit checked from the header.
+ */
+class DocumentRendererTests {
+
+    @TempDir
+    Path dir;
+
+    private DocumentRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new DocumentRenderer();
+        ReflectionTestUtils.setField(renderer, "previewSize", 64);
+        ReflectionTestUtils.setField(renderer, "maxImagePixels", 1_000_000L);
+        ReflectionTestUtils.setField(renderer, "maxTextChars", 1000);
+    }
+
+    @Test
+    void scalesALargeImageDownToThePreviewSize() throws IOException {
+        Path file = png(800, 400);
+
+        RenderedDocument rendered = renderer.render(file, MediaType.IMAGE_PNG);
+
+        BufferedImage preview = ImageIO.read(new ByteArrayInputStream(rendered.previewPng()));
+        assertThat(preview.getWidth()).isEqualTo(64);
+        assertThat(preview.getHeight()).isEqualTo(32);
+        assertThat(rendered.text()).isNull();
+    }
+
+    @Test
+    void neverUpscalesASmallImage() throws IOException {
+        RenderedDocument rendered = renderer.render(png(20, 10), MediaType.IMAGE_PNG);
+
+        BufferedImage preview = ImageIO.read(new ByteArrayInputStream(rendered.previewPng()));
+        assertThat(preview.getWidth()).isEqualTo(20);
+        assertThat(preview.getHeight()).isEqualTo(10);
+    }
+
+    @Test
+    void refusesAnImageOverThePixelLimit() throws IOException {
+        Path file = png(2000, 600);
+
+        assertThatThrownBy(() -> renderer.render(file, MediaType.IMAGE_PNG))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("2000x600");
+    }
+
+    @Test
+    void returnsNullForBytesNoReaderRecognises() throws IOException {
+        Path file = Files.writeString(dir.resolve("fake.png"), "not an image");
+
+        assertThat(renderer.render(file, MediaType.IMAGE_PNG)).isNull();
+    }
+
+    private Path png(int width, int height) throws IOException {
+        Path file = dir.resolve(width + "x" + height + ".png");
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+        return file;
+    }
+}
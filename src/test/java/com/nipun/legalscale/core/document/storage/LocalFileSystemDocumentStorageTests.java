@@ -0,0 +1,139 @@
+package com.nipun.legalscale.core.document.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Key validation, verified writes and the multipart lifecycle of the local
+ * storage backend, against a temp directory.
+ */
+class LocalFileSystemDocumentStorageTests {
+
+    @TempDir
+    Path root;
+
+    private LocalFileSystemDocumentStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalFileSystemDocumentStorage();
+        ReflectionTestUtils.setField(storage, "root", root);
+        storage.init();
+    }
+
+    @Test
+    void roundTripsAnObject() throws Exception {
+        storage.put("sha256/abc/1", "text/plain", stream("hello world"), 11, sha256("hello world"));
+
+        StoredObjectMetadata metadata = storage.head("sha256/abc/1").orElseThrow();
+        assertThat(metadata.contentLength()).isEqualTo(11);
+        assertThat(metadata.eTag()).startsWith("\"").endsWith("\"");
+
+        StoredObjectContent full = storage.get("sha256/abc/1");
+        assertThat(read(full.content().getInputStream())).isEqualTo("hello world");
+        assertThat(full.metadata()).isEqualTo(metadata);
+
+        StoredObjectContent range = storage.get("sha256/abc/1", 6, 10);
+        assertThat(range.content().contentLength()).isEqualTo(5);
+        assertThat(read(range.content().getInputStream())).isEqualTo("world");
+
+        storage.delete("sha256/abc/1");
+        assertThat(storage.head("sha256/abc/1")).isEmpty();
+        assertThatThrownBy(() -> storage.get("sha256/abc/1")).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void rejectsAWriteWithTheWrongLengthOrDigest() throws Exception {
+        assertThatThrownBy(() -> storage.put("a.txt", "text/plain", stream("abc"), 4, null))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> storage.put("a.txt", "text/plain", stream("abc"), 3, sha256("abd")))
+                .isInstanceOf(UncheckedIOException.class);
+
+        assertThat(storage.head("a.txt")).isEmpty();
+        // No temp files left behind either
+        try (var files = Files.list(root)) {
+            assertThat(files.map(p -> p.getFileName().toString())).containsExactly(".multipart");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "../outside", "a/../../outside", "/etc/passwd", ".multipart/x",
+            "sub/../.multipart/x", "sub/.upload123.tmp"})
+    void rejectsKeysOutsideTheStore(String key) {
+        assertThatThrownBy(() -> storage.head(key)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.put(key, "text/plain", stream("x"), 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.delete(key)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void assemblesMultipartUploadsInPartOrder() throws Exception {
+        String uploadId = storage.createMultipart("big.bin", "application/octet-stream");
+        String second = storage.uploadPart("big.bin", uploadId, 2, stream("world"), 5);
+        storage.uploadPart("big.bin", uploadId, 1, stream("hellx "), 6);
+        // A retried part replaces the earlier attempt
+        String first = storage.uploadPart("big.bin", uploadId, 1, stream("hello "), 6);
+
+        List<StoredPart> parts = storage.listParts("big.bin", uploadId);
+        assertThat(parts).extracting(StoredPart::partNumber).containsExactly(1, 2);
+        assertThat(parts).extracting(StoredPart::eTag).containsExactly(first, second);
+
+        storage.completeMultipart("big.bin", uploadId, parts);
+
+        assertThat(read(storage.get("big.bin").content().getInputStream())).isEqualTo("hello world");
+        assertThatThrownBy(() -> storage.listParts("big.bin", uploadId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void abortDropsTheParts() {
+        String uploadId = storage.createMultipart("big.bin", "application/octet-stream");
+        storage.uploadPart("big.bin", uploadId, 1, stream("hello"), 5);
+
+        storage.abortMultipart("big.bin", uploadId);
+
+        assertThatThrownBy(() -> storage.uploadPart("big.bin", uploadId, 2, stream("x"), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(storage.head("big.bin")).isEmpty();
+    }
+
+    @Test
+    void rejectsUploadIdsItDidNotIssue() {
+        assertThatThrownBy(() -> storage.uploadPart("big.bin", UUID.randomUUID().toString(), 1, stream("x"), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.listParts("big.bin", "../../etc"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(InputStream in) throws IOException {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] sha256(String content) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
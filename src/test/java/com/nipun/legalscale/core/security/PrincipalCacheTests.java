@@ -0,0 +1,112 @@
+package com.nipun.legalscale.core.security;
+
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import com.nipun.legalscale.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TTL, size bound and invalidation of the principal cache, with the user
+ * repository mocked out.
+ */
+class PrincipalCacheTests {
+
+    private static final String EMAIL = "officer@example.com";
+
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(call -> Optional.of(user(EMAIL)));
+    }
+
+    @Test
+    void servesRepeatedLookupsFromTheCacheWithinTheTtl() {
+        PrincipalCache cache = new PrincipalCache(userRepository, 10, Duration.ofMinutes(5));
+
+        UserEntity first = cache.get(EMAIL);
+
+        assertThat(cache.get(EMAIL)).isSameAs(first);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void reloadsOnceTheTtlHasPassed() {
+        PrincipalCache cache = new PrincipalCache(userRepository, 10, Duration.ZERO);
+
+        cache.get(EMAIL);
+        cache.get(EMAIL);
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void invalidationForcesAReload() {
+        PrincipalCache cache = new PrincipalCache(userRepository, 10, Duration.ofMinutes(5));
+        UserEntity first = cache.get(EMAIL);
+
+        cache.invalidate(EMAIL);
+
+        assertThat(cache.get(EMAIL)).isNotSameAs(first);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void loadThatRacesAnInvalidationIsReturnedButNotCached() {
+        PrincipalCache cache = new PrincipalCache(userRepository, 10, Duration.ofMinutes(5));
+        // The row is read, then a ban commits and invalidates before the load is stored
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(call -> {
+            UserEntity stale = user(EMAIL);
+            cache.invalidate(EMAIL);
+            return Optional.of(stale);
+        }).thenAnswer(call -> Optional.of(user(EMAIL)));
+
+        UserEntity stale = cache.get(EMAIL);
+        UserEntity fresh = cache.get(EMAIL);
+
+        assertThat(fresh).isNotSameAs(stale);
+        assertThat(cache.get(EMAIL)).isSameAs(fresh);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryOverMaxSize() {
+        when(userRepository.findByEmail("a@example.com")).thenAnswer(call -> Optional.of(user("a@example.com")));
+        when(userRepository.findByEmail("b@example.com")).thenAnswer(call -> Optional.of(user("b@example.com")));
+        PrincipalCache cache = new PrincipalCache(userRepository, 2, Duration.ofMinutes(5));
+        cache.get("a@example.com");
+        cache.get("b@example.com");
+        // Touch a, so b is now the eldest
+        cache.get("a@example.com");
+
+        cache.get(EMAIL);
+        cache.get("a@example.com");
+        cache.get("b@example.com");
+
+        verify(userRepository, times(1)).findByEmail("a@example.com");
+        verify(userRepository, times(2)).findByEmail("b@example.com");
+    }
+
+    @Test
+    void unknownEmailIsNotFound() {
+        PrincipalCache cache = new PrincipalCache(userRepository, 10, Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> cache.get("nobody@example.com")).isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    private static UserEntity user(String email) {
+        return UserEntity.builder().email(email).fullName(email).build();
+    }
+}
@@ -0,0 +1,207 @@
+package com.nipun.legalscale.feature.agreementapproval.expiry;
+
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryBucketResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryItemResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementExpiryResponse;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementEntity;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementType;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementExpiryAlertRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementRepository;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bucketing, keyset batching and alerting of the expiry scan, run on a
+ * scanner with a tiny batch size so every scan crosses several batches.
+ * Agreements seeded elsewhere may show up too, so assertions only look at
+ * the ones created here.
+ */
+@SpringBootTest
+@Transactional
+class AgreementExpiryScannerTests {
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private AgreementRepository agreementRepository;
+
+    @Autowired
+    private AgreementExpiryAlertRepository alertRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private AgreementExpiryScanner scanner;
+
+    private UserEntity creator;
+
+    @BeforeEach
+    void setUp() {
+        scanner = new AgreementExpiryScanner(agreementRepository, alertRepository, transactionManager,
+                List.of(30, 60, 90), 30, BATCH_SIZE);
+        String name = "creator-" + UUID.randomUUID();
+        creator = UserEntity.builder()
+                .fullName(name)
+                .email(name + "@example.com")
+                .password("x")
+                .role(role(Role.LEGAL_SUPERVISOR))
+                .build();
+        entityManager.persist(creator);
+    }
+
+    @Test
+    void snapshotIsEmptyUntilTheFirstScan() {
+        AgreementExpiryResponse snapshot = scanner.snapshot();
+
+        assertThat(snapshot.getScannedAt()).isNull();
+        assertThat(snapshot.getBuckets()).extracting(AgreementExpiryBucketResponse::getWithinDays)
+                .containsExactly(30, 60, 90);
+        assertThat(snapshot.getBuckets()).allSatisfy(bucket -> assertThat(bucket.getCount()).isZero());
+    }
+
+    @Test
+    void bucketBoundariesAreInclusive() {
+        Long endsToday = agreement(TODAY, AgreementStatus.EXECUTED);
+        Long endsIn30 = agreement(TODAY.plusDays(30), AgreementStatus.APPROVED);
+        Long endsIn31 = agreement(TODAY.plusDays(31), AgreementStatus.EXECUTED);
+        Long endsIn90 = agreement(TODAY.plusDays(90), AgreementStatus.EXECUTED);
+        Long endsIn91 = agreement(TODAY.plusDays(91), AgreementStatus.EXECUTED);
+        Long endedYesterday = agreement(TODAY.minusDays(1), AgreementStatus.EXECUTED);
+        Long draft = agreement(TODAY.plusDays(5), AgreementStatus.DRAFT);
+
+        Map<Long, Integer> bucketOf = bucketOf(scanner.scan());
+
+        assertThat(bucketOf).containsEntry(endsToday, 30)
+                .containsEntry(endsIn30, 30)
+                .containsEntry(endsIn31, 60)
+                .containsEntry(endsIn90, 90)
+                .doesNotContainKeys(endsIn91, endedYesterday, draft);
+        assertThat(scanner.snapshot().getScannedAt()).isNotNull();
+    }
+
+    @Test
+    void batchesDoNotSkipOrRepeatAgreementsSharingAnEndDate() {
+        List<Long> sameDay = List.of(
+                agreement(TODAY.plusDays(45), AgreementStatus.EXECUTED),
+                agreement(TODAY.plusDays(45), AgreementStatus.EXECUTED),
+                agreement(TODAY.plusDays(45), AgreementStatus.APPROVED),
+                agreement(TODAY.plusDays(45), AgreementStatus.EXECUTED),
+                agreement(TODAY.plusDays(45), AgreementStatus.EXECUTED));
+
+        List<Long> seen = scanner.scan().getBuckets().stream()
+                .flatMap(bucket -> bucket.getAgreements().stream())
+                .map(AgreementExpiryItemResponse::getId)
+                .filter(sameDay::contains)
+                .toList();
+
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(sameDay);
+    }
+
+    @Test
+    void repeatedScansAlertEachAgreementOnce() {
+        Long endsToday = agreement(TODAY, AgreementStatus.EXECUTED);
+        Long endsIn10 = agreement(TODAY.plusDays(10), AgreementStatus.EXECUTED);
+        Long endsIn30 = agreement(TODAY.plusDays(30), AgreementStatus.APPROVED);
+        Long endsIn31 = agreement(TODAY.plusDays(31), AgreementStatus.EXECUTED);
+
+        scanner.scan();
+        scanner.scan();
+        entityManager.clear();
+        scanner.scan();
+
+        assertThat(alerts(endsToday)).isEqualTo(1);
+        assertThat(alerts(endsIn10)).isEqualTo(1);
+        assertThat(alerts(endsIn30)).isEqualTo(1);
+        assertThat(alerts(endsIn31)).isZero();
+        assertThat(agreementRepository.findById(endsIn10).orElseThrow().getRenewalAlertSent()).isTrue();
+    }
+
+    @Test
+    void alertingLeavesTheVersionAloneSoEditsLoadedEarlierStillSave() {
+        Long id = agreement(TODAY.plusDays(10), AgreementStatus.EXECUTED);
+        entityManager.clear();
+        AgreementEntity loadedBeforeScan = agreementRepository.findById(id).orElseThrow();
+
+        scanner.scan();
+        loadedBeforeScan.setTitle("Edited after the scan");
+        // Would fail with a conflict if the scan had bumped the version
+        agreementRepository.saveAndFlush(loadedBeforeScan);
+        entityManager.clear();
+
+        AgreementEntity stored = agreementRepository.findById(id).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("Edited after the scan");
+        assertThat(stored.getVersion()).isEqualTo(1L);
+        // The stale entity still says false, but the flag is never written back
+        assertThat(stored.getRenewalAlertSent()).isTrue();
+        assertThat(alerts(id)).isEqualTo(1);
+    }
+
+    private static Map<Long, Integer> bucketOf(AgreementExpiryResponse response) {
+        Map<Long, Integer> bucketOf = new HashMap<>();
+        for (AgreementExpiryBucketResponse bucket : response.getBuckets()) {
+            for (AgreementExpiryItemResponse item : bucket.getAgreements()) {
+                assertThat(bucketOf.put(item.getId(), bucket.getWithinDays())).isNull();
+            }
+        }
+        return bucketOf;
+    }
+
+    private long alerts(Long agreementId) {
+        return entityManager.createQuery(
+                        "SELECT COUNT(al) FROM AgreementExpiryAlertEntity al WHERE al.agreement.id = :id", Long.class)
+                .setParameter("id", agreementId)
+                .getSingleResult();
+    }
+
+    private Long agreement(LocalDate endDate, AgreementStatus status) {
+        AgreementEntity agreement = AgreementEntity.builder()
+                .title("Ends " + endDate)
+                .type(AgreementType.LEASE)
+                .status(status)
+                .parties("Acme Ltd and Globex")
+                .startDate(TODAY.minusYears(1))
+                .endDate(endDate)
+                .createdBy(creator)
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(agreement);
+        entityManager.flush();
+        return agreement.getId();
+    }
+
+    private RoleEntity role(Role name) {
+        List<RoleEntity> existing = entityManager
+                .createQuery("SELECT r FROM RoleEntity r WHERE r.roleName = :name", RoleEntity.class)
+                .setParameter("name", name)
+                .getResultList();
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        RoleEntity role = RoleEntity.builder().roleName(name).legalDepartmentMember(true).build();
+        entityManager.persist(role);
+        return role;
+    }
+}
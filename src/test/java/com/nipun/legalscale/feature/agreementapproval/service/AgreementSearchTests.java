@@ -0,0 +1,209 @@
+package com.nipun.legalscale.feature.agreementapproval.service;
+
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementPageResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementSearchFilter;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementSummaryResponse;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementEntity;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementType;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Filters and sort handling of the agreement search. Every agreement seeded
+ * here carries a per-run token in its parties, so filtering on that token
+ * hides whatever else is in the database.
+ */
+@SpringBootTest
+@Transactional
+class AgreementSearchTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private AgreementService agreementService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String token;
+
+    private UserEntity creator;
+
+    private UserEntity otherCreator;
+
+    private AgreementEntity nda;
+
+    private AgreementEntity lease;
+
+    private AgreementEntity vendor;
+
+    private AgreementEntity executedNda;
+
+    @BeforeEach
+    void seed() {
+        token = "Token" + UUID.randomUUID().toString().replace("-", "");
+        RoleEntity role = role(Role.LEGAL_SUPERVISOR);
+        creator = user("creator-" + token, role);
+        otherCreator = user("other-" + token, role);
+
+        nda = agreement("Alpha", AgreementType.NDA, AgreementStatus.DRAFT, "1000", TODAY.plusDays(30), creator);
+        lease = agreement("Bravo", AgreementType.LEASE, AgreementStatus.PENDING_APPROVAL, "5000",
+                TODAY.plusDays(30), creator);
+        vendor = agreement("Charlie", AgreementType.VENDOR, AgreementStatus.APPROVED, "9000",
+                TODAY.plusDays(90), otherCreator);
+        executedNda = agreement("Delta", AgreementType.NDA, AgreementStatus.EXECUTED, "20000",
+                TODAY.plusDays(10), creator);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void partiesMatchAsACaseInsensitiveSubstring() {
+        AgreementSearchFilter filter = new AgreementSearchFilter();
+        filter.setParties(token.substring(5, 20).toUpperCase());
+
+        assertThat(ids(search(filter)))
+                .containsExactlyInAnyOrder(nda.getId(), lease.getId(), vendor.getId(), executedNda.getId());
+    }
+
+    @Test
+    void filtersNarrowTogether() {
+        AgreementSearchFilter byStatus = filter();
+        byStatus.setStatus(List.of(AgreementStatus.DRAFT, AgreementStatus.APPROVED));
+        assertThat(ids(search(byStatus))).containsExactlyInAnyOrder(nda.getId(), vendor.getId());
+
+        AgreementSearchFilter byType = filter();
+        byType.setType(AgreementType.NDA);
+        assertThat(ids(search(byType))).containsExactlyInAnyOrder(nda.getId(), executedNda.getId());
+
+        // Value and date bounds are inclusive
+        AgreementSearchFilter byValue = filter();
+        byValue.setMinValue(new BigDecimal("5000"));
+        byValue.setMaxValue(new BigDecimal("9000"));
+        assertThat(ids(search(byValue))).containsExactlyInAnyOrder(lease.getId(), vendor.getId());
+
+        AgreementSearchFilter byEndDate = filter();
+        byEndDate.setEndFrom(TODAY.plusDays(10));
+        byEndDate.setEndTo(TODAY.plusDays(30));
+        assertThat(ids(search(byEndDate)))
+                .containsExactlyInAnyOrder(nda.getId(), lease.getId(), executedNda.getId());
+
+        AgreementSearchFilter combined = filter();
+        combined.setType(AgreementType.NDA);
+        combined.setCreatedById(creator.getId());
+        combined.setEndTo(TODAY.plusDays(20));
+        assertThat(ids(search(combined))).containsExactly(executedNda.getId());
+
+        AgreementSearchFilter byCreator = filter();
+        byCreator.setCreatedById(otherCreator.getId());
+        assertThat(ids(search(byCreator))).containsExactly(vendor.getId());
+    }
+
+    @Test
+    void whitelistedSortBreaksTiesByNewestId() {
+        AgreementPageResponse page = search(filter(), PageRequest.of(0, 10, Sort.by("endDate")));
+
+        // nda and lease share an end date, so the later id comes first
+        assertThat(ids(page)).containsExactly(executedNda.getId(), lease.getId(), nda.getId(), vendor.getId());
+    }
+
+    @Test
+    void pagesReportWhetherMoreFollow() {
+        Pageable firstTwo = PageRequest.of(0, 2, Sort.by(Sort.Order.desc("value")));
+
+        AgreementPageResponse first = search(filter(), firstTwo);
+        AgreementPageResponse second = search(filter(), firstTwo.next());
+
+        assertThat(ids(first)).containsExactly(executedNda.getId(), vendor.getId());
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(ids(second)).containsExactly(lease.getId(), nda.getId());
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void sortingByAnUnlistedPropertyIsRejected() {
+        for (String property : List.of("parties", "version", "createdBy.password")) {
+            assertThatThrownBy(() -> search(filter(), PageRequest.of(0, 10, Sort.by(property))))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private AgreementPageResponse search(AgreementSearchFilter filter) {
+        return search(filter, PageRequest.of(0, 100));
+    }
+
+    private AgreementPageResponse search(AgreementSearchFilter filter, Pageable pageable) {
+        return agreementService.searchAgreements(filter, pageable);
+    }
+
+    private AgreementSearchFilter filter() {
+        AgreementSearchFilter filter = new AgreementSearchFilter();
+        filter.setParties(token);
+        return filter;
+    }
+
+    private static List<Long> ids(AgreementPageResponse page) {
+        return page.getItems().stream().map(AgreementSummaryResponse::getId).toList();
+    }
+
+    private AgreementEntity agreement(String title, AgreementType type, AgreementStatus status, String value,
+            LocalDate endDate, UserEntity createdBy) {
+        AgreementEntity agreement = AgreementEntity.builder()
+                .title(title)
+                .type(type)
+                .status(status)
+                .parties("Acme Ltd and " + token)
+                .value(new BigDecimal(value))
+                .startDate(TODAY.minusDays(30))
+                .endDate(endDate)
+                .createdBy(createdBy)
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(agreement);
+        return agreement;
+    }
+
+    private RoleEntity role(Role name) {
+        List<RoleEntity> existing = entityManager
+                .createQuery("SELECT r FROM RoleEntity r WHERE r.roleName = :name", RoleEntity.class)
+                .setParameter("name", name)
+                .getResultList();
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        RoleEntity role = RoleEntity.builder().roleName(name).legalDepartmentMember(true).build();
+        entityManager.persist(role);
+        return role;
+    }
+
+    private UserEntity user(String name, RoleEntity role) {
+        UserEntity user = UserEntity.builder()
+                .fullName(name)
+                .email(name + "@example.com")
+                .password("x")
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,195 @@
+package com.nipun.legalscale.feature.agreementapproval.service;
+
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementSummaryResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementVersionResponse;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementCommentEntity;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementEntity;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementVersionEntity;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementType;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The list views read a one-query summary projection instead of mapping
+ * whole entities. Each summary must say what the full response for the same
+ * agreement says, including the latest version number and the comment count,
+ * and agreements without versions or comments must still be listed.
+ */
+@SpringBootTest
+@Transactional
+class AgreementSummaryTests {
+
+    @Autowired
+    private AgreementService agreementService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UserEntity creator;
+
+    private UserEntity reviewer;
+
+    private AgreementEntity revised;
+
+    private AgreementEntity empty;
+
+    @BeforeEach
+    void seed() {
+        String run = UUID.randomUUID().toString();
+        creator = user("creator-" + run, role(Role.LEGAL_SUPERVISOR));
+        reviewer = user("reviewer-" + run, role(Role.LEGAL_OFFICER));
+
+        revised = agreement("Revised " + run, LocalDateTime.now().minusHours(1));
+        revised.setReviewer(reviewer);
+        revised.setStatus(AgreementStatus.REVIEW_REQUESTED);
+        // Stored out of order, so the latest is not simply the last row
+        for (int number : List.of(2, 3, 1)) {
+            entityManager.persist(AgreementVersionEntity.builder()
+                    .agreement(revised)
+                    .versionNumber(number)
+                    .uploadedAt(LocalDateTime.now())
+                    .uploadedBy(creator)
+                    .build());
+        }
+        for (UserEntity author : List.of(creator, reviewer)) {
+            entityManager.persist(AgreementCommentEntity.builder()
+                    .agreement(revised)
+                    .commentedBy(author)
+                    .commentText("Comment by " + author.getFullName())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        empty = agreement("Empty " + run, LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(creator, null, List.of()));
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void summariesMatchTheFullResponse() {
+        List<AgreementSummaryResponse> mine = agreementService.getMyAgreements();
+
+        // Newest first, and the agreement with no versions or comments is still there
+        assertThat(mine).extracting(AgreementSummaryResponse::getId).containsExactly(empty.getId(), revised.getId());
+        for (AgreementSummaryResponse summary : mine) {
+            entityManager.clear();
+            assertMatches(summary, agreementService.getAgreementById(summary.getId()));
+        }
+    }
+
+    @Test
+    void latestVersionAndCommentCountAreCounted() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(reviewer, null, List.of()));
+
+        AgreementSummaryResponse summary = agreementService.getAgreementsForReview().stream()
+                .filter(s -> s.getId().equals(revised.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(summary.getCurrentVersionNumber()).isEqualTo(3);
+        assertThat(summary.getCommentCount()).isEqualTo(2);
+        assertThat(summary.getReviewerName()).isEqualTo(reviewer.getFullName());
+    }
+
+    @Test
+    void agreementWithoutVersionsHasNoCurrentVersion() {
+        AgreementSummaryResponse summary = agreementService.getAllAgreements().stream()
+                .filter(s -> s.getId().equals(empty.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(summary.getCurrentVersionNumber()).isNull();
+        assertThat(summary.getCommentCount()).isZero();
+        assertThat(summary.getReviewerName()).isNull();
+        assertThat(summary.getApproverName()).isNull();
+    }
+
+    private static void assertMatches(AgreementSummaryResponse summary, AgreementResponse full) {
+        assertThat(summary.getTitle()).isEqualTo(full.getTitle());
+        assertThat(summary.getType()).isEqualTo(full.getType());
+        assertThat(summary.getParties()).isEqualTo(full.getParties());
+        assertThat(summary.getValue()).isEqualByComparingTo(full.getValue());
+        assertThat(summary.getStartDate()).isEqualTo(full.getStartDate());
+        assertThat(summary.getEndDate()).isEqualTo(full.getEndDate());
+        assertThat(summary.getStatus()).isEqualTo(full.getStatus());
+        assertThat(summary.getCreatedByName()).isEqualTo(full.getCreatedByName());
+        assertThat(summary.getCreatedAt()).isEqualTo(full.getCreatedAt());
+        assertThat(summary.getUpdatedAt()).isEqualTo(full.getUpdatedAt());
+        assertThat(summary.getReviewerName()).isEqualTo(full.getReviewerName());
+        assertThat(summary.getApproverName()).isEqualTo(full.getApproverName());
+        assertThat(summary.getIsDigitallySigned()).isEqualTo(full.getIsDigitallySigned());
+        assertThat(summary.getCurrentVersionNumber()).isEqualTo(full.getVersions().stream()
+                .map(AgreementVersionResponse::getVersionNumber)
+                .max(Integer::compare)
+                .orElse(null));
+        assertThat(summary.getCommentCount()).isEqualTo(full.getComments().size());
+    }
+
+    private AgreementEntity agreement(String title, LocalDateTime createdAt) {
+        AgreementEntity agreement = AgreementEntity.builder()
+                .title(title)
+                .type(AgreementType.VENDOR)
+                .parties("Acme Ltd and Globex")
+                .value(new BigDecimal("1250.50"))
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusYears(1))
+                .createdBy(creator)
+                .createdAt(createdAt)
+                .build();
+        entityManager.persist(agreement);
+        return agreement;
+    }
+
+    private RoleEntity role(Role name) {
+        List<RoleEntity> existing = entityManager
+                .createQuery("SELECT r FROM RoleEntity r WHERE r.roleName = :name", RoleEntity.class)
+                .setParameter("name", name)
+                .getResultList();
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        RoleEntity role = RoleEntity.builder().roleName(name).legalDepartmentMember(true).build();
+        entityManager.persist(role);
+        return role;
+    }
+
+    private UserEntity user(String name, RoleEntity role) {
+        UserEntity user = UserEntity.builder()
+                .fullName(name)
+                .email(name + "@example.com")
+                .password("x")
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
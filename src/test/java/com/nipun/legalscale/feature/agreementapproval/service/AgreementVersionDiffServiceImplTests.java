@@ -0,0 +1,135 @@
+package com.nipun.legalscale.feature.agreementapproval.service;
+
+import com.nipun.legalscale.core.document.RenditionStatus;
+import com.nipun.legalscale.core.document.entity.Document;
+import com.nipun.legalscale.core.document.entity.DocumentRendition;
+import com.nipun.legalscale.core.document.repository.DocumentRenditionRepository;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementVersionDiffResponse;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementVersionDiffEntity;
+import com.nipun.legalscale.feature.agreementapproval.entity.AgreementVersionEntity;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementVersionDiffRepository;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Line-based diffs between the extracted texts of two agreement versions,
+ * with the repositories mocked out.
+ */
+class AgreementVersionDiffServiceImplTests {
+
+    private static final long AGREEMENT_ID = 7L;
+
+    private AgreementVersionRepository versionRepository;
+    private AgreementVersionDiffRepository diffRepository;
+    private DocumentRenditionRepository renditionRepository;
+    private AgreementVersionDiffServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        AgreementRepository agreementRepository = mock(AgreementRepository.class);
+        versionRepository = mock(AgreementVersionRepository.class);
+        diffRepository = mock(AgreementVersionDiffRepository.class);
+        renditionRepository = mock(DocumentRenditionRepository.class);
+        when(agreementRepository.existsById(AGREEMENT_ID)).thenReturn(true);
+        when(diffRepository.findByFromVersionIdAndToVersionId(anyLong(), anyLong())).thenReturn(Optional.empty());
+        when(diffRepository.save(any())).thenAnswer(call -> call.getArgument(0));
+        service = new AgreementVersionDiffServiceImpl(agreementRepository, versionRepository, diffRepository,
+                renditionRepository, 20);
+    }
+
+    @Test
+    void countsChangedLinesAndRendersAUnifiedDiff() {
+        version(1, "Parties: A and B\nTerm: 12 months\nFee: 100\nGoverning law: X", false);
+        version(2, "Parties: A and B\nTerm: 24 months\nFee: 100\nGoverning law: X\nNotice: 30 days", false);
+
+        AgreementVersionDiffResponse diff = service.getDiff(AGREEMENT_ID, 1, 2);
+
+        assertThat(diff.getLinesAdded()).isEqualTo(2);
+        assertThat(diff.getLinesRemoved()).isEqualTo(1);
+        assertThat(diff.isTruncated()).isFalse();
+        assertThat(diff.getUnifiedDiff())
+                .startsWith("--- v1\n+++ v2\n")
+                .contains("-Term: 12 months", "+Term: 24 months", "+Notice: 30 days", " Fee: 100");
+    }
+
+    @Test
+    void identicalTextsGiveAnEmptyDiff() {
+        version(1, "Same text\r\nline two", false);
+        version(2, "Same text\nline two", false);
+
+        AgreementVersionDiffResponse diff = service.getDiff(AGREEMENT_ID, 1, 2);
+
+        assertThat(diff.getLinesAdded()).isZero();
+        assertThat(diff.getLinesRemoved()).isZero();
+        assertThat(diff.getUnifiedDiff()).isEmpty();
+    }
+
+    @Test
+    void diffAgainstEmptyTextAddsEveryLine() {
+        version(1, "", false);
+        version(2, "one\ntwo\nthree", true);
+
+        AgreementVersionDiffResponse diff = service.getDiff(AGREEMENT_ID, 1, 2);
+
+        assertThat(diff.getLinesAdded()).isEqualTo(3);
+        assertThat(diff.getLinesRemoved()).isZero();
+        assertThat(diff.isTruncated()).isTrue();
+    }
+
+    @Test
+    void storedDiffIsReusedWithoutRecomputing() {
+        AgreementVersionEntity from = version(1, "a", false);
+        AgreementVersionEntity to = version(2, "b", false);
+        when(diffRepository.findByFromVersionIdAndToVersionId(from.getId(), to.getId()))
+                .thenReturn(Optional.of(AgreementVersionDiffEntity.builder()
+                        .fromVersion(from).toVersion(to).unifiedDiff("stored").linesAdded(1).linesRemoved(1)
+                        .build()));
+
+        assertThat(service.getDiff(AGREEMENT_ID, 1, 2).getUnifiedDiff()).isEqualTo("stored");
+        verify(diffRepository, never()).save(any());
+    }
+
+    @Test
+    void versionWithoutTextCannotBeDiffed() {
+        version(1, "a", false);
+        version(2, null, false);
+
+        assertThatThrownBy(() -> service.getDiff(AGREEMENT_ID, 1, 2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void sameVersionTwiceIsRejected() {
+        assertThatThrownBy(() -> service.getDiff(AGREEMENT_ID, 2, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AgreementVersionEntity version(int number, String text, boolean truncated) {
+        long documentId = 100L + number;
+        AgreementVersionEntity version = AgreementVersionEntity.builder()
+                .id(10L + number)
+                .versionNumber(number)
+                .document(Document.builder().id(documentId).build())
+                .build();
+        when(versionRepository.findByAgreementIdAndVersionNumber(AGREEMENT_ID, number))
+                .thenReturn(Optional.of(version));
+        when(renditionRepository.findById(documentId)).thenReturn(Optional.of(DocumentRendition.builder()
+                .documentId(documentId)
+                .status(RenditionStatus.READY)
+                .extractedText(text)
+                .textTruncated(truncated)
+                .build()));
+        return version;
+    }
+}
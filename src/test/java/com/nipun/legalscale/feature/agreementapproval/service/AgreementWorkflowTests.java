@@ -0,0 +1,279 @@
+package com.nipun.legalscale.feature.agreementapproval.service;
+
+import com.nipun.legalscale.core.document.storage.DocumentStorage;
+import com.nipun.legalscale.core.exception.GlobalExceptionHandler;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementStatusEventResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.AgreementVersionResponse;
+import com.nipun.legalscale.feature.agreementapproval.dto.CreateAgreementRequest;
+import com.nipun.legalscale.feature.agreementapproval.dto.ReviewAgreementRequest;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementStatus;
+import com.nipun.legalscale.feature.agreementapproval.enums.AgreementType;
+import com.nipun.legalscale.feature.agreementapproval.repository.AgreementRepository;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import com.nipun.legalscale.feature.user.repository.RoleRepository;
+import com.nipun.legalscale.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Status history, revision numbering and the @Version check of the agreement
+ * workflow, run against real commits and the local storage backend so that
+ * conflicts and rollbacks can be checked for content left in storage.
+ */
+@SpringBootTest(properties = {
+        "app.document.storage=local",
+        "app.document.rendition.enabled=false"
+})
+class AgreementWorkflowTests {
+
+    private static final int CONCURRENT_REVISIONS = 4;
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void storageRoot(DynamicPropertyRegistry registry) {
+        registry.add("app.document.upload-dir", () -> uploadDir.toString());
+    }
+
+    @Autowired
+    private AgreementService agreementService;
+
+    @Autowired
+    private AgreementRepository agreementRepository;
+
+    @Autowired
+    private DocumentStorage storage;
+
+    @Autowired
+    private GlobalExceptionHandler exceptionHandler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private UserEntity creator;
+
+    private UserEntity reviewer;
+
+    @BeforeEach
+    void signIn() {
+        creator = user(Role.LEGAL_SUPERVISOR);
+        reviewer = user(Role.LEGAL_OFFICER);
+        signIn(creator);
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void creationAndEachTransitionRecordOneEvent() {
+        Long id = agreementService.createAgreement(request(), null).getId();
+        agreementService.requestReview(id, review(AgreementStatus.REVIEW_REQUESTED));
+        signIn(reviewer);
+        agreementService.reviewAgreement(id, review(AgreementStatus.PENDING_APPROVAL));
+        agreementService.approveOrReject(id, review(AgreementStatus.APPROVED));
+        // Already approved, so this is not a transition
+        agreementService.reviewAgreement(id, review(AgreementStatus.APPROVED));
+        agreementService.executeAgreement(id);
+
+        assertThat(agreementService.getStatusHistory(id))
+                .extracting(AgreementStatusEventResponse::getFromStatus, AgreementStatusEventResponse::getToStatus,
+                        AgreementStatusEventResponse::getActorId)
+                .containsExactly(
+                        tuple(null, AgreementStatus.DRAFT, creator.getId()),
+                        tuple(AgreementStatus.DRAFT, AgreementStatus.REVIEW_REQUESTED, creator.getId()),
+                        tuple(AgreementStatus.REVIEW_REQUESTED, AgreementStatus.PENDING_APPROVAL, reviewer.getId()),
+                        tuple(AgreementStatus.PENDING_APPROVAL, AgreementStatus.APPROVED, reviewer.getId()),
+                        tuple(AgreementStatus.APPROVED, AgreementStatus.EXECUTED, reviewer.getId()));
+    }
+
+    @Test
+    void revisionsAreNumberedInOrder() {
+        Long id = agreementService.createAgreement(request(), file()).getId();
+        agreementService.uploadRevision(id, "Second", file());
+        AgreementResponse third = agreementService.uploadRevision(id, "Third", file());
+
+        assertThat(third.getVersions()).extracting(AgreementVersionResponse::getVersionNumber)
+                .containsExactlyInAnyOrder(1, 2, 3);
+        // Only the first revision moved the draft back to review
+        assertThat(agreementService.getStatusHistory(id)).extracting(AgreementStatusEventResponse::getToStatus)
+                .containsExactly(AgreementStatus.DRAFT, AgreementStatus.REVIEW_REQUESTED);
+    }
+
+    @Test
+    void staleRevisionIsAConflictAndStoresNothing() throws IOException {
+        Long id = agreementService.createAgreement(request(), null).getId();
+        long objectsBefore = storedObjects();
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // This transaction now holds the agreement as it was before the review request below
+            agreementRepository.findById(id).orElseThrow();
+            requiresNew.executeWithoutResult(inner ->
+                    agreementService.requestReview(id, review(AgreementStatus.REVIEW_REQUESTED)));
+            agreementService.uploadRevision(id, "Stale", file());
+        }))
+                .isInstanceOfSatisfying(OptimisticLockingFailureException.class, e ->
+                        assertThat(exceptionHandler.handleOptimisticLock(e).getStatusCode())
+                                .isEqualTo(HttpStatus.CONFLICT));
+
+        assertThat(storedObjects()).isEqualTo(objectsBefore);
+        assertThat(agreementService.getAgreementById(id).getVersions()).isEmpty();
+        assertThat(agreementService.getStatusHistory(id)).hasSize(2);
+    }
+
+    @Test
+    void rolledBackRevisionGivesItsUploadBack() {
+        Long id = agreementService.createAgreement(request(), null).getId();
+
+        String objectKey = new TransactionTemplate(transactionManager).execute(status -> {
+            AgreementResponse revised = agreementService.uploadRevision(id, "Rolled back", file());
+            status.setRollbackOnly();
+            return revised.getVersions().get(0).getDocumentUrl();
+        });
+
+        assertThat(storage.head(objectKey)).isEmpty();
+        assertThat(jdbcTemplate.queryForList("SELECT ref_count FROM document_blobs WHERE object_key = ?",
+                Integer.class, objectKey)).isEmpty();
+        assertThat(agreementService.getAgreementById(id).getVersions()).isEmpty();
+    }
+
+    @Test
+    void concurrentRevisionsNeverShareANumber() throws Exception {
+        // H2 reports a blocked update as a lock error rather than a stale version
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        assumeTrue("PostgreSQL".equals(product), "row locking semantics need PostgreSQL");
+
+        Long id = agreementService.createAgreement(request(), null).getId();
+        long objectsBefore = storedObjects();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> revisions = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REVISIONS)) {
+            for (int i = 0; i < CONCURRENT_REVISIONS; i++) {
+                String notes = "Concurrent " + i;
+                revisions.add(executor.submit(() -> {
+                    signIn(creator);
+                    start.await();
+                    try {
+                        agreementService.uploadRevision(id, notes, file());
+                        return true;
+                    } catch (OptimisticLockingFailureException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        int accepted = 0;
+        for (Future<Boolean> revision : revisions) {
+            accepted += revision.get() ? 1 : 0;
+        }
+        assertThat(accepted).isPositive();
+        assertThat(agreementService.getAgreementById(id).getVersions())
+                .extracting(AgreementVersionResponse::getVersionNumber)
+                .doesNotHaveDuplicates()
+                .hasSize(accepted);
+        // Rejected revisions never reached storage
+        assertThat(storedObjects()).isEqualTo(objectsBefore + accepted);
+    }
+
+    private void signIn(UserEntity user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    /** Objects in the local backend, leaving out the download cache that shares its root */
+    private static long storedObjects() throws IOException {
+        Path cache = uploadDir.resolve("cache");
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            return files.filter(Files::isRegularFile).filter(path -> !path.startsWith(cache)).count();
+        }
+    }
+
+    private static CreateAgreementRequest request() {
+        CreateAgreementRequest request = new CreateAgreementRequest();
+        request.setTitle("Workflow " + UUID.randomUUID());
+        request.setType(AgreementType.VENDOR);
+        request.setParties("Acme Ltd and Globex");
+        request.setValue(new BigDecimal("1000"));
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusYears(1));
+        return request;
+    }
+
+    private static ReviewAgreementRequest review(AgreementStatus status) {
+        ReviewAgreementRequest review = new ReviewAgreementRequest();
+        review.setReviewStatus(status);
+        return review;
+    }
+
+    private static MockMultipartFile file() {
+        return new MockMultipartFile("file", "agreement.txt", "text/plain",
+                ("revision " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UserEntity user(Role roleName) {
+        RoleEntity role = roleRepository.findByRoleName(roleName)
+                .orElseGet(() -> roleRepository.save(RoleEntity.builder().roleName(roleName).build()));
+        String name = roleName.name().toLowerCase() + "-" + UUID.randomUUID();
+        return userRepository.save(UserEntity.builder()
+                .fullName(name)
+                .email(name + "@example.com")
+                .password("unused")
+                .role(role)
+                .build());
+    }
+}
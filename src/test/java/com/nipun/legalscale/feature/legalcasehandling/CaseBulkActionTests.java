@@ -0,0 +1,226 @@
+package com.nipun.legalscale.feature.legalcasehandling;
+
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.legalcasehandling.dto.BulkAssignCasesRequest;
+import com.nipun.legalscale.feature.legalcasehandling.dto.BulkCaseActionResponse;
+import com.nipun.legalscale.feature.legalcasehandling.dto.BulkCaseItemResult;
+import com.nipun.legalscale.feature.legalcasehandling.dto.BulkUpdateCaseStatusRequest;
+import com.nipun.legalscale.feature.legalcasehandling.dto.CaseAssignmentItem;
+import com.nipun.legalscale.feature.legalcasehandling.dto.CaseStatusChangeItem;
+import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Bulk assignment and status changes: items that fail validation are skipped
+ * and reported without touching their case, and the applied items reach the
+ * database as JDBC-batched UPDATEs, so the statement count does not grow with
+ * the number of cases.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class CaseBulkActionTests {
+
+    private static final int CASES = 120;
+
+    /** The cases with their participants, and the officers named in the request */
+    private static final long LOAD_STATEMENTS = 2;
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private Statistics statistics;
+
+    private UserEntity supervisor;
+
+    private UserEntity officer;
+
+    private List<Long> caseIds;
+
+    @BeforeEach
+    void seed() {
+        String run = UUID.randomUUID().toString();
+        supervisor = user("supervisor-" + run, role(Role.LEGAL_SUPERVISOR));
+        officer = user("officer-" + run, role(Role.LEGAL_OFFICER));
+
+        caseIds = new ArrayList<>(CASES);
+        for (int i = 0; i < CASES; i++) {
+            InitialCaseEntity c = InitialCaseEntity.builder()
+                    .caseTitle("Case " + i)
+                    .caseType(CaseType.OTHER)
+                    .referenceNumber(run + "-" + i)
+                    .partiesInvolved("A vs B")
+                    .natureOfCase("Civil")
+                    .dateOfOccurrenceOrFiling(LocalDate.now())
+                    .courtOrAuthority("District Court")
+                    .summaryOfFacts("Facts")
+                    .status(CaseStatus.NEW)
+                    .createdSupervisor(supervisor)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            entityManager.persist(c);
+            caseIds.add(c.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(supervisor, null, List.of()));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void bulkAssignSkipsInvalidItemsAndBatchesTheRest() {
+        List<CaseAssignmentItem> items = new ArrayList<>();
+        for (Long caseId : caseIds.subList(1, CASES)) {
+            items.add(assignment(caseId, officer.getId()));
+        }
+        Long notAnOfficer = caseIds.get(0);
+        items.add(assignment(notAnOfficer, supervisor.getId()));
+        items.add(assignment(caseIds.get(1), officer.getId()));
+        items.add(assignment(-1L, officer.getId()));
+
+        BulkAssignCasesRequest request = new BulkAssignCasesRequest();
+        request.setAssignments(items);
+        BulkCaseActionResponse response = caseService.bulkAssignCases(request);
+        entityManager.flush();
+
+        assertThat(response.getApplied()).isEqualTo(CASES - 1);
+        assertThat(response.getSkipped()).isEqualTo(3);
+        assertThat(response.getResults().subList(CASES - 1, CASES + 2))
+                .extracting(BulkCaseItemResult::getCaseId, BulkCaseItemResult::isApplied,
+                        BulkCaseItemResult::getError)
+                .containsExactly(
+                        tuple(notAnOfficer, false, "The selected user is not a Legal Officer"),
+                        tuple(caseIds.get(1), false, "Case appears more than once in this request"),
+                        tuple(-1L, false, "Case not found with id: -1"));
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(CASES - 1);
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo(LOAD_STATEMENTS + updateBatches(CASES - 1));
+
+        entityManager.clear();
+        assertThat(entityManager.find(InitialCaseEntity.class, notAnOfficer).getAssignedOfficer()).isNull();
+        assertThat(entityManager.find(InitialCaseEntity.class, caseIds.get(CASES - 1))
+                .getAssignedOfficer().getId()).isEqualTo(officer.getId());
+    }
+
+    @Test
+    void bulkStatusSkipsInvalidItemsAndBatchesTheRest() {
+        List<CaseStatusChangeItem> items = new ArrayList<>();
+        for (Long caseId : caseIds.subList(1, CASES)) {
+            items.add(statusChange(caseId, CaseStatus.CLOSED, "Settled"));
+        }
+        Long missingRemarks = caseIds.get(0);
+        items.add(statusChange(missingRemarks, CaseStatus.CLOSED, " "));
+        items.add(statusChange(caseIds.get(1), CaseStatus.ACTIVE, null));
+
+        BulkUpdateCaseStatusRequest request = new BulkUpdateCaseStatusRequest();
+        request.setChanges(items);
+        BulkCaseActionResponse response = caseService.bulkUpdateStatus(request);
+        entityManager.flush();
+
+        assertThat(response.getApplied()).isEqualTo(CASES - 1);
+        assertThat(response.getSkipped()).isEqualTo(2);
+        assertThat(response.getResults().subList(CASES - 1, CASES + 1))
+                .extracting(BulkCaseItemResult::getCaseId, BulkCaseItemResult::getError)
+                .containsExactly(
+                        tuple(missingRemarks, "Closing remarks are required when closing a case"),
+                        tuple(caseIds.get(1), "Case appears more than once in this request"));
+
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(CASES - 1);
+        // Only the cases are loaded; the supervisor is already the current user
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo(1 + updateBatches(CASES - 1));
+
+        entityManager.clear();
+        InitialCaseEntity skipped = entityManager.find(InitialCaseEntity.class, missingRemarks);
+        assertThat(skipped.getStatus()).isEqualTo(CaseStatus.NEW);
+        InitialCaseEntity closed = entityManager.find(InitialCaseEntity.class, caseIds.get(1));
+        assertThat(closed.getStatus()).isEqualTo(CaseStatus.CLOSED);
+        assertThat(closed.getClosingRemarks()).isEqualTo("Settled");
+    }
+
+    /** One prepared UPDATE per JDBC batch, never one per case */
+    private long updateBatches(int updates) {
+        return (updates + batchSize - 1) / batchSize;
+    }
+
+    private static CaseAssignmentItem assignment(Long caseId, Long officerId) {
+        CaseAssignmentItem item = new CaseAssignmentItem();
+        item.setCaseId(caseId);
+        item.setOfficerId(officerId);
+        return item;
+    }
+
+    private static CaseStatusChangeItem statusChange(Long caseId, CaseStatus status, String closingRemarks) {
+        CaseStatusChangeItem item = new CaseStatusChangeItem();
+        item.setCaseId(caseId);
+        item.setStatus(status);
+        item.setClosingRemarks(closingRemarks);
+        return item;
+    }
+
+    private RoleEntity role(Role name) {
+        List<RoleEntity> existing = entityManager
+                .createQuery("SELECT r FROM RoleEntity r WHERE r.roleName = :name", RoleEntity.class)
+                .setParameter("name", name)
+                .getResultList();
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        RoleEntity role = RoleEntity.builder().roleName(name).legalDepartmentMember(true).build();
+        entityManager.persist(role);
+        return role;
+    }
+
+    private UserEntity user(String name, RoleEntity role) {
+        UserEntity user = UserEntity.builder()
+                .fullName(name)
+                .email(name + "@example.com")
+                .password("x")
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
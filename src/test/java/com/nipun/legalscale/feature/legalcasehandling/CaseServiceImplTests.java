@@ -0,0 +1,54 @@
+package com.nipun.legalscale.feature.legalcasehandling;
+
+import com.nipun.legalscale.core.counter.DashboardCounters;
+import com.nipun.legalscale.core.document.DocumentService;
+import com.nipun.legalscale.core.document.repository.DocumentRepository;
+import com.nipun.legalscale.core.security.CurrentUserProvider;
+import com.nipun.legalscale.feature.legalcasehandling.dto.CreateCaseRequest;
+import com.nipun.legalscale.feature.legalcasehandling.repository.CaseCommentRepository;
+import com.nipun.legalscale.feature.legalcasehandling.repository.InitialCaseRepository;
+import com.nipun.legalscale.feature.legalcasehandling.search.CaseSearchIndex;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import com.nipun.legalscale.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Case creation checks that need no database, with collaborators mocked out.
+ */
+class CaseServiceImplTests {
+
+    @Test
+    void duplicateReferenceNumberIsRejectedBeforeAnyUpload() {
+        InitialCaseRepository caseRepository = mock(InitialCaseRepository.class);
+        DocumentService documentService = mock(DocumentService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        CurrentUserProvider currentUserProvider = mock(CurrentUserProvider.class);
+        when(currentUserProvider.getCurrentUser()).thenReturn(UserEntity.builder().id(1L).build());
+        when(caseRepository.existsByReferenceNumber("REF-1")).thenReturn(true);
+        CaseServiceImpl service = new CaseServiceImpl(caseRepository, mock(CaseCommentRepository.class),
+                mock(UserRepository.class), currentUserProvider, mock(DocumentRepository.class), documentService,
+                transactionTemplate, mock(CaseSearchIndex.class), mock(DashboardCounters.class));
+
+        CreateCaseRequest request = new CreateCaseRequest();
+        request.setReferenceNumber("REF-1");
+        MockMultipartFile file = new MockMultipartFile("file", "a.pdf", "application/pdf", new byte[] { 1 });
+
+        assertThatThrownBy(() -> service.createCase(request, List.of(file)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("REF-1");
+        verify(documentService, never()).storeAll(anyList(), any());
+        verify(transactionTemplate, never()).execute(any());
+    }
+}
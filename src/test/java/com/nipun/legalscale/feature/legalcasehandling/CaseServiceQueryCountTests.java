@@ -0,0 +1,206 @@
+package com.nipun.legalscale.feature.legalcasehandling;
+
+import com.nipun.legalscale.core.document.entity.Document;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.legalcasehandling.dto.CaseListFilter;
+import com.nipun.legalscale.feature.legalcasehandling.dto.CasePageResponse;
+import com.nipun.legalscale.feature.legalcasehandling.dto.CaseResponse;
+import com.nipun.legalscale.feature.legalcasehandling.dto.CaseSummaryResponse;
+import com.nipun.legalscale.feature.legalcasehandling.entity.CaseCommentEntity;
+import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import com.nipun.legalscale.feature.supervisor.dto.CaseActivityPageResponse;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 regressions when assembling CaseResponse lists: the
+ * number of JDBC statements must not grow with the number of cases.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class CaseServiceQueryCountTests {
+
+    private static final int CASES = 30;
+
+    /** Case rows + role batch + comment batch + attachment batch, with headroom */
+    private static final long MAX_STATEMENTS = 6;
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long sampleCaseId;
+
+    private Long supervisorId;
+
+    @BeforeEach
+    void seed() {
+        String run = UUID.randomUUID().toString();
+
+        RoleEntity supervisorRole = role(Role.LEGAL_SUPERVISOR);
+        RoleEntity officerRole = role(Role.LEGAL_OFFICER);
+
+        UserEntity supervisor = user("supervisor-" + run, supervisorRole);
+        UserEntity officer = user("officer-" + run, officerRole);
+        supervisorId = supervisor.getId();
+
+        for (int i = 0; i < CASES; i++) {
+            InitialCaseEntity c = InitialCaseEntity.builder()
+                    .caseTitle("Case " + i)
+                    .caseType(CaseType.OTHER)
+                    .referenceNumber(run + "-" + i)
+                    .partiesInvolved("A vs B")
+                    .natureOfCase("Civil")
+                    .dateOfOccurrenceOrFiling(LocalDate.now())
+                    .courtOrAuthority("District Court")
+                    .summaryOfFacts("Facts")
+                    .status(CaseStatus.NEW)
+                    .createdSupervisor(supervisor)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            for (UserEntity author : List.of(supervisor, officer)) {
+                c.getComments().add(CaseCommentEntity.builder()
+                        .initialCase(c)
+                        .commentedBy(author)
+                        .comment("Comment by " + author.getFullName())
+                        .commentedAt(LocalDateTime.now())
+                        .build());
+            }
+
+            Document attachment = Document.builder()
+                    .fileName("evidence-" + i + ".pdf")
+                    .fileType("application/pdf")
+                    .fileUrl(run + "_evidence-" + i + ".pdf")
+                    .uploadedByUserId(supervisor.getId())
+                    .build();
+            entityManager.persist(attachment);
+            c.getSupportingAttachments().add(attachment);
+
+            entityManager.persist(c);
+            sampleCaseId = c.getId();
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void caseListUsesConstantNumberOfStatements() {
+        List<CaseResponse> cases = caseService.getAllNewCases();
+
+        assertThat(cases).hasSizeGreaterThanOrEqualTo(CASES);
+        assertThat(cases).allSatisfy(c -> {
+            assertThat(c.getComments()).isNotNull();
+            assertThat(c.getSupportingAttachments()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void caseDetailUsesConstantNumberOfStatements() {
+        CaseResponse detail = caseService.getCaseById(sampleCaseId);
+
+        assertThat(detail.getComments()).hasSize(2);
+        assertThat(detail.getSupportingAttachments()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void keysetPagesWalkEveryCaseOnceWithOneStatementPerPage() {
+        CaseListFilter filter = new CaseListFilter();
+        filter.setCreatedSupervisorId(supervisorId);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CasePageResponse page = caseService.getCasesPage(filter, cursor, 7);
+            page.getItems().stream().map(CaseSummaryResponse::getId).forEach(seen::add);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(CASES).doesNotHaveDuplicates();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(pages * 2L);
+    }
+
+    @Test
+    void activityFeedPagesThroughEntriesSharingATimestamp() {
+        entityManager.createQuery("UPDATE CaseCommentEntity c SET c.commentedAt = :at")
+                .setParameter("at", LocalDateTime.now().withNano(0))
+                .executeUpdate();
+        entityManager.clear();
+        UserEntity supervisor = entityManager.find(UserEntity.class, supervisorId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(supervisor, null, List.of()));
+        try {
+            List<String> seen = new ArrayList<>();
+            String cursor = null;
+            do {
+                CaseActivityPageResponse page = caseService.getActivityFeedForCurrentSupervisor(cursor, null, 7);
+                page.getItems().forEach(item -> seen.add(item.getCaseId() + ":" + item.getAuthorName()));
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            assertThat(seen).hasSize(CASES * 2).doesNotHaveDuplicates();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private RoleEntity role(Role name) {
+        List<RoleEntity> existing = entityManager
+                .createQuery("SELECT r FROM RoleEntity r WHERE r.roleName = :name", RoleEntity.class)
+                .setParameter("name", name)
+                .getResultList();
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        RoleEntity role = RoleEntity.builder().roleName(name).legalDepartmentMember(true).build();
+        entityManager.persist(role);
+        return role;
+    }
+
+    private UserEntity user(String name, RoleEntity role) {
+        UserEntity user = UserEntity.builder()
+                .fullName(name)
+                .email(name + "@example.com")
+                .password("x")
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,195 @@
+package com.nipun.legalscale.feature.legalcasehandling.search;
+
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.CriminalCaseService;
+import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.dto.CriminalChargeRequest;
+import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.entity.CriminalCaseDetail;
+import com.nipun.legalscale.feature.legalcasehandling.casedetail.criminal.entity.CriminalCharge;
+import com.nipun.legalscale.feature.legalcasehandling.entity.InitialCaseEntity;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseStatus;
+import com.nipun.legalscale.feature.legalcasehandling.enums.CaseType;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The index must follow committed edits, including update-only transactions
+ * where the entity listener first fires in the flush inside commit. Runs
+ * against real commits, so it is skipped on databases without the index.
+ */
+@SpringBootTest
+class CaseSearchIndexTests {
+
+    @Autowired
+    private CaseSearchIndex caseSearchIndex;
+
+    @Autowired
+    private CriminalCaseService criminalCaseService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    private Long userId;
+
+    private Long caseId;
+
+    private Long chargeId;
+
+    @BeforeEach
+    void seed() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        assumeTrue("PostgreSQL".equals(product), "case search index needs PostgreSQL");
+
+        tx = new TransactionTemplate(transactionManager);
+        String run = word();
+        UserEntity officer = tx.execute(status -> {
+            UserEntity user = UserEntity.builder()
+                    .fullName("officer-" + run)
+                    .email("officer-" + run + "@example.com")
+                    .password("x")
+                    .role(role(Role.LEGAL_OFFICER))
+                    .build();
+            entityManager.persist(user);
+
+            InitialCaseEntity c = InitialCaseEntity.builder()
+                    .caseTitle("Search case " + run)
+                    .caseType(CaseType.CRIMINAL)
+                    .referenceNumber("search-" + run)
+                    .partiesInvolved("State vs Accused")
+                    .natureOfCase("Criminal")
+                    .dateOfOccurrenceOrFiling(LocalDate.now())
+                    .courtOrAuthority("High Court")
+                    .summaryOfFacts("Facts")
+                    .status(CaseStatus.ACTIVE)
+                    .createdSupervisor(user)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            entityManager.persist(c);
+
+            CriminalCaseDetail detail = CriminalCaseDetail.builder()
+                    .initialCase(c)
+                    .accusedName("Accused")
+                    .court("High Court")
+                    .createdBy(user)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            entityManager.persist(detail);
+
+            CriminalCharge charge = CriminalCharge.builder()
+                    .criminalCaseDetail(detail)
+                    .statute("Penal Code")
+                    .section("1")
+                    .offenceName("Theft")
+                    .offenceDescription("Original description")
+                    .recordedBy(user)
+                    .recordedAt(LocalDateTime.now())
+                    .build();
+            entityManager.persist(charge);
+
+            caseId = c.getId();
+            chargeId = charge.getId();
+            return user;
+        });
+        userId = officer.getId();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(officer, null, List.of()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        if (caseId == null) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM criminal_charges WHERE criminal_case_detail_id IN "
+                + "(SELECT id FROM criminal_case_details WHERE case_id = ?)", caseId);
+        jdbcTemplate.update("DELETE FROM criminal_case_details WHERE case_id = ?", caseId);
+        jdbcTemplate.update("DELETE FROM initial_cases WHERE id = ?", caseId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void editedChargeIsSearchableAfterCommit() {
+        String term = word();
+
+        criminalCaseService.updateCharge(caseId, chargeId, chargeRequest("Offence involving " + term));
+
+        assertThat(matches(term)).contains(caseId);
+        assertThat(matches("Original description")).doesNotContain(caseId);
+    }
+
+    @Test
+    void deletedChargeLeavesTheIndex() {
+        String term = word();
+        criminalCaseService.updateCharge(caseId, chargeId, chargeRequest("Offence involving " + term));
+        assertThat(matches(term)).contains(caseId);
+
+        criminalCaseService.deleteCharge(caseId, chargeId);
+
+        assertThat(matches(term)).doesNotContain(caseId);
+    }
+
+    private List<Long> matches(String query) {
+        return caseSearchIndex.search(query, 100, 0).stream().map(CaseSearchHit::caseId).toList();
+    }
+
+    private CriminalChargeRequest chargeRequest(String description) {
+        CriminalChargeRequest request = new CriminalChargeRequest();
+        request.setStatute("Penal Code");
+        request.setSection("1");
+        request.setOffenceName("Theft");
+        request.setOffenceDescription(description);
+        return request;
+    }
+
+    private RoleEntity role(Role name) {
+        List<RoleEntity> existing = entityManager
+                .createQuery("SELECT r FROM RoleEntity r WHERE r.roleName = :name", RoleEntity.class)
+                .setParameter("name", name)
+                .getResultList();
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        RoleEntity role = RoleEntity.builder().roleName(name).legalDepartmentMember(true).build();
+        entityManager.persist(role);
+        return role;
+    }
+
+    /** A letters-only token no other case will contain */
+    private static String word() {
+        StringBuilder word = new StringBuilder("zq");
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,229 @@
+package com.nipun.legalscale.feature.user;
+
+import com.jayway.jsonpath.JsonPath;
+import com.nipun.legalscale.core.security.JwtService;
+import com.nipun.legalscale.feature.admin.dto.UserDetailsResponse;
+import com.nipun.legalscale.feature.admin.dto.UserPageResponse;
+import com.nipun.legalscale.feature.auth.enums.Role;
+import com.nipun.legalscale.feature.user.entity.RoleEntity;
+import com.nipun.legalscale.feature.user.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Keyset paging, role filtering and prefix search of the user directory.
+ * Every user seeded here has a name starting with a per-run token, so
+ * searching for that token hides whatever else is in the database.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class UserDirectoryTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String token;
+
+    private int userCount;
+
+    private UserEntity alpha;
+
+    private List<UserEntity> same;
+
+    private UserEntity zulu;
+
+    private UserEntity supervisor;
+
+    private UserEntity admin;
+
+    @BeforeEach
+    void seed() {
+        token = "dir" + UUID.randomUUID().toString().replace("-", "");
+        alpha = user(token + " Alpha", Role.LEGAL_OFFICER);
+        // Three users with one name, so a page boundary falls between them
+        same = List.of(
+                user(token + " Same", Role.LEGAL_OFFICER),
+                user(token + " Same", Role.LEGAL_OFFICER),
+                user(token + " Same", Role.LEGAL_SUPERVISOR));
+        zulu = user(token + " Zulu", Role.LEGAL_OFFICER);
+        supervisor = user(token + " Yankee", Role.LEGAL_SUPERVISOR);
+        admin = user(token + " Admin", Role.SYSTEM_ADMIN);
+        entityManager.flush();
+    }
+
+    @Test
+    void pagesSplitUsersSharingANameWithoutSkippingOrRepeating() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            UserPageResponse page = userService.getUserDirectory(null, token, cursor, 2);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(2);
+            page.getItems().forEach(item -> seen.add(item.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Name first, then id for equal names; the admin is never listed
+        assertThat(seen).containsExactly(alpha.getId(), same.get(0).getId(), same.get(1).getId(),
+                same.get(2).getId(), supervisor.getId(), zulu.getId());
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void browsingWithoutAQueryVisitsEveryUserOnce() {
+        Set<Long> seen = new HashSet<>();
+        List<Long> mine = new ArrayList<>();
+        Set<Long> seeded = Set.of(alpha.getId(), same.get(0).getId(), same.get(1).getId(), zulu.getId());
+        String cursor = null;
+        do {
+            UserPageResponse page = userService.getUserDirectory(Role.LEGAL_OFFICER, null, cursor, 3);
+            for (UserDetailsResponse item : page.getItems()) {
+                assertThat(seen.add(item.getId())).as("user %d listed twice", item.getId()).isTrue();
+                assertThat(item.getRoleName()).isEqualTo(Role.LEGAL_OFFICER);
+                if (seeded.contains(item.getId())) {
+                    mine.add(item.getId());
+                }
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(mine).containsExactly(alpha.getId(), same.get(0).getId(), same.get(1).getId(), zulu.getId());
+    }
+
+    @Test
+    void roleFilterNarrowsTheListing() {
+        assertThat(ids(userService.getUserDirectory(Role.LEGAL_SUPERVISOR, token, null, 100)))
+                .containsExactly(same.get(2).getId(), supervisor.getId());
+        assertThat(ids(userService.getUserDirectory(Role.LEGAL_OFFICER, token, null, 100)))
+                .containsExactly(alpha.getId(), same.get(0).getId(), same.get(1).getId(), zulu.getId());
+        // System admins stay hidden even when asked for by role
+        assertThat(userService.getUserDirectory(Role.SYSTEM_ADMIN, token, null, 100).getItems()).isEmpty();
+    }
+
+    @Test
+    void queryMatchesANameOrEmailPrefixIgnoringCase() {
+        assertThat(ids(userService.getUserDirectory(null, token.toUpperCase() + " Z", null, 100)))
+                .containsExactly(zulu.getId());
+        // Emails are "<name with dots>-<n>@example.com", so this only matches by email
+        assertThat(ids(userService.getUserDirectory(null, token + ".yankee-", null, 100)))
+                .containsExactly(supervisor.getId());
+        // Not a prefix of anything
+        assertThat(userService.getUserDirectory(null, "Zulu", null, 100).getItems())
+                .extracting(UserDetailsResponse::getId)
+                .doesNotContain(zulu.getId());
+        // Wildcards in the query are taken literally
+        assertThat(userService.getUserDirectory(null, token + "%", null, 100).getItems()).isEmpty();
+        assertThat(userService.getUserDirectory(null, token + "_Same", null, 100).getItems()).isEmpty();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        List<String> cursors = List.of(
+                "not base64!",
+                encode("no separator"),
+                encode(token + " Same|not-a-number"));
+        for (String cursor : cursors) {
+            assertThatThrownBy(() -> userService.getUserDirectory(null, token, cursor, 2))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void adminEndpointReturnsAPageObject() throws Exception {
+        String firstPage = mvc.perform(get("/api/admin")
+                        .param("q", token)
+                        .param("size", "4")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(4)))
+                .andExpect(jsonPath("$.items[0].id").value(alpha.getId()))
+                .andExpect(jsonPath("$.items[0].fullName").value(alpha.getFullName()))
+                .andExpect(jsonPath("$.items[0].email").value(alpha.getEmail()))
+                .andExpect(jsonPath("$.items[0].roleName").value(Role.LEGAL_OFFICER.name()))
+                .andExpect(jsonPath("$.items[0].password").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString();
+
+        mvc.perform(get("/api/admin")
+                        .param("q", token)
+                        .param("size", "4")
+                        .param("cursor", JsonPath.<String>read(firstPage, "$.nextCursor"))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[1].id").value(zulu.getId()))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+
+        mvc.perform(get("/api/admin")
+                        .param("cursor", "not base64!")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(admin)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static List<Long> ids(UserPageResponse page) {
+        return page.getItems().stream().map(UserDetailsResponse::getId).toList();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UserEntity user(String name, Role roleName) {
+        UserEntity user = UserEntity.builder()
+                .fullName(name)
+                .email(name.replace(' ', '.').toLowerCase() + "-" + userCount++ + "@example.com")
+                .password("x")
+                .role(role(roleName))
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private RoleEntity role(Role name) {
+        List<RoleEntity> existing = entityManager
+                .createQuery("SELECT r FROM RoleEntity r WHERE r.roleName = :name", RoleEntity.class)
+                .setParameter("name", name)
+                .getResultList();
+        if (!existing.isEmpty()) {
+            return existing.get(0);
+        }
+        RoleEntity role = RoleEntity.builder().roleName(name).legalDepartmentMember(true).build();
+        entityManager.persist(role);
+        return role;
+    }
+}